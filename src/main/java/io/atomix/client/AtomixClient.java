@@ -0,0 +1,277 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.client.channel.ChannelProvider;
+import io.atomix.client.management.broker.BrokerClient;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.counter.AtomicCounterBuilder;
+import io.atomix.client.primitive.election.LeaderElectionBuilder;
+import io.atomix.client.primitive.indexedmap.AtomicIndexedMapBuilder;
+import io.atomix.client.primitive.leader.LeaderLatchBuilder;
+import io.atomix.client.primitive.list.DistributedListBuilder;
+import io.atomix.client.primitive.lock.AtomicLockBuilder;
+import io.atomix.client.primitive.log.DistributedLogBuilder;
+import io.atomix.client.primitive.map.AtomicMapBuilder;
+import io.atomix.client.primitive.map.LongAtomicMapBuilder;
+import io.atomix.client.primitive.set.DistributedSetBuilder;
+import io.atomix.client.primitive.value.AtomicValueBuilder;
+import io.atomix.client.protocol.PartitionService;
+import io.atomix.client.utils.concurrent.HashedWheelTimer;
+import io.atomix.client.utils.concurrent.Timer;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Atomix client.
+ */
+public class AtomixClient implements AutoCloseable {
+
+    /**
+     * Returns a new client builder.
+     *
+     * @return a new client builder
+     */
+    public static AtomixClientBuilder builder() {
+        return new AtomixClientBuilder();
+    }
+
+    private final String namespace;
+    private final ChannelProvider channelProvider;
+    private final BrokerClient brokerClient;
+    private final PartitionService partitionService;
+    private final HashedWheelTimer timer;
+    private final Executor executor;
+    private final Executor listenerExecutor;
+    private final List<ExecutorService> ownedExecutors;
+
+    AtomixClient(
+            String namespace,
+            ChannelProvider channelProvider,
+            BrokerClient brokerClient,
+            PartitionService partitionService,
+            HashedWheelTimer timer,
+            Executor executor,
+            Executor listenerExecutor,
+            List<ExecutorService> ownedExecutors) {
+        this.namespace = namespace;
+        this.channelProvider = channelProvider;
+        this.brokerClient = brokerClient;
+        this.partitionService = partitionService;
+        this.timer = timer;
+        this.executor = executor;
+        this.listenerExecutor = listenerExecutor;
+        this.ownedExecutors = ownedExecutors;
+    }
+
+    /**
+     * Returns the namespace in which primitives are created.
+     *
+     * @return the client namespace
+     */
+    public String getNamespace() {
+        return namespace;
+    }
+
+    /**
+     * Returns the channel provider.
+     *
+     * @return the channel provider
+     */
+    public ChannelProvider getChannelProvider() {
+        return channelProvider;
+    }
+
+    /**
+     * Returns the broker client.
+     *
+     * @return the broker client
+     */
+    public BrokerClient getBrokerClient() {
+        return brokerClient;
+    }
+
+    /**
+     * Returns the partition service.
+     *
+     * @return the partition service
+     */
+    public PartitionService getPartitionService() {
+        return partitionService;
+    }
+
+    /**
+     * Returns the timer on which the client schedules deadlines and other timed work.
+     *
+     * @return the client timer
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Returns the default executor on which primitive futures are completed.
+     *
+     * @return the client executor
+     */
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Returns the executor on which primitive listeners are called.
+     *
+     * @return the listener executor
+     */
+    public Executor getListenerExecutor() {
+        return listenerExecutor;
+    }
+
+    /**
+     * Prepares the client to serve the given primitives without a cold start.
+     * <p>
+     * The primitives are resolved through the broker and the connections to all their partitions are
+     * established concurrently, so the first operations on them don't pay for lookups and connection
+     * setup. Handles built afterwards reuse the cached lookups and the open connections. Services should
+     * complete this before reporting ready, bounding the wait with e.g. {@link CompletableFuture#orTimeout}.
+     *
+     * @param type  the primitive type
+     * @param names the names of the primitives to prepare
+     * @return a future to be completed once all the primitives are resolved and connected
+     */
+    public CompletableFuture<Void> warmUp(PrimitiveType type, Collection<String> names) {
+        return CompletableFuture.allOf(names.stream()
+                .map(name -> partitionService.getPartitions(PrimitiveId.newBuilder()
+                                .setType(type.id())
+                                .setNamespace(namespace)
+                                .setName(name)
+                                .build())
+                        .thenCompose(partitions -> partitions.connect()
+                                .whenComplete((result, error) -> partitions.release())))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Returns a new atomic counter builder.
+     *
+     * @param name the counter name
+     * @return the counter builder
+     */
+    public AtomicCounterBuilder atomicCounterBuilder(String name) {
+        return new AtomicCounterBuilder(this, name);
+    }
+
+    /**
+     * Returns a new leader election builder.
+     *
+     * @param name the election name
+     * @return the election builder
+     */
+    public LeaderElectionBuilder leaderElectionBuilder(String name) {
+        return new LeaderElectionBuilder(this, name);
+    }
+
+    /**
+     * Returns a new atomic indexed map builder.
+     *
+     * @param name the map name
+     * @return the indexed map builder
+     */
+    public AtomicIndexedMapBuilder atomicIndexedMapBuilder(String name) {
+        return new AtomicIndexedMapBuilder(this, name);
+    }
+
+    /**
+     * Returns a new leader latch builder.
+     *
+     * @param name the latch name
+     * @return the latch builder
+     */
+    public LeaderLatchBuilder leaderLatchBuilder(String name) {
+        return new LeaderLatchBuilder(this, name);
+    }
+
+    /**
+     * Returns a new distributed list builder.
+     *
+     * @param name the list name
+     * @return the list builder
+     */
+    public DistributedListBuilder distributedListBuilder(String name) {
+        return new DistributedListBuilder(this, name);
+    }
+
+    /**
+     * Returns a new atomic lock builder.
+     *
+     * @param name the lock name
+     * @return the lock builder
+     */
+    public AtomicLockBuilder atomicLockBuilder(String name) {
+        return new AtomicLockBuilder(this, name);
+    }
+
+    /**
+     * Returns a new distributed log builder.
+     *
+     * @param name the log name
+     * @return the log builder
+     */
+    public DistributedLogBuilder distributedLogBuilder(String name) {
+        return new DistributedLogBuilder(this, name);
+    }
+
+    /**
+     * Returns a new atomic map builder.
+     *
+     * @param name the map name
+     * @return the map builder
+     */
+    public AtomicMapBuilder atomicMapBuilder(String name) {
+        return new AtomicMapBuilder(this, name);
+    }
+
+    /**
+     * Returns a new long-keyed atomic map builder.
+     *
+     * @param name the map name
+     * @return the map builder
+     */
+    public LongAtomicMapBuilder longAtomicMapBuilder(String name) {
+        return new LongAtomicMapBuilder(this, name);
+    }
+
+    /**
+     * Returns a new distributed set builder.
+     *
+     * @param name the set name
+     * @return the set builder
+     */
+    public DistributedSetBuilder distributedSetBuilder(String name) {
+        return new DistributedSetBuilder(this, name);
+    }
+
+    /**
+     * Returns a new atomic value builder.
+     *
+     * @param name the value name
+     * @return the value builder
+     */
+    public AtomicValueBuilder atomicValueBuilder(String name) {
+        return new AtomicValueBuilder(this, name);
+    }
+
+    @Override
+    public void close() {
+        // The broker channels are pooled by the channel provider, so this closes them as well.
+        channelProvider.close();
+        timer.close();
+        ownedExecutors.forEach(ExecutorService::shutdown);
+    }
+}
@@ -0,0 +1,486 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client;
+
+import io.atomix.client.channel.ChannelFactory;
+import io.atomix.client.channel.ChannelPool;
+import io.atomix.client.channel.ChannelProvider;
+import io.atomix.client.channel.NettyChannelFactory;
+
+import io.atomix.client.management.broker.BrokerClient;
+import io.atomix.client.protocol.ConcurrencyLimit;
+import io.atomix.client.protocol.HedgingPolicy;
+import io.atomix.client.protocol.PartitionService;
+import io.atomix.client.utils.concurrent.HashedWheelTimer;
+import io.atomix.client.utils.concurrent.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link AtomixClient}.
+ */
+public class AtomixClientBuilder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AtomixClientBuilder.class);
+    private static final String DEFAULT_NAMESPACE = "default";
+    private static final String DEFAULT_BROKER_HOST = "localhost";
+    private static final int DEFAULT_BROKER_PORT = 5678;
+    private static final int DEFAULT_REQUEST_WINDOW = 128;
+    private static final int DEFAULT_MAX_QUEUED_REQUESTS = 1024;
+    private static final Duration DEFAULT_PARTITION_REFRESH_INTERVAL = Duration.ofSeconds(30);
+    private static final int DEFAULT_LOOKUP_CACHE_SIZE = 10_000;
+    private static final Duration DEFAULT_LOOKUP_CACHE_TTL = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_NEGATIVE_LOOKUP_CACHE_TTL = Duration.ofSeconds(1);
+
+    private String namespace = DEFAULT_NAMESPACE;
+    private String brokerHost = DEFAULT_BROKER_HOST;
+    private int brokerPort = DEFAULT_BROKER_PORT;
+    private List<String> brokerAddresses = List.of();
+    private int channelPoolSize = Runtime.getRuntime().availableProcessors();
+    private int eventLoopThreads = Runtime.getRuntime().availableProcessors();
+    private boolean nativeTransport = true;
+    private Duration keepAliveTime = Duration.ZERO;
+    private Duration keepAliveTimeout = Duration.ZERO;
+    private int requestWindow = DEFAULT_REQUEST_WINDOW;
+    private int maxQueuedRequests = DEFAULT_MAX_QUEUED_REQUESTS;
+    private Supplier<ConcurrencyLimit> requestLimit;
+    private HedgingPolicy hedgingPolicy = HedgingPolicy.disabled();
+    private Duration requestTimeout = Duration.ZERO;
+    private Duration partitionRefreshInterval = DEFAULT_PARTITION_REFRESH_INTERVAL;
+    private int lookupCacheSize = DEFAULT_LOOKUP_CACHE_SIZE;
+    private Duration lookupCacheTtl = DEFAULT_LOOKUP_CACHE_TTL;
+    private Duration negativeLookupCacheTtl = DEFAULT_NEGATIVE_LOOKUP_CACHE_TTL;
+    private ChannelFactory channelFactory;
+    private Executor executor;
+    private Executor listenerExecutor;
+    private boolean virtualThreadListeners;
+
+    AtomixClientBuilder() {
+    }
+
+    /**
+     * Sets the namespace in which primitives are created.
+     *
+     * @param namespace the namespace
+     * @return the client builder
+     */
+    public AtomixClientBuilder withNamespace(String namespace) {
+        this.namespace = requireNonNull(namespace, "namespace cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the broker host.
+     *
+     * @param brokerHost the broker host
+     * @return the client builder
+     */
+    public AtomixClientBuilder withBrokerHost(String brokerHost) {
+        this.brokerHost = requireNonNull(brokerHost, "brokerHost cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the broker port.
+     *
+     * @param brokerPort the broker port
+     * @return the client builder
+     */
+    public AtomixClientBuilder withBrokerPort(int brokerPort) {
+        this.brokerPort = brokerPort;
+        return this;
+    }
+
+    /**
+     * Sets the addresses of several brokers between which the client fails over.
+     * <p>
+     * Lookups are spread over the brokers and retried on the next broker if one is unavailable.
+     * Overrides {@link #withBrokerHost(String)} and {@link #withBrokerPort(int)}.
+     *
+     * @param brokerAddresses the broker addresses in {@code host:port} form
+     * @return the client builder
+     */
+    public AtomixClientBuilder withBrokerAddresses(String... brokerAddresses) {
+        return withBrokerAddresses(Arrays.asList(requireNonNull(brokerAddresses, "brokerAddresses cannot be null")));
+    }
+
+    /**
+     * Sets the addresses of several brokers between which the client fails over.
+     * <p>
+     * Lookups are spread over the brokers and retried on the next broker if one is unavailable.
+     * Overrides {@link #withBrokerHost(String)} and {@link #withBrokerPort(int)}.
+     *
+     * @param brokerAddresses the broker addresses in {@code host:port} form
+     * @return the client builder
+     */
+    public AtomixClientBuilder withBrokerAddresses(Collection<String> brokerAddresses) {
+        List<String> addresses = List.copyOf(requireNonNull(brokerAddresses, "brokerAddresses cannot be null"));
+        addresses.forEach(AtomixClientBuilder::port);
+        this.brokerAddresses = addresses;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of unary requests pipelined on each partition.
+     * <p>
+     * By default the number of requests in flight on a partition adapts to the partition's round trip
+     * time, shrinking as requests queue up on a slow partition and growing back toward this maximum as
+     * it recovers; see {@link ConcurrencyLimit#vegas(int)}. This doesn't depend on requests timing out,
+     * so it works without a {@link #withRequestTimeout(Duration) request timeout}. Requests beyond the
+     * current limit are queued until earlier requests complete. Defaults to 128.
+     *
+     * @param requestWindow the maximum number of requests in flight per partition
+     * @return the client builder
+     */
+    public AtomixClientBuilder withRequestWindow(int requestWindow) {
+        if (requestWindow <= 0) {
+            throw new IllegalArgumentException("requestWindow must be positive");
+        }
+        this.requestWindow = requestWindow;
+        return this;
+    }
+
+    /**
+     * Sets the factory for the limit on unary requests in flight on each partition.
+     * <p>
+     * The factory is called once per partition. Overrides {@link #withRequestWindow(int)}.
+     *
+     * @param requestLimit the concurrency limit factory
+     * @return the client builder
+     */
+    public AtomixClientBuilder withRequestLimit(Supplier<ConcurrencyLimit> requestLimit) {
+        this.requestLimit = requireNonNull(requestLimit, "requestLimit cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of unary requests queued on each partition.
+     * <p>
+     * Once a partition's queue is full, further requests to it fail immediately with
+     * {@code RESOURCE_EXHAUSTED}. Defaults to 1024.
+     *
+     * @param maxQueuedRequests the maximum number of queued requests per partition
+     * @return the client builder
+     */
+    public AtomixClientBuilder withMaxQueuedRequests(int maxQueuedRequests) {
+        if (maxQueuedRequests < 0) {
+            throw new IllegalArgumentException("maxQueuedRequests cannot be negative");
+        }
+        this.maxQueuedRequests = maxQueuedRequests;
+        return this;
+    }
+
+    /**
+     * Sets the policy for hedging idempotent reads.
+     * <p>
+     * Reads such as map gets and counter gets are hedged on another connection to the partition when
+     * they are slower than the policy's latency quantile. Disabled by default.
+     *
+     * @param hedgingPolicy the hedging policy
+     * @return the client builder
+     */
+    public AtomixClientBuilder withHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = requireNonNull(hedgingPolicy, "hedgingPolicy cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the default deadline of unary primitive requests.
+     * <p>
+     * Requests that are not complete within the timeout, including the time spent queued on their
+     * partition, fail with {@code DEADLINE_EXCEEDED} and are cancelled. Requests that block on the
+     * server, such as lock acquisition, extend their deadline by the time they may block. Defaults to
+     * {@link Duration#ZERO}, which disables request deadlines.
+     *
+     * @param requestTimeout the request timeout
+     * @return the client builder
+     */
+    public AtomixClientBuilder withRequestTimeout(Duration requestTimeout) {
+        requireNonNull(requestTimeout, "requestTimeout cannot be null");
+        if (requestTimeout.isNegative()) {
+            throw new IllegalArgumentException("requestTimeout cannot be negative");
+        }
+        this.requestTimeout = requestTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the interval at which primitives are looked up again through the broker.
+     * <p>
+     * When the broker reports that a primitive has moved, calls are routed to its new partitions
+     * without blocking callers. Calls that fail with {@code UNAVAILABLE} also trigger a lookup and are
+     * retried once if the primitive has moved. Defaults to 30 seconds; {@link Duration#ZERO} disables
+     * the periodic lookup.
+     *
+     * @param partitionRefreshInterval the partition refresh interval
+     * @return the client builder
+     */
+    public AtomixClientBuilder withPartitionRefreshInterval(Duration partitionRefreshInterval) {
+        requireNonNull(partitionRefreshInterval, "partitionRefreshInterval cannot be null");
+        if (partitionRefreshInterval.isNegative()) {
+            throw new IllegalArgumentException("partitionRefreshInterval cannot be negative");
+        }
+        this.partitionRefreshInterval = partitionRefreshInterval;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of primitive lookups cached by the client.
+     * <p>
+     * The least recently used lookups are evicted first. Defaults to 10000; zero disables the cache.
+     *
+     * @param lookupCacheSize the maximum number of cached lookups
+     * @return the client builder
+     */
+    public AtomixClientBuilder withLookupCacheSize(int lookupCacheSize) {
+        if (lookupCacheSize < 0) {
+            throw new IllegalArgumentException("lookupCacheSize cannot be negative");
+        }
+        this.lookupCacheSize = lookupCacheSize;
+        return this;
+    }
+
+    /**
+     * Sets the time for which primitive lookups are cached.
+     * <p>
+     * Lookups of primitives the broker doesn't know are cached for the negative time to live, so a
+     * missing primitive is retried sooner than a known one is re-resolved. Defaults to 10 seconds and
+     * 1 second respectively; zero disables the respective cache.
+     *
+     * @param lookupCacheTtl         the time for which addresses are cached
+     * @param negativeLookupCacheTtl the time for which missing primitives are cached
+     * @return the client builder
+     */
+    public AtomixClientBuilder withLookupCacheTtl(Duration lookupCacheTtl, Duration negativeLookupCacheTtl) {
+        if (requireNonNull(lookupCacheTtl, "lookupCacheTtl cannot be null").isNegative()) {
+            throw new IllegalArgumentException("lookupCacheTtl cannot be negative");
+        }
+        if (requireNonNull(negativeLookupCacheTtl, "negativeLookupCacheTtl cannot be null").isNegative()) {
+            throw new IllegalArgumentException("negativeLookupCacheTtl cannot be negative");
+        }
+        this.lookupCacheTtl = lookupCacheTtl;
+        this.negativeLookupCacheTtl = negativeLookupCacheTtl;
+        return this;
+    }
+
+    /**
+     * Sets the number of channels to open to each target.
+     * <p>
+     * Calls are striped across the channels by primitive and partition. Defaults to the number of
+     * available processors.
+     *
+     * @param channelPoolSize the number of channels per target
+     * @return the client builder
+     */
+    public AtomixClientBuilder withChannelPoolSize(int channelPoolSize) {
+        if (channelPoolSize <= 0) {
+            throw new IllegalArgumentException("channelPoolSize must be positive");
+        }
+        this.channelPoolSize = channelPoolSize;
+        return this;
+    }
+
+    /**
+     * Sets the number of Netty event loop threads shared by all channels.
+     * <p>
+     * Defaults to the number of available processors. Ignored if a custom channel factory is set.
+     *
+     * @param eventLoopThreads the number of event loop threads
+     * @return the client builder
+     */
+    public AtomixClientBuilder withEventLoopThreads(int eventLoopThreads) {
+        if (eventLoopThreads <= 0) {
+            throw new IllegalArgumentException("eventLoopThreads must be positive");
+        }
+        this.eventLoopThreads = eventLoopThreads;
+        return this;
+    }
+
+    /**
+     * Sets whether to use the native epoll transport when it's available.
+     * <p>
+     * Enabled by default. Ignored if a custom channel factory is set.
+     *
+     * @param nativeTransport whether to use the native transport
+     * @return the client builder
+     */
+    public AtomixClientBuilder withNativeTransport(boolean nativeTransport) {
+        this.nativeTransport = nativeTransport;
+        return this;
+    }
+
+    /**
+     * Sets the keep-alive pings used to detect dead connections.
+     * <p>
+     * Idle connections are pinged every {@code keepAliveTime}, and a connection whose ping isn't
+     * acknowledged within {@code keepAliveTimeout} is closed, so calls to a peer that died without
+     * closing its connections fail over quickly instead of waiting for TCP to time out. The servers
+     * must permit pings at this interval. Disabled by default. Ignored if a custom channel factory is
+     * set.
+     *
+     * @param keepAliveTime    the time after which an idle connection is pinged, or zero to disable pings
+     * @param keepAliveTimeout the time to wait for a ping to be acknowledged
+     * @return the client builder
+     */
+    public AtomixClientBuilder withKeepAlive(Duration keepAliveTime, Duration keepAliveTimeout) {
+        if (requireNonNull(keepAliveTime, "keepAliveTime cannot be null").isNegative()) {
+            throw new IllegalArgumentException("keepAliveTime cannot be negative");
+        }
+        if (requireNonNull(keepAliveTimeout, "keepAliveTimeout cannot be null").isNegative()) {
+            throw new IllegalArgumentException("keepAliveTimeout cannot be negative");
+        }
+        this.keepAliveTime = keepAliveTime;
+        this.keepAliveTimeout = keepAliveTimeout;
+        return this;
+    }
+
+    /**
+     * Sets the factory used to create channels.
+     *
+     * @param channelFactory the channel factory
+     * @return the client builder
+     */
+    public AtomixClientBuilder withChannelFactory(ChannelFactory channelFactory) {
+        this.channelFactory = requireNonNull(channelFactory, "channelFactory cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the default executor on which primitive futures are completed and listeners are called.
+     * <p>
+     * Primitive builders may override the executor for their futures, but listeners are always called
+     * on this executor unless a {@link #withListenerExecutor(Executor) listener executor} is set. If no
+     * executor is set, the client creates a cached thread pool that is shut down when the client is
+     * closed.
+     *
+     * @param executor the client executor
+     * @return the client builder
+     */
+    public AtomixClientBuilder withExecutor(Executor executor) {
+        this.executor = requireNonNull(executor, "executor cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets the executor on which primitive listeners are called.
+     * <p>
+     * Defaults to the client executor. Events are delivered to each primitive's listeners in order
+     * regardless of the executor.
+     *
+     * @param listenerExecutor the listener executor
+     * @return the client builder
+     */
+    public AtomixClientBuilder withListenerExecutor(Executor listenerExecutor) {
+        this.listenerExecutor = requireNonNull(listenerExecutor, "listenerExecutor cannot be null");
+        return this;
+    }
+
+    /**
+     * Sets whether to call primitive listeners on a virtual-thread-per-task executor.
+     * <p>
+     * Virtual threads are available on Java 21 and later. On older JVMs listeners fall back to
+     * a pool of platform threads. Ignored if a listener executor is set.
+     *
+     * @param virtualThreadListeners whether to call listeners on virtual threads
+     * @return the client builder
+     */
+    public AtomixClientBuilder withVirtualThreadListeners(boolean virtualThreadListeners) {
+        this.virtualThreadListeners = virtualThreadListeners;
+        return this;
+    }
+
+    /**
+     * Builds the client.
+     *
+     * @return the client
+     */
+    public AtomixClient build() {
+        ChannelFactory factory = channelFactory != null
+                ? channelFactory
+                : new NettyChannelFactory(eventLoopThreads, nativeTransport, keepAliveTime, keepAliveTimeout);
+        List<ExecutorService> ownedExecutors = new ArrayList<>();
+        Executor clientExecutor = executor;
+        if (clientExecutor == null) {
+            ExecutorService defaultExecutor = Executors.newCachedThreadPool(Threads.namedThreads("atomix-client"));
+            ownedExecutors.add(defaultExecutor);
+            clientExecutor = defaultExecutor;
+        }
+        Executor clientListenerExecutor = listenerExecutor;
+        if (clientListenerExecutor == null && virtualThreadListeners) {
+            if (!Threads.isVirtualThreadSupported()) {
+                LOGGER.warn("Virtual threads are not supported by this JVM; using platform threads for listeners");
+            }
+            ExecutorService virtualExecutor = Threads.newThreadPerTaskExecutor("atomix-client-listener");
+            ownedExecutors.add(virtualExecutor);
+            clientListenerExecutor = virtualExecutor;
+        }
+        HashedWheelTimer timer = new HashedWheelTimer("atomix-client-timer");
+
+        ChannelProvider channelProvider = new ChannelProvider(channelPoolSize, factory);
+        List<ChannelPool> brokers = new ArrayList<>();
+        if (brokerAddresses.isEmpty()) {
+            brokers.add(channelProvider.getPool(brokerHost, brokerPort));
+        }
+        for (String address : brokerAddresses) {
+            brokers.add(channelProvider.getPool(address.substring(0, address.lastIndexOf(':')), port(address)));
+        }
+        BrokerClient brokerClient = new BrokerClient(
+                brokers,
+                lookupCacheSize,
+                lookupCacheTtl,
+                negativeLookupCacheTtl);
+        PartitionService partitionService = new PartitionService(
+                brokerClient,
+                channelProvider,
+                requestLimit(),
+                maxQueuedRequests,
+                hedgingPolicy,
+                timer,
+                requestTimeout,
+                partitionRefreshInterval);
+        return new AtomixClient(
+                namespace,
+                channelProvider,
+                brokerClient,
+                partitionService,
+                timer,
+                clientExecutor,
+                clientListenerExecutor != null ? clientListenerExecutor : clientExecutor,
+                ownedExecutors);
+    }
+
+    /**
+     * Returns the factory for the limit on requests in flight on each partition.
+     */
+    Supplier<ConcurrencyLimit> requestLimit() {
+        if (requestLimit != null) {
+            return requestLimit;
+        }
+        int maxLimit = requestWindow;
+        return () -> ConcurrencyLimit.vegas(maxLimit);
+    }
+
+    private static int port(String address) {
+        int separator = address.lastIndexOf(':');
+        try {
+            if (separator > 0) {
+                return Integer.parseInt(address.substring(separator + 1));
+            }
+        } catch (NumberFormatException e) {
+            // Fall through to reject the address.
+        }
+        throw new IllegalArgumentException("invalid broker address " + address);
+    }
+}
@@ -0,0 +1,31 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.channel;
+
+import io.grpc.ManagedChannel;
+
+/**
+ * Factory for gRPC channels to a single target.
+ */
+@FunctionalInterface
+public interface ChannelFactory {
+
+    /**
+     * Creates a new channel to the given target.
+     *
+     * @param host the target host
+     * @param port the target port
+     * @return a new managed channel
+     */
+    ManagedChannel createChannel(String host, int port);
+
+    /**
+     * Releases any resources shared by the channels created by this factory.
+     * <p>
+     * This is called once all the channels created by the factory have been shut down.
+     */
+    default void close() {
+    }
+
+}
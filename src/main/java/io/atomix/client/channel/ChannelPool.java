@@ -0,0 +1,164 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.channel;
+
+import io.grpc.Channel;
+import io.grpc.ConnectivityState;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Fixed-size pool of channels to a single target.
+ * <p>
+ * Each channel owns its own HTTP/2 connection, so striping calls across the pool spreads them over
+ * several connections and event loops rather than queueing every call behind a single connection's
+ * concurrent stream limit. Callers pick a channel with a stable stripe (e.g. the primitive name or
+ * partition hash) so that calls for the same stripe stay on the same connection.
+ */
+public final class ChannelPool {
+    private final String host;
+    private final int port;
+    private final ManagedChannel[] channels;
+
+    ChannelPool(String host, int port, int size, ChannelFactory factory) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive");
+        }
+        this.host = requireNonNull(host, "host cannot be null");
+        this.port = port;
+        this.channels = new ManagedChannel[size];
+        for (int i = 0; i < size; i++) {
+            channels[i] = factory.createChannel(host, port);
+        }
+    }
+
+    /**
+     * Returns the pool target host.
+     *
+     * @return the pool target host
+     */
+    public String host() {
+        return host;
+    }
+
+    /**
+     * Returns the pool target port.
+     *
+     * @return the pool target port
+     */
+    public int port() {
+        return port;
+    }
+
+    /**
+     * Returns the number of channels in the pool.
+     *
+     * @return the number of channels in the pool
+     */
+    public int size() {
+        return channels.length;
+    }
+
+    /**
+     * Returns the channel for the given stripe.
+     *
+     * @param stripe the stripe, e.g. a partition ID or the hash of a primitive name
+     * @return the channel assigned to the stripe
+     */
+    public Channel getChannel(int stripe) {
+        return channels[(stripe & Integer.MAX_VALUE) % channels.length];
+    }
+
+    /**
+     * Connects all the channels in the pool.
+     * <p>
+     * Channels otherwise connect lazily on their first call. The returned future is completed once
+     * every channel is ready; channels that fail to connect keep retrying with backoff, so callers
+     * should bound the wait. Channels that can't report their state are considered ready.
+     *
+     * @return a future to be completed once all the channels are connected
+     */
+    public CompletableFuture<Void> connect() {
+        CompletableFuture<?>[] futures = new CompletableFuture[channels.length];
+        for (int i = 0; i < channels.length; i++) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            awaitReady(channels[i], future);
+            futures[i] = future;
+        }
+        return CompletableFuture.allOf(futures);
+    }
+
+    /**
+     * Returns whether the target is believed to be reachable.
+     * <p>
+     * The target is unavailable only if every channel has failed to connect or is shut down; idle and
+     * connecting channels count as available. The check doesn't trigger a connection.
+     *
+     * @return whether any channel in the pool may be able to serve calls
+     */
+    public boolean isAvailable() {
+        for (ManagedChannel channel : channels) {
+            ConnectivityState state;
+            try {
+                state = channel.getState(false);
+            } catch (UnsupportedOperationException e) {
+                return true;
+            }
+            if (state != ConnectivityState.TRANSIENT_FAILURE && state != ConnectivityState.SHUTDOWN) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void awaitReady(ManagedChannel channel, CompletableFuture<Void> future) {
+        ConnectivityState state;
+        try {
+            state = channel.getState(true);
+        } catch (UnsupportedOperationException e) {
+            future.complete(null);
+            return;
+        }
+        switch (state) {
+            case READY:
+                future.complete(null);
+                break;
+            case SHUTDOWN:
+                future.completeExceptionally(Status.UNAVAILABLE
+                        .withDescription("Channel is shut down")
+                        .asRuntimeException());
+                break;
+            default:
+                channel.notifyWhenStateChanged(state, () -> awaitReady(channel, future));
+                break;
+        }
+    }
+
+    /**
+     * Shuts down all the channels in the pool.
+     */
+    public void close() {
+        for (ManagedChannel channel : channels) {
+            channel.shutdown();
+        }
+        for (ManagedChannel channel : channels) {
+            try {
+                channel.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{target=" + host + ":" + port + ", size=" + channels.length + "}";
+    }
+}
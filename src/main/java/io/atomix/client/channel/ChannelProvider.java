@@ -0,0 +1,55 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.channel;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Provides a {@link ChannelPool} per target.
+ */
+public class ChannelProvider {
+    private final int poolSize;
+    private final ChannelFactory factory;
+    private final Map<String, ChannelPool> pools = new ConcurrentHashMap<>();
+
+    public ChannelProvider(int poolSize, ChannelFactory factory) {
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("poolSize must be positive");
+        }
+        this.poolSize = poolSize;
+        this.factory = requireNonNull(factory, "factory cannot be null");
+    }
+
+    /**
+     * Returns the number of channels per target.
+     *
+     * @return the number of channels per target
+     */
+    public int poolSize() {
+        return poolSize;
+    }
+
+    /**
+     * Returns the channel pool for the given target, creating it if necessary.
+     *
+     * @param host the target host
+     * @param port the target port
+     * @return the channel pool for the target
+     */
+    public ChannelPool getPool(String host, int port) {
+        return pools.computeIfAbsent(host + ":" + port, target -> new ChannelPool(host, port, poolSize, factory));
+    }
+
+    /**
+     * Closes all channel pools and the channel factory.
+     */
+    public void close() {
+        pools.values().forEach(ChannelPool::close);
+        pools.clear();
+        factory.close();
+    }
+}
@@ -0,0 +1,68 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.channel;
+
+import io.grpc.netty.shaded.io.netty.channel.Channel;
+import io.grpc.netty.shaded.io.netty.channel.EventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.Epoll;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.epoll.EpollSocketChannel;
+import io.grpc.netty.shaded.io.netty.channel.nio.NioEventLoopGroup;
+import io.grpc.netty.shaded.io.netty.channel.socket.nio.NioSocketChannel;
+import io.grpc.netty.shaded.io.netty.util.concurrent.DefaultThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Netty event loop group shared by all the channels of a client.
+ * <p>
+ * The native epoll transport bundled with the shaded Netty is used when it's available on the host
+ * platform; otherwise the group falls back to NIO.
+ */
+final class EventLoops {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventLoops.class);
+
+    private final EventLoopGroup group;
+    private final Class<? extends Channel> channelType;
+
+    EventLoops(int threads, boolean nativeTransport) {
+        ThreadFactory threadFactory = new DefaultThreadFactory("atomix-client-netty", true);
+        if (nativeTransport && Epoll.isAvailable()) {
+            this.group = new EpollEventLoopGroup(threads, threadFactory);
+            this.channelType = EpollSocketChannel.class;
+        } else {
+            this.group = new NioEventLoopGroup(threads, threadFactory);
+            this.channelType = NioSocketChannel.class;
+        }
+        LOGGER.debug("Using {} with {} threads", group.getClass().getSimpleName(), threads);
+    }
+
+    /**
+     * Returns the shared event loop group.
+     *
+     * @return the shared event loop group
+     */
+    EventLoopGroup group() {
+        return group;
+    }
+
+    /**
+     * Returns the socket channel type matching the event loop group.
+     *
+     * @return the socket channel type
+     */
+    Class<? extends Channel> channelType() {
+        return channelType;
+    }
+
+    /**
+     * Shuts down the event loop group.
+     */
+    void close() {
+        group.shutdownGracefully(0, 5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,89 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.channel;
+
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Channel factory backed by the shaded Netty transport.
+ * <p>
+ * All the channels created by the factory share a single event loop group rather than each starting
+ * its own, so the number of transport threads is bounded regardless of how many primitives and
+ * targets the client talks to.
+ * <p>
+ * Channels can send HTTP/2 keep-alive pings so that a peer that has died without closing its
+ * connections is detected within the keep-alive timeout rather than the operating system's TCP
+ * timeout. The server must permit pings at the configured interval, or it will close the connection.
+ */
+public class NettyChannelFactory implements ChannelFactory {
+    private final EventLoops eventLoops;
+    private final Duration keepAliveTime;
+    private final Duration keepAliveTimeout;
+
+    public NettyChannelFactory() {
+        this(Runtime.getRuntime().availableProcessors(), true);
+    }
+
+    /**
+     * Creates a new Netty channel factory.
+     *
+     * @param threads         the number of event loop threads
+     * @param nativeTransport whether to use the native epoll transport when available
+     */
+    public NettyChannelFactory(int threads, boolean nativeTransport) {
+        this(threads, nativeTransport, Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * Creates a new Netty channel factory.
+     *
+     * @param threads          the number of event loop threads
+     * @param nativeTransport  whether to use the native epoll transport when available
+     * @param keepAliveTime    the time after which an idle connection is pinged, or zero to disable pings
+     * @param keepAliveTimeout the time after which a connection whose ping isn't acknowledged is closed
+     */
+    public NettyChannelFactory(
+            int threads, boolean nativeTransport, Duration keepAliveTime, Duration keepAliveTimeout) {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        if (requireNonNull(keepAliveTime, "keepAliveTime cannot be null").isNegative()) {
+            throw new IllegalArgumentException("keepAliveTime cannot be negative");
+        }
+        if (requireNonNull(keepAliveTimeout, "keepAliveTimeout cannot be null").isNegative()) {
+            throw new IllegalArgumentException("keepAliveTimeout cannot be negative");
+        }
+        this.eventLoops = new EventLoops(threads, nativeTransport);
+        this.keepAliveTime = keepAliveTime;
+        this.keepAliveTimeout = keepAliveTimeout;
+    }
+
+    @Override
+    public ManagedChannel createChannel(String host, int port) {
+        NettyChannelBuilder builder = NettyChannelBuilder.forAddress(host, port)
+                .eventLoopGroup(eventLoops.group())
+                .channelType(eventLoops.channelType())
+                .usePlaintext();
+        if (!keepAliveTime.isZero()) {
+            builder.keepAliveTime(keepAliveTime.toNanos(), TimeUnit.NANOSECONDS)
+                    .keepAliveWithoutCalls(true);
+            if (!keepAliveTimeout.isZero()) {
+                builder.keepAliveTimeout(keepAliveTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void close() {
+        eventLoops.close();
+    }
+
+}
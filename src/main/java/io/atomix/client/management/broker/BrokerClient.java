@@ -0,0 +1,139 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.broker;
+
+import io.atomix.api.management.broker.BrokerGrpc;
+import io.atomix.api.management.broker.LookupPrimitiveRequest;
+import io.atomix.api.management.broker.LookupPrimitiveResponse;
+import io.atomix.api.management.broker.PrimitiveAddress;
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.client.channel.ChannelPool;
+import io.atomix.client.utils.concurrent.FutureObserver;
+import io.grpc.Status;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Client for the broker service, which resolves primitives to the drivers serving them.
+ * <p>
+ * Lookups are cached so that creating a handle to a known primitive doesn't cost a round trip to
+ * the broker; see {@link #lookupPrimitive(PrimitiveId)}.
+ * <p>
+ * The client may be given several brokers. Lookups are spread over them round-robin, skipping brokers
+ * whose channels have all failed to connect, and a lookup that fails with {@code UNAVAILABLE} is
+ * retried on the next broker right away, so losing a broker costs one failed call rather than a
+ * connection timeout.
+ */
+public class BrokerClient {
+    private static final int DEFAULT_CACHE_SIZE = 10_000;
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_NEGATIVE_CACHE_TTL = Duration.ofSeconds(1);
+
+    private final ChannelPool[] brokers;
+    private final AtomicInteger next = new AtomicInteger();
+    private final LookupCache cache;
+
+    public BrokerClient(ChannelPool channels) {
+        this(channels, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_TTL, DEFAULT_NEGATIVE_CACHE_TTL);
+    }
+
+    /**
+     * Creates a new broker client.
+     *
+     * @param channels         the broker channels
+     * @param cacheSize        the maximum number of cached lookups
+     * @param cacheTtl         the time for which addresses are cached
+     * @param negativeCacheTtl the time for which missing primitives are cached
+     */
+    public BrokerClient(ChannelPool channels, int cacheSize, Duration cacheTtl, Duration negativeCacheTtl) {
+        this(List.of(requireNonNull(channels, "channels cannot be null")), cacheSize, cacheTtl, negativeCacheTtl);
+    }
+
+    /**
+     * Creates a new broker client that fails over between the given brokers.
+     *
+     * @param brokers          the channels to each broker
+     * @param cacheSize        the maximum number of cached lookups
+     * @param cacheTtl         the time for which addresses are cached
+     * @param negativeCacheTtl the time for which missing primitives are cached
+     */
+    public BrokerClient(List<ChannelPool> brokers, int cacheSize, Duration cacheTtl, Duration negativeCacheTtl) {
+        if (requireNonNull(brokers, "brokers cannot be null").isEmpty()) {
+            throw new IllegalArgumentException("brokers cannot be empty");
+        }
+        if (cacheSize < 0) {
+            throw new IllegalArgumentException("cacheSize cannot be negative");
+        }
+        this.brokers = brokers.toArray(new ChannelPool[0]);
+        this.cache = new LookupCache(
+                cacheSize,
+                requireNonNull(cacheTtl, "cacheTtl cannot be null").toNanos(),
+                requireNonNull(negativeCacheTtl, "negativeCacheTtl cannot be null").toNanos());
+    }
+
+    /**
+     * Looks up the address of the driver serving the given primitive.
+     * <p>
+     * Addresses are served from the cache until they expire, and primitives the broker doesn't know
+     * fail with {@code NOT_FOUND} from the cache for a shorter time. Concurrent lookups of the same
+     * primitive share a single call to the broker.
+     *
+     * @param primitiveId the primitive ID
+     * @return a future to be completed with the primitive address
+     */
+    public CompletableFuture<PrimitiveAddress> lookupPrimitive(PrimitiveId primitiveId) {
+        return cache.get(primitiveId, this::lookup);
+    }
+
+    /**
+     * Removes the cached address of the given primitive, so the next lookup reaches the broker.
+     *
+     * @param primitiveId the primitive ID
+     */
+    public void invalidate(PrimitiveId primitiveId) {
+        cache.invalidate(primitiveId);
+    }
+
+    private CompletableFuture<PrimitiveAddress> lookup(PrimitiveId primitiveId) {
+        CompletableFuture<PrimitiveAddress> future = new CompletableFuture<>();
+        lookup(primitiveId, nextBroker(), brokers.length, future);
+        return future;
+    }
+
+    private void lookup(PrimitiveId primitiveId, int broker, int attempts, CompletableFuture<PrimitiveAddress> future) {
+        CompletableFuture<LookupPrimitiveResponse> response = new CompletableFuture<>();
+        BrokerGrpc.newStub(brokers[broker].getChannel(primitiveId.getName().hashCode()))
+                .lookupPrimitive(LookupPrimitiveRequest.newBuilder()
+                        .setPrimitiveId(primitiveId)
+                        .build(), new FutureObserver<>(response));
+        response.whenComplete((result, error) -> {
+            if (error == null) {
+                future.complete(result.getAddress());
+            } else if (attempts > 1 && Status.fromThrowable(error).getCode() == Status.Code.UNAVAILABLE) {
+                lookup(primitiveId, (broker + 1) % brokers.length, attempts - 1, future);
+            } else {
+                future.completeExceptionally(error);
+            }
+        });
+    }
+
+    /**
+     * Returns the next broker in turn, skipping brokers that are known to be unreachable unless all are.
+     */
+    private int nextBroker() {
+        int start = (next.getAndIncrement() & Integer.MAX_VALUE) % brokers.length;
+        for (int i = 0; i < brokers.length; i++) {
+            int broker = (start + i) % brokers.length;
+            if (brokers[broker].isAvailable()) {
+                return broker;
+            }
+        }
+        return start;
+    }
+}
@@ -0,0 +1,161 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.broker;
+
+import io.atomix.api.management.broker.PrimitiveAddress;
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.client.utils.concurrent.Futures;
+import io.grpc.Status;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Cache of primitive lookups.
+ * <p>
+ * Addresses are kept for a fixed time to live in a map bounded to the least recently used entries.
+ * Lookups that fail with {@link Status#NOT_FOUND} are cached for a shorter time so that repeatedly
+ * resolving a missing primitive doesn't reach the broker every time. Concurrent lookups of the same
+ * primitive share a single broker call.
+ */
+final class LookupCache {
+    private final int maxSize;
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final Map<PrimitiveId, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<PrimitiveId, Load> inFlight = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    LookupCache(int maxSize, long ttlNanos, long negativeTtlNanos) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlNanos;
+        this.negativeTtlNanos = negativeTtlNanos;
+    }
+
+    /**
+     * Returns the cached address of the given primitive, loading it if it's missing or expired.
+     *
+     * @param primitiveId the primitive ID
+     * @param loader      looks the primitive up through the broker
+     * @return a future to be completed with the primitive address
+     */
+    CompletableFuture<PrimitiveAddress> get(
+            PrimitiveId primitiveId, Function<PrimitiveId, CompletableFuture<PrimitiveAddress>> loader) {
+        Entry entry = getEntry(primitiveId);
+        if (entry != null) {
+            return entry.error == null
+                    ? CompletableFuture.completedFuture(entry.address)
+                    : Futures.exceptionalFuture(entry.error);
+        }
+
+        Load load = new Load();
+        Load existing = inFlight.putIfAbsent(primitiveId, load);
+        if (existing != null) {
+            return existing.future.copy();
+        }
+        CompletableFuture<PrimitiveAddress> lookup;
+        try {
+            lookup = loader.apply(primitiveId);
+        } catch (RuntimeException e) {
+            lookup = Futures.exceptionalFuture(e);
+        }
+        lookup.whenComplete((address, error) -> {
+            if (error == null) {
+                put(primitiveId, load, new Entry(address, null, System.nanoTime() + ttlNanos), ttlNanos);
+            } else if (Status.fromThrowable(error).getCode() == Status.Code.NOT_FOUND) {
+                put(primitiveId, load, new Entry(null, error, System.nanoTime() + negativeTtlNanos), negativeTtlNanos);
+            }
+            inFlight.remove(primitiveId, load);
+            if (error == null) {
+                load.future.complete(address);
+            } else {
+                load.future.completeExceptionally(error);
+            }
+        });
+        return load.future.copy();
+    }
+
+    /**
+     * Removes the given primitive from the cache.
+     * <p>
+     * A lookup of the primitive that is in flight is not cached once it completes, since its result may
+     * predate the invalidation, and later calls to {@link #get} start a new lookup instead of sharing it.
+     *
+     * @param primitiveId the primitive ID
+     */
+    void invalidate(PrimitiveId primitiveId) {
+        lock.lock();
+        try {
+            entries.remove(primitiveId);
+            Load load = inFlight.remove(primitiveId);
+            if (load != null) {
+                load.stale = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry getEntry(PrimitiveId primitiveId) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(primitiveId);
+            if (entry != null && entry.expireTime - System.nanoTime() <= 0) {
+                entries.remove(primitiveId);
+                return null;
+            }
+            return entry;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void put(PrimitiveId primitiveId, Load load, Entry entry, long ttlNanos) {
+        if (ttlNanos <= 0 || maxSize == 0) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (load.stale) {
+                return;
+            }
+            entries.put(primitiveId, entry);
+            if (entries.size() > maxSize) {
+                entries.remove(entries.keySet().iterator().next());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Lookup in flight.
+     * <p>
+     * A load is marked stale when its primitive is invalidated before it completes, so that it doesn't
+     * cache a result that may predate the invalidation.
+     */
+    private static final class Load {
+        private final CompletableFuture<PrimitiveAddress> future = new CompletableFuture<>();
+        private boolean stale;  // guarded by the cache lock
+    }
+
+    /**
+     * Cached lookup result.
+     */
+    private static final class Entry {
+        private final PrimitiveAddress address;
+        private final Throwable error;
+        private final long expireTime;
+
+        Entry(PrimitiveAddress address, Throwable error, long expireTime) {
+            this.address = address;
+            this.error = error;
+            this.expireTime = expireTime;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous primitive.
+ */
+public interface AsyncPrimitive {
+
+    /**
+     * Returns the primitive name.
+     *
+     * @return the primitive name
+     */
+    String name();
+
+    /**
+     * Returns the primitive type.
+     *
+     * @return the primitive type
+     */
+    PrimitiveType type();
+
+    /**
+     * Closes the primitive.
+     *
+     * @return a future to be completed once the primitive has been closed
+     */
+    CompletableFuture<Void> close();
+
+    /**
+     * Returns a synchronous view of the primitive with the default operation timeout.
+     *
+     * @return the synchronous primitive
+     */
+    default SyncPrimitive sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    /**
+     * Returns a synchronous view of the primitive.
+     *
+     * @param operationTimeout the timeout for synchronous operations
+     * @return the synchronous primitive
+     */
+    SyncPrimitive sync(Duration operationTimeout);
+
+}
@@ -0,0 +1,144 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.protocol.PrimitivePartitions;
+import io.atomix.client.utils.concurrent.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Base class for primitive builders.
+ *
+ * @param <B> the builder type
+ * @param <P> the primitive type
+ */
+public abstract class PrimitiveBuilder<B extends PrimitiveBuilder<B, P>, P extends AsyncPrimitive> {
+    private final AtomixClient client;
+    private final PrimitiveType type;
+    private final String name;
+    private Executor executor;
+    private Duration operationTimeout = SyncPrimitive.DEFAULT_OPERATION_TIMEOUT;
+
+    protected PrimitiveBuilder(AtomixClient client, PrimitiveType type, String name) {
+        this.client = requireNonNull(client, "client cannot be null");
+        this.type = requireNonNull(type, "type cannot be null");
+        this.name = requireNonNull(name, "name cannot be null");
+    }
+
+    /**
+     * Sets the executor on which to complete the primitive's futures.
+     * <p>
+     * Defaults to the client's executor. The primitive's listeners are called on the client's listener
+     * executor regardless; see {@link io.atomix.client.AtomixClientBuilder#withListenerExecutor(Executor)}.
+     *
+     * @param executor the primitive executor
+     * @return the primitive builder
+     */
+    @SuppressWarnings("unchecked")
+    public B withExecutor(Executor executor) {
+        this.executor = requireNonNull(executor, "executor cannot be null");
+        return (B) this;
+    }
+
+    /**
+     * Sets the timeout for operations on the synchronous primitive returned by {@link #build()}.
+     *
+     * @param operationTimeout the operation timeout
+     * @return the primitive builder
+     */
+    @SuppressWarnings("unchecked")
+    public B withOperationTimeout(Duration operationTimeout) {
+        this.operationTimeout = requireNonNull(operationTimeout, "operationTimeout cannot be null");
+        return (B) this;
+    }
+
+    /**
+     * Returns the primitive name.
+     *
+     * @return the primitive name
+     */
+    protected String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the primitive ID.
+     *
+     * @return the primitive ID
+     */
+    protected PrimitiveId getPrimitiveId() {
+        return PrimitiveId.newBuilder()
+                .setType(type.id())
+                .setNamespace(client.getNamespace())
+                .setName(name)
+                .build();
+    }
+
+    /**
+     * Returns the timeout for synchronous primitive operations.
+     *
+     * @return the operation timeout
+     */
+    protected Duration getOperationTimeout() {
+        return operationTimeout;
+    }
+
+    /**
+     * Returns the context for a new primitive instance.
+     *
+     * @param partitions the partitions serving the primitive
+     * @return the primitive context
+     */
+    protected PrimitiveContext getContext(PrimitivePartitions partitions) {
+        return new PrimitiveContext(
+                partitions,
+                executor != null ? executor : client.getExecutor(),
+                client.getListenerExecutor(),
+                client.getTimer());
+    }
+
+    /**
+     * Returns the client's timer.
+     *
+     * @return the timer
+     */
+    protected Timer getTimer() {
+        return client.getTimer();
+    }
+
+    /**
+     * Resolves the partitions serving the primitive.
+     *
+     * @return a future to be completed with the primitive partitions
+     */
+    protected CompletableFuture<PrimitivePartitions> getPartitions() {
+        return client.getPartitionService().getPartitions(getPrimitiveId());
+    }
+
+    /**
+     * Builds the primitive asynchronously.
+     *
+     * @return a future to be completed with the primitive
+     */
+    public abstract CompletableFuture<P> buildAsync();
+
+    /**
+     * Builds the primitive and returns a synchronous view of it.
+     * <p>
+     * The calling thread waits for the primitive to be resolved. Synchronous primitives are implemented
+     * on top of the asynchronous primitive and park the calling thread while waiting for responses, so
+     * they're well suited to virtual threads.
+     *
+     * @return the synchronous primitive
+     */
+    public abstract SyncPrimitive build();
+}
@@ -0,0 +1,49 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive;
+
+/**
+ * Exception thrown by synchronous primitive operations.
+ */
+public class PrimitiveException extends RuntimeException {
+
+    public PrimitiveException() {
+    }
+
+    public PrimitiveException(String message) {
+        super(message);
+    }
+
+    public PrimitiveException(Throwable cause) {
+        super(cause);
+    }
+
+    /**
+     * Exception thrown when an operation times out.
+     */
+    public static class Timeout extends PrimitiveException {
+        public Timeout() {
+        }
+
+        public Timeout(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Exception thrown when an operation is attempted on a closed primitive.
+     */
+    public static class Closed extends PrimitiveException {
+        public Closed() {
+        }
+    }
+
+    /**
+     * Exception thrown when the calling thread is interrupted while waiting for an operation.
+     */
+    public static class Interrupted extends PrimitiveException {
+        public Interrupted() {
+        }
+    }
+}
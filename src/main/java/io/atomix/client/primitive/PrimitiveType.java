@@ -0,0 +1,35 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive;
+
+/**
+ * Primitive types.
+ */
+public enum PrimitiveType {
+    COUNTER("Counter"),
+    ELECTION("Election"),
+    INDEXED_MAP("IndexedMap"),
+    LEADER_LATCH("LeaderLatch"),
+    LIST("List"),
+    LOCK("Lock"),
+    LOG("Log"),
+    MAP("Map"),
+    SET("Set"),
+    VALUE("Value");
+
+    private final String id;
+
+    PrimitiveType(String id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the primitive type identifier used by the broker and drivers.
+     *
+     * @return the primitive type identifier
+     */
+    public String id() {
+        return id;
+    }
+}
@@ -0,0 +1,45 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive;
+
+import java.time.Duration;
+
+/**
+ * Synchronous primitive.
+ */
+public interface SyncPrimitive extends AutoCloseable {
+
+    /**
+     * Default timeout for synchronous primitive operations.
+     */
+    Duration DEFAULT_OPERATION_TIMEOUT = Duration.ofSeconds(5);
+
+    /**
+     * Returns the primitive name.
+     *
+     * @return the primitive name
+     */
+    String name();
+
+    /**
+     * Returns the primitive type.
+     *
+     * @return the primitive type
+     */
+    PrimitiveType type();
+
+    /**
+     * Returns the underlying asynchronous primitive.
+     *
+     * @return the asynchronous primitive
+     */
+    AsyncPrimitive async();
+
+    /**
+     * Closes the primitive.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,62 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.counter;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous atomic counter.
+ */
+public interface AsyncAtomicCounter extends AsyncPrimitive {
+
+    /**
+     * Returns the current value of the counter.
+     *
+     * @return a future to be completed with the current value
+     */
+    CompletableFuture<Long> get();
+
+    /**
+     * Sets the counter to the given value.
+     *
+     * @param value the new value
+     * @return a future to be completed once the value has been set
+     */
+    CompletableFuture<Void> set(long value);
+
+    /**
+     * Atomically increments the counter by one.
+     *
+     * @return a future to be completed with the updated value
+     */
+    CompletableFuture<Long> incrementAndGet();
+
+    /**
+     * Atomically decrements the counter by one.
+     *
+     * @return a future to be completed with the updated value
+     */
+    CompletableFuture<Long> decrementAndGet();
+
+    /**
+     * Atomically adds the given delta to the counter.
+     *
+     * @param delta the value to add
+     * @return a future to be completed with the updated value
+     */
+    CompletableFuture<Long> addAndGet(long delta);
+
+    @Override
+    default AtomicCounter sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    AtomicCounter sync(Duration operationTimeout);
+
+}
@@ -0,0 +1,52 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.counter;
+
+import io.atomix.client.primitive.SyncPrimitive;
+
+/**
+ * Atomic counter.
+ */
+public interface AtomicCounter extends SyncPrimitive {
+
+    /**
+     * Returns the current value of the counter.
+     *
+     * @return the current value
+     */
+    long get();
+
+    /**
+     * Sets the counter to the given value.
+     *
+     * @param value the new value
+     */
+    void set(long value);
+
+    /**
+     * Atomically increments the counter by one.
+     *
+     * @return the updated value
+     */
+    long incrementAndGet();
+
+    /**
+     * Atomically decrements the counter by one.
+     *
+     * @return the updated value
+     */
+    long decrementAndGet();
+
+    /**
+     * Atomically adds the given delta to the counter.
+     *
+     * @param delta the value to add
+     * @return the updated value
+     */
+    long addAndGet(long delta);
+
+    @Override
+    AsyncAtomicCounter async();
+
+}
@@ -0,0 +1,35 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.counter;
+
+import io.atomix.api.primitive.counter.CounterServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.counter.impl.DefaultAsyncAtomicCounter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder for {@link AsyncAtomicCounter}.
+ */
+public class AtomicCounterBuilder extends PrimitiveBuilder<AtomicCounterBuilder, AsyncAtomicCounter> {
+
+    public AtomicCounterBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.COUNTER, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncAtomicCounter> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncAtomicCounter(
+                getPrimitiveId(),
+                CounterServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public AtomicCounter build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+}
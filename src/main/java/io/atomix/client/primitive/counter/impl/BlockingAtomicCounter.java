@@ -0,0 +1,45 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.counter.impl;
+
+import io.atomix.client.primitive.counter.AsyncAtomicCounter;
+import io.atomix.client.primitive.counter.AtomicCounter;
+import io.atomix.client.primitive.impl.Synchronous;
+
+import java.time.Duration;
+
+/**
+ * Blocking atomic counter.
+ */
+public class BlockingAtomicCounter extends Synchronous<AsyncAtomicCounter> implements AtomicCounter {
+
+    public BlockingAtomicCounter(AsyncAtomicCounter primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public long get() {
+        return complete(async().get());
+    }
+
+    @Override
+    public void set(long value) {
+        complete(async().set(value));
+    }
+
+    @Override
+    public long incrementAndGet() {
+        return complete(async().incrementAndGet());
+    }
+
+    @Override
+    public long decrementAndGet() {
+        return complete(async().decrementAndGet());
+    }
+
+    @Override
+    public long addAndGet(long delta) {
+        return complete(async().addAndGet(delta));
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.counter.impl;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.counter.CounterServiceGrpc;
+import io.atomix.api.primitive.counter.DecrementRequest;
+import io.atomix.api.primitive.counter.DecrementResponse;
+import io.atomix.api.primitive.counter.GetRequest;
+import io.atomix.api.primitive.counter.GetResponse;
+import io.atomix.api.primitive.counter.IncrementRequest;
+import io.atomix.api.primitive.counter.IncrementResponse;
+import io.atomix.api.primitive.counter.SetRequest;
+import io.atomix.api.primitive.counter.SetResponse;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.counter.AsyncAtomicCounter;
+import io.atomix.client.primitive.counter.AtomicCounter;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Default asynchronous atomic counter.
+ */
+public class DefaultAsyncAtomicCounter
+        extends AbstractAsyncPrimitive<CounterServiceGrpc.CounterServiceStub>
+        implements AsyncAtomicCounter {
+
+    public DefaultAsyncAtomicCounter(
+            PrimitiveId id, CounterServiceGrpc.CounterServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.COUNTER, service, context);
+    }
+
+    @Override
+    public AtomicCounter sync(Duration operationTimeout) {
+        return new BlockingAtomicCounter(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Long> get() {
+        return this.<GetResponse>read((service, observer) -> service.get(GetRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(GetResponse::getValue);
+    }
+
+    @Override
+    public CompletableFuture<Void> set(long value) {
+        return this.<SetResponse>execute((service, observer) -> service.set(SetRequest.newBuilder()
+                .setHeaders(headers())
+                .setValue(value)
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Long> incrementAndGet() {
+        return addAndGet(1);
+    }
+
+    @Override
+    public CompletableFuture<Long> decrementAndGet() {
+        return this.<DecrementResponse>execute((service, observer) -> service.decrement(DecrementRequest.newBuilder()
+                .setHeaders(headers())
+                .setDelta(1)
+                .build(), observer))
+                .thenApply(DecrementResponse::getValue);
+    }
+
+    @Override
+    public CompletableFuture<Long> addAndGet(long delta) {
+        return this.<IncrementResponse>execute((service, observer) -> service.increment(IncrementRequest.newBuilder()
+                .setHeaders(headers())
+                .setDelta(delta)
+                .build(), observer))
+                .thenApply(IncrementResponse::getValue);
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.election;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Asynchronous leader election.
+ */
+public interface AsyncLeaderElection extends AsyncPrimitive {
+
+    /**
+     * Enters the given candidate into the election.
+     *
+     * @param candidate the candidate to enter
+     * @return a future to be completed with the resulting leadership
+     */
+    CompletableFuture<Leadership> enter(String candidate);
+
+    /**
+     * Withdraws the given candidate from the election.
+     *
+     * @param candidate the candidate to withdraw
+     * @return a future to be completed with the resulting leadership
+     */
+    CompletableFuture<Leadership> withdraw(String candidate);
+
+    /**
+     * Makes the given candidate the leader.
+     *
+     * @param candidate the candidate to anoint
+     * @return a future to be completed with the resulting leadership
+     */
+    CompletableFuture<Leadership> anoint(String candidate);
+
+    /**
+     * Moves the given candidate to the top of the candidate list.
+     *
+     * @param candidate the candidate to promote
+     * @return a future to be completed with the resulting leadership
+     */
+    CompletableFuture<Leadership> promote(String candidate);
+
+    /**
+     * Removes the given candidate from the election.
+     *
+     * @param candidate the candidate to evict
+     * @return a future to be completed with the resulting leadership
+     */
+    CompletableFuture<Leadership> evict(String candidate);
+
+    /**
+     * Returns the current leadership.
+     *
+     * @return a future to be completed with the current leadership
+     */
+    CompletableFuture<Leadership> getLeadership();
+
+    /**
+     * Adds a listener for leadership changes.
+     *
+     * @param listener the listener to add
+     * @return a future to be completed once the listener has been added
+     */
+    CompletableFuture<Void> addListener(EventListener<LeadershipEvent> listener);
+
+    /**
+     * Removes a listener for leadership changes.
+     *
+     * @param listener the listener to remove
+     * @return a future to be completed once the listener has been removed
+     */
+    CompletableFuture<Void> removeListener(EventListener<LeadershipEvent> listener);
+
+    /**
+     * Returns a publisher of leadership changes.
+     * <p>
+     * Each subscriber opens its own event stream, and the server only sends as many events as the
+     * subscriber has requested.
+     *
+     * @return the event publisher
+     */
+    Flow.Publisher<LeadershipEvent> events();
+
+    @Override
+    default LeaderElection sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    LeaderElection sync(Duration operationTimeout);
+
+}
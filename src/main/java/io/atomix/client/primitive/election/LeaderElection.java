@@ -0,0 +1,78 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.election;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.event.EventListener;
+
+/**
+ * Leader election.
+ */
+public interface LeaderElection extends SyncPrimitive {
+
+    /**
+     * Enters the given candidate into the election.
+     *
+     * @param candidate the candidate to enter
+     * @return the resulting leadership
+     */
+    Leadership enter(String candidate);
+
+    /**
+     * Withdraws the given candidate from the election.
+     *
+     * @param candidate the candidate to withdraw
+     * @return the resulting leadership
+     */
+    Leadership withdraw(String candidate);
+
+    /**
+     * Makes the given candidate the leader.
+     *
+     * @param candidate the candidate to anoint
+     * @return the resulting leadership
+     */
+    Leadership anoint(String candidate);
+
+    /**
+     * Moves the given candidate to the top of the candidate list.
+     *
+     * @param candidate the candidate to promote
+     * @return the resulting leadership
+     */
+    Leadership promote(String candidate);
+
+    /**
+     * Removes the given candidate from the election.
+     *
+     * @param candidate the candidate to evict
+     * @return the resulting leadership
+     */
+    Leadership evict(String candidate);
+
+    /**
+     * Returns the current leadership.
+     *
+     * @return the current leadership
+     */
+    Leadership getLeadership();
+
+    /**
+     * Adds a listener for leadership changes.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(EventListener<LeadershipEvent> listener);
+
+    /**
+     * Removes a listener for leadership changes.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(EventListener<LeadershipEvent> listener);
+
+    @Override
+    AsyncLeaderElection async();
+
+}
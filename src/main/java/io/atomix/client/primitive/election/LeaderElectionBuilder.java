@@ -0,0 +1,35 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.election;
+
+import io.atomix.api.primitive.election.LeaderElectionServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.election.impl.DefaultAsyncLeaderElection;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder for {@link AsyncLeaderElection}.
+ */
+public class LeaderElectionBuilder extends PrimitiveBuilder<LeaderElectionBuilder, AsyncLeaderElection> {
+
+    public LeaderElectionBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.ELECTION, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncLeaderElection> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncLeaderElection(
+                getPrimitiveId(),
+                LeaderElectionServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public LeaderElection build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+}
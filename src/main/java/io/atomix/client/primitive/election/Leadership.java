@@ -0,0 +1,53 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.election;
+
+import java.util.List;
+
+/**
+ * Leadership term of an election.
+ */
+public final class Leadership {
+    private final String leader;
+    private final List<String> candidates;
+    private final long term;
+
+    public Leadership(String leader, List<String> candidates, long term) {
+        this.leader = leader;
+        this.candidates = List.copyOf(candidates);
+        this.term = term;
+    }
+
+    /**
+     * Returns the current leader.
+     *
+     * @return the current leader, or {@code null} if there is no leader
+     */
+    public String leader() {
+        return leader;
+    }
+
+    /**
+     * Returns the candidates in priority order.
+     *
+     * @return the candidates
+     */
+    public List<String> candidates() {
+        return candidates;
+    }
+
+    /**
+     * Returns the term number.
+     *
+     * @return the term number
+     */
+    public long term() {
+        return term;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{leader=" + leader + ", candidates=" + candidates + ", term=" + term + "}";
+    }
+}
@@ -0,0 +1,29 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.election;
+
+/**
+ * Leadership change event.
+ */
+public final class LeadershipEvent {
+    private final Leadership leadership;
+
+    public LeadershipEvent(Leadership leadership) {
+        this.leadership = leadership;
+    }
+
+    /**
+     * Returns the new leadership.
+     *
+     * @return the new leadership
+     */
+    public Leadership leadership() {
+        return leadership;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{leadership=" + leadership + "}";
+    }
+}
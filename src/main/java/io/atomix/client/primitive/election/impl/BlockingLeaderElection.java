@@ -0,0 +1,63 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.election.impl;
+
+import io.atomix.client.primitive.election.AsyncLeaderElection;
+import io.atomix.client.primitive.election.LeaderElection;
+import io.atomix.client.primitive.election.Leadership;
+import io.atomix.client.primitive.election.LeadershipEvent;
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+
+/**
+ * Blocking leader election.
+ */
+public class BlockingLeaderElection extends Synchronous<AsyncLeaderElection> implements LeaderElection {
+
+    public BlockingLeaderElection(AsyncLeaderElection primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public Leadership enter(String candidate) {
+        return complete(async().enter(candidate));
+    }
+
+    @Override
+    public Leadership withdraw(String candidate) {
+        return complete(async().withdraw(candidate));
+    }
+
+    @Override
+    public Leadership anoint(String candidate) {
+        return complete(async().anoint(candidate));
+    }
+
+    @Override
+    public Leadership promote(String candidate) {
+        return complete(async().promote(candidate));
+    }
+
+    @Override
+    public Leadership evict(String candidate) {
+        return complete(async().evict(candidate));
+    }
+
+    @Override
+    public Leadership getLeadership() {
+        return complete(async().getLeadership());
+    }
+
+    @Override
+    public void addListener(EventListener<LeadershipEvent> listener) {
+        complete(async().addListener(listener));
+    }
+
+    @Override
+    public void removeListener(EventListener<LeadershipEvent> listener) {
+        complete(async().removeListener(listener));
+    }
+}
@@ -0,0 +1,151 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.election.impl;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.election.AnointRequest;
+import io.atomix.api.primitive.election.AnointResponse;
+import io.atomix.api.primitive.election.EnterRequest;
+import io.atomix.api.primitive.election.EnterResponse;
+import io.atomix.api.primitive.election.EventsRequest;
+import io.atomix.api.primitive.election.EventsResponse;
+import io.atomix.api.primitive.election.EvictRequest;
+import io.atomix.api.primitive.election.EvictResponse;
+import io.atomix.api.primitive.election.GetTermRequest;
+import io.atomix.api.primitive.election.GetTermResponse;
+import io.atomix.api.primitive.election.LeaderElectionServiceGrpc;
+import io.atomix.api.primitive.election.PromoteRequest;
+import io.atomix.api.primitive.election.PromoteResponse;
+import io.atomix.api.primitive.election.Term;
+import io.atomix.api.primitive.election.WithdrawRequest;
+import io.atomix.api.primitive.election.WithdrawResponse;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.election.AsyncLeaderElection;
+import io.atomix.client.primitive.election.LeaderElection;
+import io.atomix.client.primitive.election.Leadership;
+import io.atomix.client.primitive.election.LeadershipEvent;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.EventStream;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Default asynchronous leader election.
+ */
+public class DefaultAsyncLeaderElection
+        extends AbstractAsyncPrimitive<LeaderElectionServiceGrpc.LeaderElectionServiceStub>
+        implements AsyncLeaderElection {
+    private final EventStream<EventsResponse, LeadershipEvent> events;
+
+    public DefaultAsyncLeaderElection(
+            PrimitiveId id, LeaderElectionServiceGrpc.LeaderElectionServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.ELECTION, service, context);
+        this.events = new EventStream<>(
+                observer -> stream((stub, o) -> stub.events(EventsRequest.newBuilder()
+                        .setHeaders(headers())
+                        .build(), o), observer),
+                this::toEvent,
+                context.listenerExecutor(),
+                context.timer());
+    }
+
+    @Override
+    public LeaderElection sync(Duration operationTimeout) {
+        return new BlockingLeaderElection(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Leadership> enter(String candidate) {
+        return this.<EnterResponse>execute((service, observer) -> service.enter(EnterRequest.newBuilder()
+                .setHeaders(headers())
+                .setCandidateId(candidate)
+                .build(), observer))
+                .thenApply(response -> toLeadership(response.getTerm()));
+    }
+
+    @Override
+    public CompletableFuture<Leadership> withdraw(String candidate) {
+        return this.<WithdrawResponse>execute((service, observer) -> service.withdraw(WithdrawRequest.newBuilder()
+                .setHeaders(headers())
+                .setCandidateId(candidate)
+                .build(), observer))
+                .thenApply(response -> toLeadership(response.getTerm()));
+    }
+
+    @Override
+    public CompletableFuture<Leadership> anoint(String candidate) {
+        return this.<AnointResponse>execute((service, observer) -> service.anoint(AnointRequest.newBuilder()
+                .setHeaders(headers())
+                .setCandidateId(candidate)
+                .build(), observer))
+                .thenApply(response -> toLeadership(response.getTerm()));
+    }
+
+    @Override
+    public CompletableFuture<Leadership> promote(String candidate) {
+        return this.<PromoteResponse>execute((service, observer) -> service.promote(PromoteRequest.newBuilder()
+                .setHeaders(headers())
+                .setCandidateId(candidate)
+                .build(), observer))
+                .thenApply(response -> toLeadership(response.getTerm()));
+    }
+
+    @Override
+    public CompletableFuture<Leadership> evict(String candidate) {
+        return this.<EvictResponse>execute((service, observer) -> service.evict(EvictRequest.newBuilder()
+                .setHeaders(headers())
+                .setCandidateId(candidate)
+                .build(), observer))
+                .thenApply(response -> toLeadership(response.getTerm()));
+    }
+
+    @Override
+    public CompletableFuture<Leadership> getLeadership() {
+        return this.<GetTermResponse>execute((service, observer) -> service.getTerm(GetTermRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> toLeadership(response.getTerm()));
+    }
+
+    @Override
+    public CompletableFuture<Void> addListener(EventListener<LeadershipEvent> listener) {
+        return events.addListener(listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeListener(EventListener<LeadershipEvent> listener) {
+        return events.removeListener(listener);
+    }
+
+    @Override
+    public Flow.Publisher<LeadershipEvent> events() {
+        return events.publisher();
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        events.close();
+        return super.close();
+    }
+
+    private LeadershipEvent toEvent(EventsResponse response) {
+        switch (response.getEvent().getType()) {
+            case CHANGED:
+                return new LeadershipEvent(toLeadership(response.getEvent().getTerm()));
+            default:
+                return null;
+        }
+    }
+
+    private static Leadership toLeadership(Term term) {
+        return new Leadership(
+                !term.getLeader().isEmpty() ? term.getLeader() : null,
+                term.getCandidatesList(),
+                term.getMeta().getRevision());
+    }
+}
@@ -0,0 +1,415 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.impl;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.RequestHeaders;
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.protocol.Partition;
+import io.atomix.client.protocol.PartitionRouter;
+import io.atomix.client.protocol.PrimitivePartitions;
+import io.atomix.client.utils.concurrent.FutureObserver;
+import io.atomix.client.utils.concurrent.Futures;
+import io.grpc.Context;
+import io.grpc.Status;
+import io.grpc.stub.AbstractStub;
+import io.grpc.stub.StreamObserver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Base class for primitives backed by an asynchronous gRPC stub.
+ *
+ * @param <S> the service stub type
+ */
+public abstract class AbstractAsyncPrimitive<S extends AbstractStub<S>> implements AsyncPrimitive {
+    private final PrimitiveId id;
+    private final PrimitiveType type;
+    private final S service;
+    private final PrimitiveContext context;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final Set<Context.CancellableContext> streams = ConcurrentHashMap.newKeySet();
+
+    protected AbstractAsyncPrimitive(PrimitiveId id, PrimitiveType type, S service, PrimitiveContext context) {
+        this.id = id;
+        this.type = type;
+        this.service = service;
+        this.context = context;
+    }
+
+    @Override
+    public String name() {
+        return id.getName();
+    }
+
+    @Override
+    public PrimitiveType type() {
+        return type;
+    }
+
+    /**
+     * Returns the primitive ID.
+     *
+     * @return the primitive ID
+     */
+    protected PrimitiveId id() {
+        return id;
+    }
+
+    /**
+     * Returns the primitive context.
+     *
+     * @return the primitive context
+     */
+    protected PrimitiveContext context() {
+        return context;
+    }
+
+    /**
+     * Returns the headers for a new request.
+     *
+     * @return the request headers
+     */
+    protected RequestHeaders headers() {
+        return RequestHeaders.newBuilder()
+                .setPrimitiveId(id)
+                .build();
+    }
+
+    /**
+     * Executes a unary call on the service.
+     * <p>
+     * The call is pipelined within the partition's request window. It is not retried if it fails with
+     * {@code UNAVAILABLE}, since it may have been applied, but the primitive's partitions are refreshed
+     * so that later calls follow the primitive if it has moved.
+     *
+     * @param callback the callback that invokes the service
+     * @param <T>      the response type
+     * @return a future to be completed on the primitive executor with the response
+     */
+    protected <T> CompletableFuture<T> execute(BiConsumer<S, StreamObserver<T>> callback) {
+        return execute(id.getName(), callback, context.partition().requestTimeout());
+    }
+
+    /**
+     * Executes a unary call on the service with the given deadline.
+     * <p>
+     * The call is pipelined within the partition's request window and cancelled if it is not
+     * complete within the timeout. A zero timeout disables the deadline.
+     *
+     * @param callback the callback that invokes the service
+     * @param timeout  the call timeout
+     * @param <T>      the response type
+     * @return a future to be completed on the primitive executor with the response
+     */
+    protected <T> CompletableFuture<T> execute(BiConsumer<S, StreamObserver<T>> callback, Duration timeout) {
+        return execute(id.getName(), callback, timeout);
+    }
+
+    /**
+     * Executes a unary call for the given key on the partition owning the key.
+     *
+     * @param key      the key by which to route the call
+     * @param callback the callback that invokes the service
+     * @param <T>      the response type
+     * @return a future to be completed on the primitive executor with the response
+     */
+    protected <T> CompletableFuture<T> execute(String key, BiConsumer<S, StreamObserver<T>> callback) {
+        return execute(key, callback, context.partition().requestTimeout());
+    }
+
+    private <T> CompletableFuture<T> execute(String key, BiConsumer<S, StreamObserver<T>> callback, Duration timeout) {
+        S stub = route(key);
+        CompletableFuture<T> future = context.partitions().execute(key, partition -> partition.execute(() -> {
+            CompletableFuture<T> response = new CompletableFuture<>();
+            callback.accept(stub, new FutureObserver<>(response));
+            return response;
+        }, timeout));
+        return Futures.asyncFuture(future, context.executor());
+    }
+
+    /**
+     * Executes an idempotent unary read on the service.
+     * <p>
+     * The read is pipelined within the partition's request window and may be hedged on another
+     * connection according to the client's hedging policy, so it must not modify the primitive.
+     *
+     * @param callback the callback that invokes the service
+     * @param <T>      the response type
+     * @return a future to be completed on the primitive executor with the response
+     */
+    protected <T> CompletableFuture<T> read(BiConsumer<S, StreamObserver<T>> callback) {
+        return read(id.getName(), callback);
+    }
+
+    /**
+     * Executes an idempotent unary read for the given key on the partition owning the key.
+     * <p>
+     * The read is retried once on the key's new partition if it fails because the key has moved.
+     *
+     * @param key      the key by which to route the read
+     * @param callback the callback that invokes the service
+     * @param <T>      the response type
+     * @return a future to be completed on the primitive executor with the response
+     */
+    protected <T> CompletableFuture<T> read(String key, BiConsumer<S, StreamObserver<T>> callback) {
+        S stub = route(key);
+        CompletableFuture<T> future = context.partitions().read(key, partition -> partition.read(attempt -> {
+            CompletableFuture<T> response = new CompletableFuture<>();
+            callback.accept(attempt == 0 ? stub : stub.withOption(Partition.ATTEMPT, attempt),
+                    new FutureObserver<>(response));
+            return response;
+        }));
+        return Futures.asyncFuture(future, context.executor());
+    }
+
+    /**
+     * Executes a unary call on every partition of the primitive.
+     * <p>
+     * The calls are sent to all the partitions concurrently, so the operation takes about as long as
+     * the slowest partition rather than the sum of them.
+     *
+     * @param callback the callback that invokes the service
+     * @param <T>      the response type
+     * @return a future to be completed on the primitive executor with the responses of all partitions
+     */
+    protected <T> CompletableFuture<List<T>> executeOnAll(BiConsumer<S, StreamObserver<T>> callback) {
+        return scatter(partition -> partition.execute(() -> {
+            CompletableFuture<T> response = new CompletableFuture<>();
+            callback.accept(service.withOption(PrimitivePartitions.PARTITION, partition),
+                    new FutureObserver<>(response));
+            return response;
+        }), () -> execute(callback));
+    }
+
+    /**
+     * Executes an idempotent unary read on every partition of the primitive.
+     * <p>
+     * The reads are sent to all the partitions concurrently and each may be hedged according to the
+     * client's hedging policy.
+     *
+     * @param callback the callback that invokes the service
+     * @param <T>      the response type
+     * @return a future to be completed on the primitive executor with the responses of all partitions
+     */
+    protected <T> CompletableFuture<List<T>> readAll(BiConsumer<S, StreamObserver<T>> callback) {
+        return scatter(partition -> partition.read(attempt -> {
+            CompletableFuture<T> response = new CompletableFuture<>();
+            S stub = service.withOption(PrimitivePartitions.PARTITION, partition);
+            callback.accept(attempt == 0 ? stub : stub.withOption(Partition.ATTEMPT, attempt),
+                    new FutureObserver<>(response));
+            return response;
+        }), () -> read(callback));
+    }
+
+    private <T> CompletableFuture<List<T>> scatter(
+            Function<Partition, CompletableFuture<T>> call, Supplier<CompletableFuture<T>> single) {
+        PartitionRouter router = context.partitions().router();
+        if (router.size() == 1) {
+            return single.get().thenApply(List::of);
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(router.size());
+        for (Partition partition : router.partitions()) {
+            futures.add(call.apply(partition));
+        }
+        CompletableFuture<List<T>> future = new CompletableFuture<>();
+        for (CompletableFuture<T> response : futures) {
+            response.whenComplete((result, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                }
+            });
+            future.whenComplete((result, error) -> response.cancel(false));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).thenRun(() -> {
+            List<T> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<T> response : futures) {
+                results.add(response.join());
+            }
+            future.complete(results);
+        });
+        return Futures.asyncFuture(future, context.executor());
+    }
+
+    /**
+     * Applies an operation to each of the given keys.
+     * <p>
+     * Keys are grouped by the partition that owns them and the groups are processed in parallel.
+     * Within a group up to the partition's current request limit of operations are pipelined at
+     * once, so the batch completes in about the time the slowest partition takes for its share. The
+     * returned future fails with the first failed operation, which cancels the operations still in
+     * flight, and cancelling it cancels them too.
+     *
+     * @param keys      the keys to which to apply the operation
+     * @param operation applies the operation to a key and returns a future to be completed with its
+     *                  result
+     * @param <V>       the result type
+     * @return a future to be completed on the primitive executor with the non-null results by key
+     */
+    protected <V> CompletableFuture<Map<String, V>> executeAll(
+            Collection<String> keys, Function<String, CompletableFuture<V>> operation) {
+        Map<String, V> results = new ConcurrentHashMap<>();
+        return Futures.asyncFuture(bulk(keys, operation, results).thenApply(result -> results), context.executor());
+    }
+
+    /**
+     * Applies an operation to each of the given keys, discarding the results.
+     * <p>
+     * Keys are grouped and pipelined as by {@link #executeAll(Collection, Function)}, but no results are
+     * collected, which keeps bulk writes from allocating a result per key.
+     *
+     * @param keys      the keys to which to apply the operation
+     * @param operation applies the operation to a key and returns a future to be completed once it's done
+     * @param <V>       the result type
+     * @return a future to be completed on the primitive executor once the operation has been applied to
+     * every key
+     */
+    protected <V> CompletableFuture<Void> applyAll(
+            Collection<String> keys, Function<String, CompletableFuture<V>> operation) {
+        return Futures.asyncFuture(bulk(keys, operation, null), context.executor());
+    }
+
+    private <V> CompletableFuture<Void> bulk(
+            Collection<String> keys, Function<String, CompletableFuture<V>> operation, Map<String, V> results) {
+        PartitionRouter router = context.partitions().router();
+        Map<Partition, List<String>> groups = new HashMap<>();
+        for (String key : keys) {
+            groups.computeIfAbsent(router.route(key), partition -> new ArrayList<>()).add(key);
+        }
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        CompletableFuture<?>[] operations = groups.entrySet().stream()
+                .map(group -> new BulkOperation<>(
+                        group.getValue().iterator(),
+                        operation,
+                        results,
+                        group.getKey().window().limit())
+                        .start())
+                .toArray(CompletableFuture[]::new);
+        for (CompletableFuture<?> group : operations) {
+            group.whenComplete((result, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                }
+            });
+            future.whenComplete((result, error) -> group.cancel(false));
+        }
+        CompletableFuture.allOf(operations).thenRun(() -> future.complete(null));
+        return future;
+    }
+
+    /**
+     * Returns the stub for calls routed by the given key.
+     * <p>
+     * The primitive's own stub is routed by the primitive name, which is equivalent while the
+     * primitive has a single partition.
+     */
+    private S route(String key) {
+        return context.partitions().router().size() == 1 || key.equals(id.getName())
+                ? service
+                : service.withOption(PrimitivePartitions.ROUTING_KEY, key);
+    }
+
+    /**
+     * Opens a server stream on the service.
+     * <p>
+     * The stream is cancelled when the primitive is closed, if it's not cancelled before.
+     *
+     * @param callback the callback that invokes the service
+     * @param observer the stream observer
+     * @param <T>      the response type
+     * @return a handle that cancels the stream when run
+     */
+    protected <T> Runnable stream(BiConsumer<S, StreamObserver<T>> callback, StreamObserver<T> observer) {
+        Context.CancellableContext streamContext = Context.current().withCancellation();
+        streams.add(streamContext);
+        streamContext.addListener(cancelled -> streams.remove(streamContext), Runnable::run);
+        if (closed.get()) {
+            streamContext.cancel(null);
+        }
+        streamContext.run(() -> callback.accept(service, observer));
+        return () -> streamContext.cancel(null);
+    }
+
+    /**
+     * Returns openers of a server stream on each partition of the primitive.
+     * <p>
+     * The openers are meant to be passed to an {@link EventPublisher}, which opens the stream on each
+     * partition only once the stream on the previous partition has completed.
+     *
+     * @param callback the callback that invokes the service
+     * @param <T>      the response type
+     * @return a function per partition that opens the stream with the given observer and returns its
+     * cancel handle
+     */
+    protected <T> List<Function<StreamObserver<T>, Runnable>> streamAll(BiConsumer<S, StreamObserver<T>> callback) {
+        PartitionRouter router = context.partitions().router();
+        if (router.size() == 1) {
+            return List.of(observer -> stream(callback, observer));
+        }
+        List<Function<StreamObserver<T>, Runnable>> openers = new ArrayList<>(router.size());
+        for (Partition partition : router.partitions()) {
+            S stub = service.withOption(PrimitivePartitions.PARTITION, partition);
+            openers.add(observer -> stream((s, o) -> callback.accept(stub, o), observer));
+        }
+        return openers;
+    }
+
+    /**
+     * Returns a function that maps failures with the given status code to the given value.
+     * <p>
+     * The function is meant to be passed to {@link CompletableFuture#exceptionally(Function)}; failures
+     * with any other status are rethrown.
+     *
+     * @param code  the status code to map
+     * @param value the value to return for the given status
+     * @param <T>   the value type
+     * @return the fallback function
+     */
+    protected static <T> Function<Throwable, T> orElse(Status.Code code, T value) {
+        return error -> {
+            if (Status.fromThrowable(error).getCode() == code) {
+                return value;
+            }
+            throw error instanceof CompletionException ? (CompletionException) error : new CompletionException(error);
+        };
+    }
+
+    /**
+     * Closes the primitive handle, cancelling its open server streams and releasing its reference to
+     * the primitive's partitions.
+     * <p>
+     * Closing a handle more than once has no further effect.
+     *
+     * @return a future to be completed once the handle has been closed
+     */
+    @Override
+    public CompletableFuture<Void> close() {
+        if (closed.compareAndSet(false, true)) {
+            for (Context.CancellableContext stream : streams) {
+                stream.cancel(null);
+            }
+            context.partitions().release();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{name=" + id.getName() + ", type=" + type + "}";
+    }
+}
@@ -0,0 +1,238 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.impl;
+
+import io.atomix.client.primitive.PrimitiveException;
+
+import java.lang.ref.Cleaner;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Iterator over the items of a publisher that blocks the calling thread until the next item arrives.
+ * <p>
+ * The publisher is subscribed to on the first call to {@link #hasNext()}. At most {@code prefetch}
+ * items are requested ahead of the consumer, and more are requested once half of them have been
+ * consumed, so only a bounded number of items is ever buffered in the client. The subscription is
+ * cancelled when the iterator is closed. As a backstop, an iterator abandoned before it is exhausted
+ * without being closed has its subscription cancelled once it becomes unreachable, but that may take
+ * arbitrarily long, so callers should always close it.
+ *
+ * @param <E> the item type
+ */
+public final class BlockingIterator<E> implements Iterator<E>, AutoCloseable {
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private final Flow.Publisher<E> publisher;
+    private final Buffer<E> buffer;
+    private final Cleaner.Cleanable cleanable;
+    private boolean subscribed;
+
+    /**
+     * Creates a new blocking iterator.
+     *
+     * @param publisher the publisher of the items
+     * @param prefetch  the maximum number of items to request ahead of the consumer
+     * @param timeout   the maximum time to wait for each item
+     */
+    public BlockingIterator(Flow.Publisher<E> publisher, int prefetch, Duration timeout) {
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch must be positive");
+        }
+        this.publisher = publisher;
+        this.buffer = new Buffer<>(prefetch, timeout.toNanos());
+        this.cleanable = CLEANER.register(this, buffer::cancel);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!subscribed) {
+            subscribed = true;
+            publisher.subscribe(buffer);
+        }
+        return buffer.await();
+    }
+
+    @Override
+    public E next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return buffer.poll();
+    }
+
+    @Override
+    public void close() {
+        cleanable.clean();
+    }
+
+    /**
+     * Subscriber buffering the prefetched items.
+     * <p>
+     * The buffer must not refer to the iterator, or the iterator would never become unreachable.
+     */
+    private static final class Buffer<E> implements Flow.Subscriber<E> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private final Queue<E> items = new ArrayDeque<>();
+        private final int prefetch;
+        private final int limit;
+        private final long timeoutNanos;
+        private Flow.Subscription subscription;
+        private int consumed;
+        private boolean completed;
+        private Throwable error;
+        private boolean cancelled;
+
+        Buffer(int prefetch, long timeoutNanos) {
+            this.prefetch = prefetch;
+            this.limit = prefetch - (prefetch >> 1);
+            this.timeoutNanos = timeoutNanos;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            boolean active;
+            lock.lock();
+            try {
+                active = !cancelled;
+                if (active) {
+                    this.subscription = subscription;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (active) {
+                subscription.request(prefetch);
+            } else {
+                subscription.cancel();
+            }
+        }
+
+        @Override
+        public void onNext(E item) {
+            lock.lock();
+            try {
+                if (!cancelled) {
+                    items.add(item);
+                    changed.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            lock.lock();
+            try {
+                error = throwable;
+                changed.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            lock.lock();
+            try {
+                completed = true;
+                changed.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Waits for the next item or the end of the items.
+         *
+         * @return whether an item is available
+         */
+        boolean await() {
+            lock.lock();
+            try {
+                long remaining = timeoutNanos;
+                while (items.isEmpty() && !completed && error == null && !cancelled) {
+                    if (remaining <= 0) {
+                        cancel();
+                        throw new PrimitiveException.Timeout();
+                    }
+                    try {
+                        remaining = changed.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        cancel();
+                        throw new PrimitiveException.Interrupted();
+                    }
+                }
+                if (!items.isEmpty()) {
+                    return true;
+                }
+                if (error != null) {
+                    if (error instanceof RuntimeException) {
+                        throw (RuntimeException) error;
+                    }
+                    throw new PrimitiveException(error);
+                }
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Takes the next item, requesting more from the publisher once enough have been consumed.
+         *
+         * @return the next item
+         */
+        E poll() {
+            Flow.Subscription subscription = null;
+            E item;
+            lock.lock();
+            try {
+                item = items.remove();
+                if (++consumed == limit) {
+                    consumed = 0;
+                    subscription = this.subscription;
+                }
+            } finally {
+                lock.unlock();
+            }
+            if (subscription != null) {
+                subscription.request(limit);
+            }
+            return item;
+        }
+
+        /**
+         * Cancels the subscription and drops the buffered items.
+         */
+        void cancel() {
+            Flow.Subscription subscription;
+            lock.lock();
+            try {
+                if (cancelled) {
+                    return;
+                }
+                cancelled = true;
+                items.clear();
+                subscription = this.subscription;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+}
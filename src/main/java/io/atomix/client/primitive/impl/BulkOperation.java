@@ -0,0 +1,156 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Operation applied to a group of keys owned by the same partition.
+ * <p>
+ * At most {@code parallelism} operations are outstanding at once and the next key is started as each
+ * one completes, so a large group is pipelined without overflowing the partition's request queue.
+ * The group fails with the first failed operation, after which no further keys are started and the
+ * operations still outstanding are cancelled. Cancelling the group does the same.
+ *
+ * @param <V> the operation result type
+ */
+final class BulkOperation<V> {
+    private final Iterator<String> keys;
+    private final Function<String, CompletableFuture<V>> operation;
+    private final Map<String, V> results;  // null if the results are discarded
+    private final int parallelism;
+    private final CompletableFuture<Void> future = new CompletableFuture<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final Set<CompletableFuture<V>> outstanding = new HashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private int inFlight;
+
+    BulkOperation(
+            Iterator<String> keys,
+            Function<String, CompletableFuture<V>> operation,
+            Map<String, V> results,
+            int parallelism) {
+        this.keys = keys;
+        this.operation = operation;
+        this.results = results;
+        this.parallelism = Math.max(parallelism, 1);
+    }
+
+    /**
+     * Starts the operation.
+     *
+     * @return a future to be completed once the operation has been applied to every key
+     */
+    CompletableFuture<Void> start() {
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                cancel();
+            }
+        });
+        drain();
+        return future;
+    }
+
+    private void cancel() {
+        List<CompletableFuture<V>> operations;
+        lock.lock();
+        try {
+            operations = new ArrayList<>(outstanding);
+            outstanding.clear();
+        } finally {
+            lock.unlock();
+        }
+        operations.forEach(operation -> operation.cancel(false));
+    }
+
+    private void drain() {
+        // Operations that complete synchronously re-enter here; loop instead of recursing.
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        do {
+            for (;;) {
+                String key = next();
+                if (key == null) {
+                    break;
+                }
+                CompletableFuture<V> result;
+                try {
+                    result = operation.apply(key);
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                    return;
+                }
+                lock.lock();
+                try {
+                    if (!result.isDone()) {
+                        outstanding.add(result);
+                    }
+                } finally {
+                    lock.unlock();
+                }
+                result.whenComplete((value, error) -> complete(key, result, value, error));
+                if (future.isDone()) {
+                    // The group failed while the operation was being started.
+                    cancel();
+                }
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    /**
+     * Returns the next key to start, or null if none can be started now, completing the group once
+     * every key is done.
+     */
+    private String next() {
+        boolean done;
+        lock.lock();
+        try {
+            if (future.isDone() || inFlight >= parallelism) {
+                return null;
+            }
+            if (keys.hasNext()) {
+                inFlight++;
+                return keys.next();
+            }
+            done = inFlight == 0;
+        } finally {
+            lock.unlock();
+        }
+        // Complete the group outside the lock, since completion runs the caller's callbacks.
+        if (done) {
+            future.complete(null);
+        }
+        return null;
+    }
+
+    private void complete(String key, CompletableFuture<V> result, V value, Throwable error) {
+        lock.lock();
+        try {
+            outstanding.remove(result);
+            if (error == null) {
+                inFlight--;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (error != null) {
+            future.completeExceptionally(error);
+            return;
+        }
+        if (value != null && results != null) {
+            results.put(key, value);
+        }
+        drain();
+    }
+}
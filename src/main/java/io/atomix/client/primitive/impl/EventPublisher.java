@@ -0,0 +1,236 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.impl;
+
+import io.atomix.client.utils.concurrent.OrderedExecutor;
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Publisher of the events of a primitive's server stream.
+ * <p>
+ * Each subscriber gets its own server stream. Inbound flow control on the stream is driven by the
+ * subscriber's demand, so a slow subscriber causes the server to stop sending rather than events
+ * piling up in the client.
+ * <p>
+ * A publisher may also be made of a sequence of finite streams, e.g. one per partition, in which case
+ * each stream is opened only once the previous one has completed.
+ *
+ * @param <R> the stream response type
+ * @param <E> the event type
+ */
+public class EventPublisher<R, E> implements Flow.Publisher<E> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventPublisher.class);
+
+    private final List<Function<StreamObserver<R>, Runnable>> openers;
+    private final Function<R, E> converter;
+    private final Executor executor;
+
+    /**
+     * Creates a new event publisher.
+     *
+     * @param opener    opens the server stream with the given observer and returns its cancel handle
+     * @param converter converts stream responses to events; {@code null} events are dropped
+     * @param executor  the executor on which to signal subscribers
+     */
+    public EventPublisher(Function<StreamObserver<R>, Runnable> opener, Function<R, E> converter, Executor executor) {
+        this(List.of(opener), converter, executor);
+    }
+
+    /**
+     * Creates a new publisher of the responses of a sequence of streams.
+     *
+     * @param openers   open the server streams in order with the given observer and return their cancel
+     *                  handles
+     * @param converter converts stream responses to events; {@code null} events are dropped
+     * @param executor  the executor on which to signal subscribers
+     */
+    public EventPublisher(
+            List<Function<StreamObserver<R>, Runnable>> openers, Function<R, E> converter, Executor executor) {
+        if (openers.isEmpty()) {
+            throw new IllegalArgumentException("openers cannot be empty");
+        }
+        this.openers = List.copyOf(openers);
+        this.converter = converter;
+        this.executor = executor;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super E> subscriber) {
+        new Subscription(requireNonNull(subscriber, "subscriber cannot be null")).open();
+    }
+
+    /**
+     * Subscription to the server streams of a single subscriber.
+     * <p>
+     * All state is confined to a per-subscription ordered executor, which also serializes the signals
+     * to the subscriber. Messages are only requested from the stream for demand that is not already
+     * covered by buffered events and messages in flight.
+     */
+    private class Subscription implements Flow.Subscription, ClientResponseObserver<Object, R> {
+        private final Flow.Subscriber<? super E> subscriber;
+        private final Executor executor = new OrderedExecutor(EventPublisher.this.executor);
+        private final Queue<E> buffer = new ArrayDeque<>();
+        private volatile ClientCallStreamObserver<Object> requestStream;
+        private Runnable cancel;
+        private int stream;
+        private long demand;
+        private long inFlight;
+        private boolean completed;
+        private boolean done;
+
+        Subscription(Flow.Subscriber<? super E> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        void open() {
+            executor.execute(() -> {
+                try {
+                    subscriber.onSubscribe(this);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Subscriber failed", e);
+                    done = true;
+                }
+                if (!done) {
+                    cancel = openers.get(0).apply(this);
+                    drain();
+                }
+            });
+        }
+
+        @Override
+        public void request(long n) {
+            executor.execute(() -> {
+                if (done) {
+                    return;
+                }
+                if (n <= 0) {
+                    terminate(new IllegalArgumentException("non-positive subscription request: " + n));
+                    return;
+                }
+                demand += n;
+                if (demand < 0) {
+                    demand = Long.MAX_VALUE;
+                }
+                drain();
+            });
+        }
+
+        @Override
+        public void cancel() {
+            executor.execute(() -> {
+                if (!done) {
+                    done = true;
+                    buffer.clear();
+                    cancelStream();
+                }
+            });
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<Object> requestStream) {
+            requestStream.disableAutoInboundFlowControl();
+            this.requestStream = requestStream;
+        }
+
+        @Override
+        public void onNext(R response) {
+            executor.execute(() -> {
+                inFlight = Math.max(inFlight - 1, 0);
+                if (done) {
+                    return;
+                }
+                E event = converter.apply(response);
+                if (event != null) {
+                    buffer.add(event);
+                }
+                drain();
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            executor.execute(() -> {
+                // Releases the stream's context even though the call is already over.
+                cancelStream();
+                if (!done) {
+                    terminate(t);
+                }
+            });
+        }
+
+        @Override
+        public void onCompleted() {
+            executor.execute(() -> {
+                cancelStream();
+                if (!done && ++stream < openers.size()) {
+                    // Messages requested from the completed stream will never arrive.
+                    requestStream = null;
+                    inFlight = 0;
+                    cancel = openers.get(stream).apply(this);
+                } else {
+                    completed = true;
+                }
+                drain();
+            });
+        }
+
+        private void drain() {
+            while (!done && demand > 0 && !buffer.isEmpty()) {
+                demand--;
+                try {
+                    subscriber.onNext(buffer.poll());
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Subscriber failed", e);
+                    done = true;
+                    buffer.clear();
+                    cancelStream();
+                }
+            }
+            if (done) {
+                return;
+            }
+            if (completed) {
+                if (buffer.isEmpty()) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+                return;
+            }
+            ClientCallStreamObserver<Object> requestStream = this.requestStream;
+            long wanted = demand - buffer.size() - inFlight;
+            if (wanted > 0 && requestStream != null) {
+                int count = (int) Math.min(wanted, Integer.MAX_VALUE);
+                inFlight += count;
+                requestStream.request(count);
+            }
+        }
+
+        private void terminate(Throwable error) {
+            done = true;
+            buffer.clear();
+            cancelStream();
+            subscriber.onError(error);
+        }
+
+        private void cancelStream() {
+            if (cancel != null) {
+                cancel.run();
+                cancel = null;
+            }
+        }
+    }
+}
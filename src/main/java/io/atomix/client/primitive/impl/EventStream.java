@@ -0,0 +1,272 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.impl;
+
+import io.atomix.client.primitive.PrimitiveException;
+import io.atomix.client.utils.concurrent.Futures;
+import io.atomix.client.utils.concurrent.Timer;
+import io.atomix.client.utils.event.EventListener;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Event stream shared by all the listeners registered on a primitive.
+ * <p>
+ * The underlying server stream is opened when the first listener is added and cancelled when the
+ * last listener is removed. Events are delivered to listeners in order on the listener executor.
+ * At most {@link #WINDOW} events are requested from the server ahead of the listeners, so listeners
+ * that fall behind slow down the stream instead of buffering events without bound.
+ * <p>
+ * If the stream fails or is completed by the server while listeners remain, e.g. because the broker
+ * or driver restarted, it's reopened after a backoff that doubles with each consecutive failure.
+ * Events published while the stream is down are not replayed.
+ *
+ * @param <R> the stream response type
+ * @param <E> the event type
+ */
+public class EventStream<R, E> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventStream.class);
+
+    /**
+     * The maximum number of events requested ahead of the listeners.
+     */
+    public static final int WINDOW = 64;
+
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(100);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+
+    private final EventPublisher<R, E> publisher;
+    private final Timer timer;
+    private final Set<EventListener<E>> listeners = new CopyOnWriteArraySet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private Subscriber subscriber;
+    private Timer.Timeout reopen;
+    private long reopens;
+    private Duration backoff = MIN_BACKOFF;
+    private boolean closed;
+
+    /**
+     * Creates a new event stream.
+     *
+     * @param opener    opens the server stream with the given observer and returns its cancel handle
+     * @param converter converts stream responses to events; {@code null} events are dropped
+     * @param executor  the executor on which to call listeners
+     * @param timer     the timer on which to reopen the stream after it fails
+     */
+    public EventStream(
+            Function<StreamObserver<R>, Runnable> opener, Function<R, E> converter, Executor executor, Timer timer) {
+        this.publisher = new EventPublisher<>(opener, converter, executor);
+        this.timer = requireNonNull(timer, "timer cannot be null");
+    }
+
+    /**
+     * Returns a publisher of the stream's events.
+     * <p>
+     * Each subscriber opens its own server stream, independent of the registered listeners.
+     *
+     * @return the event publisher
+     */
+    public Flow.Publisher<E> publisher() {
+        return publisher;
+    }
+
+    /**
+     * Adds a listener, opening the stream if necessary.
+     *
+     * @param listener the listener to add
+     * @return a future to be completed once the listener has been added, or failed with
+     * {@link PrimitiveException.Closed} if the stream has been closed
+     */
+    public CompletableFuture<Void> addListener(EventListener<E> listener) {
+        lock.lock();
+        try {
+            if (closed) {
+                return Futures.exceptionalFuture(new PrimitiveException.Closed());
+            }
+            listeners.add(listener);
+            if (subscriber == null) {
+                cancelReopen();
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Removes a listener, cancelling the stream if it was the last one.
+     *
+     * @param listener the listener to remove
+     * @return a future to be completed once the listener has been removed
+     */
+    public CompletableFuture<Void> removeListener(EventListener<E> listener) {
+        lock.lock();
+        try {
+            if (listeners.remove(listener) && listeners.isEmpty()) {
+                cancel();
+            }
+        } finally {
+            lock.unlock();
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Closes the stream for good, cancelling it and dropping its listeners.
+     */
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            listeners.clear();
+            cancel();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void cancel() {
+        lock.lock();
+        try {
+            cancelReopen();
+            if (subscriber != null) {
+                subscriber.cancel();
+                subscriber = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void open() {
+        subscriber = new Subscriber();
+        publisher.subscribe(subscriber);
+    }
+
+    private void cancelReopen() {
+        reopens++;
+        if (reopen != null) {
+            reopen.cancel();
+            reopen = null;
+        }
+    }
+
+    private void opened() {
+        lock.lock();
+        try {
+            backoff = MIN_BACKOFF;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Schedules the stream to be reopened if it ended while listeners remain.
+     */
+    private void closed(Subscriber subscriber) {
+        lock.lock();
+        try {
+            if (this.subscriber != subscriber) {
+                return;
+            }
+            this.subscriber = null;
+            if (listeners.isEmpty()) {
+                return;
+            }
+            Duration delay = backoff;
+            Duration next = backoff.multipliedBy(2);
+            backoff = next.compareTo(MAX_BACKOFF) < 0 ? next : MAX_BACKOFF;
+            LOGGER.debug("Reopening event stream in {}", delay);
+            long generation = ++reopens;
+            reopen = timer.schedule(() -> reopen(generation), delay);
+        } catch (RejectedExecutionException e) {
+            // The client is closed, so the stream cannot be reopened.
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reopen(long generation) {
+        lock.lock();
+        try {
+            if (reopens != generation) {
+                return;
+            }
+            reopen = null;
+            if (subscriber == null && !listeners.isEmpty()) {
+                open();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private class Subscriber implements Flow.Subscriber<E> {
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+        private boolean received;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+            } else {
+                subscription.request(WINDOW);
+            }
+        }
+
+        @Override
+        public void onNext(E event) {
+            if (!received) {
+                received = true;
+                opened();
+            }
+            for (EventListener<E> listener : listeners) {
+                try {
+                    listener.event(event);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Event listener failed", e);
+                }
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (Status.fromThrowable(t).getCode() != Status.Code.CANCELLED) {
+                LOGGER.warn("Event stream failed", t);
+            }
+            closed(this);
+        }
+
+        @Override
+        public void onComplete() {
+            closed(this);
+        }
+
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription subscription = this.subscription;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+}
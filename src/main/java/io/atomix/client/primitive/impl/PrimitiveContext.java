@@ -0,0 +1,75 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.impl;
+
+import io.atomix.client.protocol.Partition;
+import io.atomix.client.protocol.PrimitivePartitions;
+import io.atomix.client.utils.concurrent.Timer;
+
+import java.util.concurrent.Executor;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Client services shared by a primitive instance.
+ */
+public class PrimitiveContext {
+    private final PrimitivePartitions partitions;
+    private final Executor executor;
+    private final Executor listenerExecutor;
+    private final Timer timer;
+
+    public PrimitiveContext(
+            PrimitivePartitions partitions, Executor executor, Executor listenerExecutor, Timer timer) {
+        this.partitions = requireNonNull(partitions, "partitions cannot be null");
+        this.executor = requireNonNull(executor, "executor cannot be null");
+        this.listenerExecutor = requireNonNull(listenerExecutor, "listenerExecutor cannot be null");
+        this.timer = requireNonNull(timer, "timer cannot be null");
+    }
+
+    /**
+     * Returns the partitions serving the primitive.
+     *
+     * @return the primitive partitions
+     */
+    public PrimitivePartitions partitions() {
+        return partitions;
+    }
+
+    /**
+     * Returns the partition currently serving the primitive.
+     *
+     * @return the primitive partition
+     */
+    public Partition partition() {
+        return partitions.partition();
+    }
+
+    /**
+     * Returns the executor on which the primitive's futures are completed.
+     *
+     * @return the primitive executor
+     */
+    public Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Returns the executor on which the primitive's listeners are called.
+     *
+     * @return the listener executor
+     */
+    public Executor listenerExecutor() {
+        return listenerExecutor;
+    }
+
+    /**
+     * Returns the client's timer.
+     *
+     * @return the timer
+     */
+    public Timer timer() {
+        return timer;
+    }
+}
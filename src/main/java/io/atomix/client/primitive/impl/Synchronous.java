@@ -0,0 +1,144 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.impl;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.PrimitiveException;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.SyncPrimitive;
+
+import java.time.Duration;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Base class for synchronous primitives backed by an asynchronous primitive.
+ * <p>
+ * Operations park the calling thread on the asynchronous primitive's future rather than holding a
+ * monitor or handing off to a blocking stub, so a waiting virtual thread releases its carrier.
+ *
+ * @param <P> the asynchronous primitive type
+ */
+public abstract class Synchronous<P extends AsyncPrimitive> implements SyncPrimitive {
+    private static final int PREFETCH = 128;
+
+    private final P primitive;
+    private final long timeoutMillis;
+
+    protected Synchronous(P primitive, Duration operationTimeout) {
+        this.primitive = primitive;
+        this.timeoutMillis = operationTimeout.toMillis();
+    }
+
+    @Override
+    public String name() {
+        return primitive.name();
+    }
+
+    @Override
+    public PrimitiveType type() {
+        return primitive.type();
+    }
+
+    @Override
+    public P async() {
+        return primitive;
+    }
+
+    @Override
+    public void close() {
+        complete(primitive.close());
+    }
+
+    /**
+     * Waits for the given future to complete within the operation timeout.
+     * <p>
+     * If the wait times out or is interrupted, the future is cancelled, which cancels the call behind
+     * it so that it no longer holds a slot in its partition's request window.
+     *
+     * @param future the future to wait for
+     * @param <T>    the result type
+     * @return the result
+     */
+    protected <T> T complete(CompletableFuture<T> future) {
+        return complete(future, timeoutMillis);
+    }
+
+    /**
+     * Waits for the given future to complete within the operation timeout plus the given wait time.
+     * <p>
+     * Used for operations that block on the server for up to {@code wait}.
+     *
+     * @param future the future to wait for
+     * @param wait   the time the operation may wait on the server
+     * @param <T>    the result type
+     * @return the result
+     */
+    protected <T> T complete(CompletableFuture<T> future, Duration wait) {
+        return complete(future, timeoutMillis + wait.toMillis());
+    }
+
+    /**
+     * Waits for the given future to complete without a timeout.
+     *
+     * @param future the future to wait for
+     * @param <T>    the result type
+     * @return the result
+     */
+    protected <T> T completeWithoutTimeout(CompletableFuture<T> future) {
+        return complete(future, -1);
+    }
+
+    /**
+     * Returns a lazily consumed stream over the items of the given publisher.
+     * <p>
+     * The publisher is subscribed to by the first terminal operation, and a bounded number of items is
+     * prefetched ahead of it. Waiting for each item is bounded by the operation timeout. The stream is
+     * closed, cancelling the subscription, as soon as a terminal operation returns, including a
+     * short-circuiting one that stops consuming it early. Streams of primitives derived from it and its
+     * iterator must be closed by the caller; if they are abandoned instead, the subscription is only
+     * cancelled once they are garbage collected.
+     *
+     * @param publisher the publisher of the items
+     * @param <E>       the item type
+     * @return the stream of items
+     */
+    protected <E> Stream<E> stream(Flow.Publisher<E> publisher) {
+        BlockingIterator<E> iterator = new BlockingIterator<>(publisher, PREFETCH, Duration.ofMillis(timeoutMillis));
+        return new ClosingStream<>(StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close));
+    }
+
+    private static <T> T complete(CompletableFuture<T> future, long timeoutMillis) {
+        try {
+            return timeoutMillis < 0 ? future.get() : future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new PrimitiveException.Interrupted();
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new PrimitiveException.Timeout();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new PrimitiveException(cause);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{name=" + name() + ", type=" + type() + "}";
+    }
+}
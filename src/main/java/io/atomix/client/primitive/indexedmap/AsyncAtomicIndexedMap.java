@@ -0,0 +1,102 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.indexedmap;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous atomic map whose entries are ordered by insertion index.
+ */
+public interface AsyncAtomicIndexedMap extends AsyncPrimitive {
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return a future to be completed with the number of entries
+     */
+    CompletableFuture<Integer> size();
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return a future to be completed with the updated entry
+     */
+    CompletableFuture<IndexedEntry> put(String key, byte[] value);
+
+    /**
+     * Returns the entry for the given key.
+     *
+     * @param key the entry key
+     * @return a future to be completed with the entry, or {@code null} if the key is absent
+     */
+    CompletableFuture<IndexedEntry> get(String key);
+
+    /**
+     * Returns the entry at the given index.
+     *
+     * @param index the entry index
+     * @return a future to be completed with the entry, or {@code null} if there is no entry at the index
+     */
+    CompletableFuture<IndexedEntry> get(long index);
+
+    /**
+     * Returns the first entry in the map.
+     *
+     * @return a future to be completed with the first entry, or {@code null} if the map is empty
+     */
+    CompletableFuture<IndexedEntry> firstEntry();
+
+    /**
+     * Returns the last entry in the map.
+     *
+     * @return a future to be completed with the last entry, or {@code null} if the map is empty
+     */
+    CompletableFuture<IndexedEntry> lastEntry();
+
+    /**
+     * Returns the entry preceding the given index.
+     *
+     * @param index the entry index
+     * @return a future to be completed with the previous entry, or {@code null} if there is none
+     */
+    CompletableFuture<IndexedEntry> prevEntry(long index);
+
+    /**
+     * Returns the entry following the given index.
+     *
+     * @param index the entry index
+     * @return a future to be completed with the next entry, or {@code null} if there is none
+     */
+    CompletableFuture<IndexedEntry> nextEntry(long index);
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove
+     * @return a future to be completed with the removed entry, or {@code null} if the key was absent
+     */
+    CompletableFuture<IndexedEntry> remove(String key);
+
+    /**
+     * Removes all entries from the map.
+     *
+     * @return a future to be completed once the map has been cleared
+     */
+    CompletableFuture<Void> clear();
+
+    @Override
+    default AtomicIndexedMap sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    AtomicIndexedMap sync(Duration operationTimeout);
+
+}
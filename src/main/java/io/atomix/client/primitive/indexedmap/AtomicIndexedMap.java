@@ -0,0 +1,91 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.indexedmap;
+
+import io.atomix.client.primitive.SyncPrimitive;
+
+/**
+ * Atomic map whose entries are ordered by insertion index.
+ */
+public interface AtomicIndexedMap extends SyncPrimitive {
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return the updated entry
+     */
+    IndexedEntry put(String key, byte[] value);
+
+    /**
+     * Returns the entry for the given key.
+     *
+     * @param key the entry key
+     * @return the entry, or {@code null} if the key is absent
+     */
+    IndexedEntry get(String key);
+
+    /**
+     * Returns the entry at the given index.
+     *
+     * @param index the entry index
+     * @return the entry, or {@code null} if there is no entry at the index
+     */
+    IndexedEntry get(long index);
+
+    /**
+     * Returns the first entry in the map.
+     *
+     * @return the first entry, or {@code null} if the map is empty
+     */
+    IndexedEntry firstEntry();
+
+    /**
+     * Returns the last entry in the map.
+     *
+     * @return the last entry, or {@code null} if the map is empty
+     */
+    IndexedEntry lastEntry();
+
+    /**
+     * Returns the entry preceding the given index.
+     *
+     * @param index the entry index
+     * @return the previous entry, or {@code null} if there is none
+     */
+    IndexedEntry prevEntry(long index);
+
+    /**
+     * Returns the entry following the given index.
+     *
+     * @param index the entry index
+     * @return the next entry, or {@code null} if there is none
+     */
+    IndexedEntry nextEntry(long index);
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove
+     * @return the removed entry, or {@code null} if the key was absent
+     */
+    IndexedEntry remove(String key);
+
+    /**
+     * Removes all entries from the map.
+     */
+    void clear();
+
+    @Override
+    AsyncAtomicIndexedMap async();
+
+}
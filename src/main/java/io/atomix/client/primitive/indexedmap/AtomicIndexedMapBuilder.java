@@ -0,0 +1,35 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.indexedmap;
+
+import io.atomix.api.primitive.indexedmap.IndexedMapServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.indexedmap.impl.DefaultAsyncAtomicIndexedMap;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder for {@link AsyncAtomicIndexedMap}.
+ */
+public class AtomicIndexedMapBuilder extends PrimitiveBuilder<AtomicIndexedMapBuilder, AsyncAtomicIndexedMap> {
+
+    public AtomicIndexedMapBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.INDEXED_MAP, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncAtomicIndexedMap> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncAtomicIndexedMap(
+                getPrimitiveId(),
+                IndexedMapServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public AtomicIndexedMap build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+}
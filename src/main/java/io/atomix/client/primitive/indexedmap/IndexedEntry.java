@@ -0,0 +1,53 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.indexedmap;
+
+import io.atomix.client.primitive.meta.Versioned;
+
+/**
+ * Indexed map entry.
+ */
+public final class IndexedEntry {
+    private final long index;
+    private final String key;
+    private final Versioned<byte[]> value;
+
+    public IndexedEntry(long index, String key, Versioned<byte[]> value) {
+        this.index = index;
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Returns the entry index.
+     *
+     * @return the entry index
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Returns the entry key.
+     *
+     * @return the entry key
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Returns the versioned entry value.
+     *
+     * @return the versioned entry value
+     */
+    public Versioned<byte[]> value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{index=" + index + ", key=" + key + ", value=" + value + "}";
+    }
+}
@@ -0,0 +1,71 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.indexedmap.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.indexedmap.AsyncAtomicIndexedMap;
+import io.atomix.client.primitive.indexedmap.AtomicIndexedMap;
+import io.atomix.client.primitive.indexedmap.IndexedEntry;
+
+import java.time.Duration;
+
+/**
+ * Blocking atomic map whose entries are ordered by insertion index.
+ */
+public class BlockingAtomicIndexedMap extends Synchronous<AsyncAtomicIndexedMap> implements AtomicIndexedMap {
+
+    public BlockingAtomicIndexedMap(AsyncAtomicIndexedMap primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public int size() {
+        return complete(async().size());
+    }
+
+    @Override
+    public IndexedEntry put(String key, byte[] value) {
+        return complete(async().put(key, value));
+    }
+
+    @Override
+    public IndexedEntry get(String key) {
+        return complete(async().get(key));
+    }
+
+    @Override
+    public IndexedEntry get(long index) {
+        return complete(async().get(index));
+    }
+
+    @Override
+    public IndexedEntry firstEntry() {
+        return complete(async().firstEntry());
+    }
+
+    @Override
+    public IndexedEntry lastEntry() {
+        return complete(async().lastEntry());
+    }
+
+    @Override
+    public IndexedEntry prevEntry(long index) {
+        return complete(async().prevEntry(index));
+    }
+
+    @Override
+    public IndexedEntry nextEntry(long index) {
+        return complete(async().nextEntry(index));
+    }
+
+    @Override
+    public IndexedEntry remove(String key) {
+        return complete(async().remove(key));
+    }
+
+    @Override
+    public void clear() {
+        complete(async().clear());
+    }
+}
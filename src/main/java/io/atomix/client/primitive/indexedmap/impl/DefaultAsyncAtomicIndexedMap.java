@@ -0,0 +1,161 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.indexedmap.impl;
+
+import com.google.protobuf.ByteString;
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.indexedmap.ClearRequest;
+import io.atomix.api.primitive.indexedmap.ClearResponse;
+import io.atomix.api.primitive.indexedmap.Entry;
+import io.atomix.api.primitive.indexedmap.FirstEntryRequest;
+import io.atomix.api.primitive.indexedmap.FirstEntryResponse;
+import io.atomix.api.primitive.indexedmap.GetRequest;
+import io.atomix.api.primitive.indexedmap.GetResponse;
+import io.atomix.api.primitive.indexedmap.IndexedMapServiceGrpc;
+import io.atomix.api.primitive.indexedmap.LastEntryRequest;
+import io.atomix.api.primitive.indexedmap.LastEntryResponse;
+import io.atomix.api.primitive.indexedmap.NextEntryRequest;
+import io.atomix.api.primitive.indexedmap.NextEntryResponse;
+import io.atomix.api.primitive.indexedmap.PrevEntryRequest;
+import io.atomix.api.primitive.indexedmap.PrevEntryResponse;
+import io.atomix.api.primitive.indexedmap.PutRequest;
+import io.atomix.api.primitive.indexedmap.PutResponse;
+import io.atomix.api.primitive.indexedmap.RemoveRequest;
+import io.atomix.api.primitive.indexedmap.RemoveResponse;
+import io.atomix.api.primitive.indexedmap.SizeRequest;
+import io.atomix.api.primitive.indexedmap.SizeResponse;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.primitive.indexedmap.AsyncAtomicIndexedMap;
+import io.atomix.client.primitive.indexedmap.AtomicIndexedMap;
+import io.atomix.client.primitive.indexedmap.IndexedEntry;
+import io.atomix.client.primitive.meta.Versioned;
+import io.grpc.Status;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Default asynchronous atomic indexed map.
+ */
+public class DefaultAsyncAtomicIndexedMap
+        extends AbstractAsyncPrimitive<IndexedMapServiceGrpc.IndexedMapServiceStub>
+        implements AsyncAtomicIndexedMap {
+
+    public DefaultAsyncAtomicIndexedMap(
+            PrimitiveId id, IndexedMapServiceGrpc.IndexedMapServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.INDEXED_MAP, service, context);
+    }
+
+    @Override
+    public AtomicIndexedMap sync(Duration operationTimeout) {
+        return new BlockingAtomicIndexedMap(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return this.<SizeResponse>execute((service, observer) -> service.size(SizeRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(SizeResponse::getSize);
+    }
+
+    @Override
+    public CompletableFuture<IndexedEntry> put(String key, byte[] value) {
+        return this.<PutResponse>execute((service, observer) -> service.put(PutRequest.newBuilder()
+                .setHeaders(headers())
+                .setEntry(Entry.newBuilder()
+                        .setKey(key)
+                        .setValue(ByteString.copyFrom(value))
+                        .build())
+                .build(), observer))
+                .thenApply(response -> toEntry(response.getEntry()));
+    }
+
+    @Override
+    public CompletableFuture<IndexedEntry> get(String key) {
+        return this.<GetResponse>execute((service, observer) -> service.get(GetRequest.newBuilder()
+                .setHeaders(headers())
+                .setKey(key)
+                .build(), observer))
+                .thenApply(response -> toEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<IndexedEntry> get(long index) {
+        return this.<GetResponse>execute((service, observer) -> service.get(GetRequest.newBuilder()
+                .setHeaders(headers())
+                .setIndex(index)
+                .build(), observer))
+                .thenApply(response -> toEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<IndexedEntry> firstEntry() {
+        return this.<FirstEntryResponse>execute((service, observer) -> service.firstEntry(FirstEntryRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> toEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<IndexedEntry> lastEntry() {
+        return this.<LastEntryResponse>execute((service, observer) -> service.lastEntry(LastEntryRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> toEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<IndexedEntry> prevEntry(long index) {
+        return this.<PrevEntryResponse>execute((service, observer) -> service.prevEntry(PrevEntryRequest.newBuilder()
+                .setHeaders(headers())
+                .setIndex(index)
+                .build(), observer))
+                .thenApply(response -> toEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<IndexedEntry> nextEntry(long index) {
+        return this.<NextEntryResponse>execute((service, observer) -> service.nextEntry(NextEntryRequest.newBuilder()
+                .setHeaders(headers())
+                .setIndex(index)
+                .build(), observer))
+                .thenApply(response -> toEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<IndexedEntry> remove(String key) {
+        return this.<RemoveResponse>execute((service, observer) -> service.remove(RemoveRequest.newBuilder()
+                .setHeaders(headers())
+                .setEntry(Entry.newBuilder()
+                        .setKey(key)
+                        .build())
+                .build(), observer))
+                .thenApply(response -> toEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return this.<ClearResponse>execute((service, observer) -> service.clear(ClearRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    private static IndexedEntry toEntry(Entry entry) {
+        return new IndexedEntry(
+                entry.getIndex(),
+                entry.getKey(),
+                new Versioned<>(entry.getValue().toByteArray(), entry.getMeta().getRevision()));
+    }
+}
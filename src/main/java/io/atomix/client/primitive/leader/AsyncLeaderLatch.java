@@ -0,0 +1,68 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.leader;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Asynchronous leader latch.
+ */
+public interface AsyncLeaderLatch extends AsyncPrimitive {
+
+    /**
+     * Joins the latch as the given participant.
+     *
+     * @param participantId the participant ID
+     * @return a future to be completed with the resulting leader
+     */
+    CompletableFuture<Leader> latch(String participantId);
+
+    /**
+     * Returns the current leader.
+     *
+     * @return a future to be completed with the current leader
+     */
+    CompletableFuture<Leader> getLeader();
+
+    /**
+     * Adds a listener for leader changes.
+     *
+     * @param listener the listener to add
+     * @return a future to be completed once the listener has been added
+     */
+    CompletableFuture<Void> addListener(EventListener<LeaderLatchEvent> listener);
+
+    /**
+     * Removes a listener for leader changes.
+     *
+     * @param listener the listener to remove
+     * @return a future to be completed once the listener has been removed
+     */
+    CompletableFuture<Void> removeListener(EventListener<LeaderLatchEvent> listener);
+
+    /**
+     * Returns a publisher of leader changes.
+     * <p>
+     * Each subscriber opens its own event stream, and the server only sends as many events as the
+     * subscriber has requested.
+     *
+     * @return the event publisher
+     */
+    Flow.Publisher<LeaderLatchEvent> events();
+
+    @Override
+    default LeaderLatch sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    LeaderLatch sync(Duration operationTimeout);
+
+}
@@ -0,0 +1,54 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.leader;
+
+import java.util.List;
+
+/**
+ * Leader latch state.
+ */
+public final class Leader {
+    private final String id;
+    private final List<String> participants;
+    private final long version;
+
+    public Leader(String id, List<String> participants, long version) {
+        this.id = id;
+        this.participants = List.copyOf(participants);
+        this.version = version;
+    }
+
+    /**
+     * Returns the ID of the participant holding the latch.
+     *
+     * @return the leader ID, or {@code null} if the latch is not held
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * Returns the participants waiting on the latch.
+     *
+     * @return the participants
+     */
+    public List<String> participants() {
+        return participants;
+    }
+
+    /**
+     * Returns the latch version.
+     *
+     * @return the latch version
+     */
+    public long version() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{id=" + id + ", participants=" + participants
+                + ", version=" + version + "}";
+    }
+}
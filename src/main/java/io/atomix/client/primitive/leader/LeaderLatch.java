@@ -0,0 +1,46 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.leader;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.event.EventListener;
+
+/**
+ * Leader latch.
+ */
+public interface LeaderLatch extends SyncPrimitive {
+
+    /**
+     * Joins the latch as the given participant.
+     *
+     * @param participantId the participant ID
+     * @return the resulting leader
+     */
+    Leader latch(String participantId);
+
+    /**
+     * Returns the current leader.
+     *
+     * @return the current leader
+     */
+    Leader getLeader();
+
+    /**
+     * Adds a listener for leader changes.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(EventListener<LeaderLatchEvent> listener);
+
+    /**
+     * Removes a listener for leader changes.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(EventListener<LeaderLatchEvent> listener);
+
+    @Override
+    AsyncLeaderLatch async();
+
+}
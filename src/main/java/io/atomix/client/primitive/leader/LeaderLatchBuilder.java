@@ -0,0 +1,35 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.leader;
+
+import io.atomix.api.primitive.leader.LeaderLatchServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.leader.impl.DefaultAsyncLeaderLatch;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder for {@link AsyncLeaderLatch}.
+ */
+public class LeaderLatchBuilder extends PrimitiveBuilder<LeaderLatchBuilder, AsyncLeaderLatch> {
+
+    public LeaderLatchBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.LEADER_LATCH, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncLeaderLatch> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncLeaderLatch(
+                getPrimitiveId(),
+                LeaderLatchServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public LeaderLatch build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+}
@@ -0,0 +1,29 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.leader;
+
+/**
+ * Leader latch change event.
+ */
+public final class LeaderLatchEvent {
+    private final Leader leader;
+
+    public LeaderLatchEvent(Leader leader) {
+        this.leader = leader;
+    }
+
+    /**
+     * Returns the new leader.
+     *
+     * @return the new leader
+     */
+    public Leader leader() {
+        return leader;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{leader=" + leader + "}";
+    }
+}
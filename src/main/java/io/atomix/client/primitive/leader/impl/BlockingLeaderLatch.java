@@ -0,0 +1,43 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.leader.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.leader.AsyncLeaderLatch;
+import io.atomix.client.primitive.leader.Leader;
+import io.atomix.client.primitive.leader.LeaderLatch;
+import io.atomix.client.primitive.leader.LeaderLatchEvent;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+
+/**
+ * Blocking leader latch.
+ */
+public class BlockingLeaderLatch extends Synchronous<AsyncLeaderLatch> implements LeaderLatch {
+
+    public BlockingLeaderLatch(AsyncLeaderLatch primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public Leader latch(String participantId) {
+        return complete(async().latch(participantId));
+    }
+
+    @Override
+    public Leader getLeader() {
+        return complete(async().getLeader());
+    }
+
+    @Override
+    public void addListener(EventListener<LeaderLatchEvent> listener) {
+        complete(async().addListener(listener));
+    }
+
+    @Override
+    public void removeListener(EventListener<LeaderLatchEvent> listener) {
+        complete(async().removeListener(listener));
+    }
+}
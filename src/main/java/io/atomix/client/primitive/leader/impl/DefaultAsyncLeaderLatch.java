@@ -0,0 +1,107 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.leader.impl;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.leader.EventsRequest;
+import io.atomix.api.primitive.leader.EventsResponse;
+import io.atomix.api.primitive.leader.GetRequest;
+import io.atomix.api.primitive.leader.GetResponse;
+import io.atomix.api.primitive.leader.Latch;
+import io.atomix.api.primitive.leader.LatchRequest;
+import io.atomix.api.primitive.leader.LatchResponse;
+import io.atomix.api.primitive.leader.LeaderLatchServiceGrpc;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.EventStream;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.primitive.leader.AsyncLeaderLatch;
+import io.atomix.client.primitive.leader.Leader;
+import io.atomix.client.primitive.leader.LeaderLatch;
+import io.atomix.client.primitive.leader.LeaderLatchEvent;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Default asynchronous leader latch.
+ */
+public class DefaultAsyncLeaderLatch
+        extends AbstractAsyncPrimitive<LeaderLatchServiceGrpc.LeaderLatchServiceStub>
+        implements AsyncLeaderLatch {
+    private final EventStream<EventsResponse, LeaderLatchEvent> events;
+
+    public DefaultAsyncLeaderLatch(
+            PrimitiveId id, LeaderLatchServiceGrpc.LeaderLatchServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.LEADER_LATCH, service, context);
+        this.events = new EventStream<>(
+                observer -> stream((stub, o) -> stub.events(EventsRequest.newBuilder()
+                        .setHeaders(headers())
+                        .build(), o), observer),
+                this::toEvent,
+                context.listenerExecutor(),
+                context.timer());
+    }
+
+    @Override
+    public LeaderLatch sync(Duration operationTimeout) {
+        return new BlockingLeaderLatch(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Leader> latch(String participantId) {
+        return this.<LatchResponse>execute((service, observer) -> service.latch(LatchRequest.newBuilder()
+                .setHeaders(headers())
+                .setParticipantId(participantId)
+                .build(), observer))
+                .thenApply(response -> toLeader(response.getLatch()));
+    }
+
+    @Override
+    public CompletableFuture<Leader> getLeader() {
+        return this.<GetResponse>execute((service, observer) -> service.get(GetRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> toLeader(response.getLatch()));
+    }
+
+    @Override
+    public CompletableFuture<Void> addListener(EventListener<LeaderLatchEvent> listener) {
+        return events.addListener(listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeListener(EventListener<LeaderLatchEvent> listener) {
+        return events.removeListener(listener);
+    }
+
+    @Override
+    public Flow.Publisher<LeaderLatchEvent> events() {
+        return events.publisher();
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        events.close();
+        return super.close();
+    }
+
+    private LeaderLatchEvent toEvent(EventsResponse response) {
+        switch (response.getEvent().getType()) {
+            case CHANGE:
+                return new LeaderLatchEvent(toLeader(response.getEvent().getLatch()));
+            default:
+                return null;
+        }
+    }
+
+    private static Leader toLeader(Latch latch) {
+        return new Leader(
+                !latch.getLeader().isEmpty() ? latch.getLeader() : null,
+                latch.getParticipantsList(),
+                latch.getMeta().getRevision());
+    }
+}
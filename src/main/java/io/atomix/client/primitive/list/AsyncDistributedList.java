@@ -0,0 +1,162 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Asynchronous distributed list.
+ */
+public interface AsyncDistributedList extends AsyncPrimitive {
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return a future to be completed with the number of values
+     */
+    CompletableFuture<Integer> size();
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return a future to be completed with whether the list is empty
+     */
+    default CompletableFuture<Boolean> isEmpty() {
+        return size().thenApply(size -> size == 0);
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to append
+     * @return a future to be completed once the value has been appended
+     */
+    CompletableFuture<Void> add(byte[] value);
+
+    /**
+     * Appends the remaining bytes of the given buffer to the end of the list.
+     * <p>
+     * The bytes are sent without being copied, so they must not be modified until the returned future
+     * completes. The buffer's position is not changed.
+     *
+     * @param value the value to append
+     * @return a future to be completed once the value has been appended
+     */
+    CompletableFuture<Void> add(ByteBuffer value);
+
+    /**
+     * Inserts a value at the given index.
+     *
+     * @param index the index at which to insert the value
+     * @param value the value to insert
+     * @return a future to be completed once the value has been inserted
+     */
+    CompletableFuture<Void> add(int index, byte[] value);
+
+    /**
+     * Inserts the remaining bytes of the given buffer at the given index.
+     * <p>
+     * The bytes are sent without being copied, so they must not be modified until the returned future
+     * completes. The buffer's position is not changed.
+     *
+     * @param index the index at which to insert the value
+     * @param value the value to insert
+     * @return a future to be completed once the value has been inserted
+     */
+    CompletableFuture<Void> add(int index, ByteBuffer value);
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index the index of the value
+     * @return a future to be completed with the value
+     */
+    CompletableFuture<byte[]> get(int index);
+
+    /**
+     * Returns the value at the given index without copying it.
+     *
+     * @param index the index of the value
+     * @return a future to be completed with the value in a read-only buffer
+     */
+    CompletableFuture<ByteBuffer> getBuffer(int index);
+
+    /**
+     * Replaces the value at the given index.
+     *
+     * @param index the index of the value
+     * @param value the new value
+     * @return a future to be completed once the value has been replaced
+     */
+    CompletableFuture<Void> set(int index, byte[] value);
+
+    /**
+     * Replaces the value at the given index with the remaining bytes of the given buffer.
+     * <p>
+     * The bytes are sent without being copied, so they must not be modified until the returned future
+     * completes. The buffer's position is not changed.
+     *
+     * @param index the index of the value
+     * @param value the new value
+     * @return a future to be completed once the value has been replaced
+     */
+    CompletableFuture<Void> set(int index, ByteBuffer value);
+
+    /**
+     * Removes the value at the given index.
+     *
+     * @param index the index of the value
+     * @return a future to be completed with the removed value
+     */
+    CompletableFuture<byte[]> remove(int index);
+
+    /**
+     * Removes all values from the list.
+     *
+     * @return a future to be completed once the list has been cleared
+     */
+    CompletableFuture<Void> clear();
+
+    /**
+     * Adds a listener for changes to the list.
+     *
+     * @param listener the listener to add
+     * @return a future to be completed once the listener has been added
+     */
+    CompletableFuture<Void> addListener(EventListener<DistributedListEvent> listener);
+
+    /**
+     * Removes a listener for changes to the list.
+     *
+     * @param listener the listener to remove
+     * @return a future to be completed once the listener has been removed
+     */
+    CompletableFuture<Void> removeListener(EventListener<DistributedListEvent> listener);
+
+    /**
+     * Returns a publisher of changes to the list.
+     * <p>
+     * Each subscriber opens its own event stream, and the server only sends as many events as the
+     * subscriber has requested.
+     *
+     * @return the event publisher
+     */
+    Flow.Publisher<DistributedListEvent> events();
+
+    @Override
+    default DistributedList sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    DistributedList sync(Duration operationTimeout);
+
+}
@@ -0,0 +1,100 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.codec.Codec;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous distributed list whose values are encoded with a {@link Codec}.
+ *
+ * @param <E> the element type
+ */
+public interface AsyncTypedDistributedList<E> extends AsyncPrimitive {
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return a future to be completed with the number of values
+     */
+    CompletableFuture<Integer> size();
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return a future to be completed with whether the list is empty
+     */
+    default CompletableFuture<Boolean> isEmpty() {
+        return size().thenApply(size -> size == 0);
+    }
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to append
+     * @return a future to be completed once the value has been appended
+     */
+    CompletableFuture<Void> add(E value);
+
+    /**
+     * Inserts a value at the given index.
+     *
+     * @param index the index at which to insert the value
+     * @param value the value to insert
+     * @return a future to be completed once the value has been inserted
+     */
+    CompletableFuture<Void> add(int index, E value);
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index the index of the value
+     * @return a future to be completed with the value
+     */
+    CompletableFuture<E> get(int index);
+
+    /**
+     * Replaces the value at the given index.
+     *
+     * @param index the index of the value
+     * @param value the new value
+     * @return a future to be completed once the value has been replaced
+     */
+    CompletableFuture<Void> set(int index, E value);
+
+    /**
+     * Removes the value at the given index.
+     *
+     * @param index the index of the value
+     * @return a future to be completed with the removed value
+     */
+    CompletableFuture<E> remove(int index);
+
+    /**
+     * Removes all values from the list.
+     *
+     * @return a future to be completed once the list has been cleared
+     */
+    CompletableFuture<Void> clear();
+
+    /**
+     * Returns the underlying list of encoded values.
+     *
+     * @return the underlying list
+     */
+    AsyncDistributedList raw();
+
+    @Override
+    default TypedDistributedList<E> sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    TypedDistributedList<E> sync(Duration operationTimeout);
+
+}
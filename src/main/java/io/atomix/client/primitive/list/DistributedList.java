@@ -0,0 +1,128 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Distributed list.
+ */
+public interface DistributedList extends SyncPrimitive {
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return the number of values
+     */
+    int size();
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return whether the list is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to append
+     */
+    void add(byte[] value);
+
+    /**
+     * Appends the remaining bytes of the given buffer to the end of the list.
+     * <p>
+     * The bytes are sent without being copied. The buffer's position is not changed.
+     *
+     * @param value the value to append
+     */
+    void add(ByteBuffer value);
+
+    /**
+     * Inserts a value at the given index.
+     *
+     * @param index the index at which to insert the value
+     * @param value the value to insert
+     */
+    void add(int index, byte[] value);
+
+    /**
+     * Inserts the remaining bytes of the given buffer at the given index.
+     * <p>
+     * The bytes are sent without being copied. The buffer's position is not changed.
+     *
+     * @param index the index at which to insert the value
+     * @param value the value to insert
+     */
+    void add(int index, ByteBuffer value);
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    byte[] get(int index);
+
+    /**
+     * Returns the value at the given index without copying it.
+     *
+     * @param index the index of the value
+     * @return the value in a read-only buffer
+     */
+    ByteBuffer getBuffer(int index);
+
+    /**
+     * Replaces the value at the given index.
+     *
+     * @param index the index of the value
+     * @param value the new value
+     */
+    void set(int index, byte[] value);
+
+    /**
+     * Replaces the value at the given index with the remaining bytes of the given buffer.
+     * <p>
+     * The bytes are sent without being copied. The buffer's position is not changed.
+     *
+     * @param index the index of the value
+     * @param value the new value
+     */
+    void set(int index, ByteBuffer value);
+
+    /**
+     * Removes the value at the given index.
+     *
+     * @param index the index of the value
+     * @return the removed value
+     */
+    byte[] remove(int index);
+
+    /**
+     * Removes all values from the list.
+     */
+    void clear();
+
+    /**
+     * Adds a listener for changes to the list.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(EventListener<DistributedListEvent> listener);
+
+    /**
+     * Removes a listener for changes to the list.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(EventListener<DistributedListEvent> listener);
+
+    @Override
+    AsyncDistributedList async();
+
+}
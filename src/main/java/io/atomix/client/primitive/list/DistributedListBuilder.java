@@ -0,0 +1,62 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list;
+
+import io.atomix.api.primitive.list.ListServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.list.impl.DefaultAsyncDistributedList;
+import io.atomix.client.primitive.list.impl.TranscodingAsyncDistributedList;
+import io.atomix.client.utils.codec.Codec;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link AsyncDistributedList}.
+ */
+public class DistributedListBuilder extends PrimitiveBuilder<DistributedListBuilder, AsyncDistributedList> {
+
+    public DistributedListBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.LIST, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncDistributedList> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncDistributedList(
+                getPrimitiveId(),
+                ListServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public DistributedList build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+
+    /**
+     * Builds a list whose values are encoded with the given codec.
+     *
+     * @param codec the element codec
+     * @param <E>   the element type
+     * @return a future to be completed with the list
+     */
+    public <E> CompletableFuture<AsyncTypedDistributedList<E>> buildAsync(Codec<E> codec) {
+        requireNonNull(codec, "codec cannot be null");
+        return buildAsync().thenApply(list -> new TranscodingAsyncDistributedList<>(list, codec));
+    }
+
+    /**
+     * Builds a list whose values are encoded with the given codec.
+     *
+     * @param codec the element codec
+     * @param <E>   the element type
+     * @return the list
+     */
+    public <E> TypedDistributedList<E> build(Codec<E> codec) {
+        return buildAsync(codec).join().sync(getOperationTimeout());
+    }
+}
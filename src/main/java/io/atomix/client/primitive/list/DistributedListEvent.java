@@ -0,0 +1,60 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list;
+
+/**
+ * Distributed list change event.
+ */
+public final class DistributedListEvent {
+
+    /**
+     * List event type.
+     */
+    public enum Type {
+        ADD,
+        REMOVE,
+    }
+
+    private final Type type;
+    private final int index;
+    private final byte[] value;
+
+    public DistributedListEvent(Type type, int index, byte[] value) {
+        this.type = type;
+        this.index = index;
+        this.value = value;
+    }
+
+    /**
+     * Returns the event type.
+     *
+     * @return the event type
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the index at which the value was added or removed.
+     *
+     * @return the index
+     */
+    public int index() {
+        return index;
+    }
+
+    /**
+     * Returns the value that was added or removed.
+     *
+     * @return the value
+     */
+    public byte[] value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{type=" + type + ", index=" + index + "}";
+    }
+}
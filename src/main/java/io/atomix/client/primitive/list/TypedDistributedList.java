@@ -0,0 +1,76 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list;
+
+import io.atomix.client.primitive.SyncPrimitive;
+
+/**
+ * Distributed list whose values are encoded with a {@link io.atomix.client.utils.codec.Codec}.
+ *
+ * @param <E> the element type
+ */
+public interface TypedDistributedList<E> extends SyncPrimitive {
+
+    /**
+     * Returns the number of values in the list.
+     *
+     * @return the number of values
+     */
+    int size();
+
+    /**
+     * Returns whether the list is empty.
+     *
+     * @return whether the list is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Appends a value to the end of the list.
+     *
+     * @param value the value to append
+     */
+    void add(E value);
+
+    /**
+     * Inserts a value at the given index.
+     *
+     * @param index the index at which to insert the value
+     * @param value the value to insert
+     */
+    void add(int index, E value);
+
+    /**
+     * Returns the value at the given index.
+     *
+     * @param index the index of the value
+     * @return the value
+     */
+    E get(int index);
+
+    /**
+     * Replaces the value at the given index.
+     *
+     * @param index the index of the value
+     * @param value the new value
+     */
+    void set(int index, E value);
+
+    /**
+     * Removes the value at the given index.
+     *
+     * @param index the index of the value
+     * @return the removed value
+     */
+    E remove(int index);
+
+    /**
+     * Removes all values from the list.
+     */
+    void clear();
+
+    @Override
+    AsyncTypedDistributedList<E> async();
+
+}
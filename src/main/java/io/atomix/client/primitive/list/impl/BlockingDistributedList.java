@@ -0,0 +1,93 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.list.AsyncDistributedList;
+import io.atomix.client.primitive.list.DistributedList;
+import io.atomix.client.primitive.list.DistributedListEvent;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * Blocking distributed list.
+ */
+public class BlockingDistributedList extends Synchronous<AsyncDistributedList> implements DistributedList {
+
+    public BlockingDistributedList(AsyncDistributedList primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public int size() {
+        return complete(async().size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return complete(async().isEmpty());
+    }
+
+    @Override
+    public void add(byte[] value) {
+        complete(async().add(value));
+    }
+
+    @Override
+    public void add(ByteBuffer value) {
+        complete(async().add(value));
+    }
+
+    @Override
+    public void add(int index, byte[] value) {
+        complete(async().add(index, value));
+    }
+
+    @Override
+    public void add(int index, ByteBuffer value) {
+        complete(async().add(index, value));
+    }
+
+    @Override
+    public byte[] get(int index) {
+        return complete(async().get(index));
+    }
+
+    @Override
+    public ByteBuffer getBuffer(int index) {
+        return complete(async().getBuffer(index));
+    }
+
+    @Override
+    public void set(int index, byte[] value) {
+        complete(async().set(index, value));
+    }
+
+    @Override
+    public void set(int index, ByteBuffer value) {
+        complete(async().set(index, value));
+    }
+
+    @Override
+    public byte[] remove(int index) {
+        return complete(async().remove(index));
+    }
+
+    @Override
+    public void clear() {
+        complete(async().clear());
+    }
+
+    @Override
+    public void addListener(EventListener<DistributedListEvent> listener) {
+        complete(async().addListener(listener));
+    }
+
+    @Override
+    public void removeListener(EventListener<DistributedListEvent> listener) {
+        complete(async().removeListener(listener));
+    }
+}
@@ -0,0 +1,64 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.list.AsyncTypedDistributedList;
+import io.atomix.client.primitive.list.TypedDistributedList;
+
+import java.time.Duration;
+
+/**
+ * Blocking typed distributed list.
+ *
+ * @param <E> the element type
+ */
+public class BlockingTypedDistributedList<E>
+        extends Synchronous<AsyncTypedDistributedList<E>>
+        implements TypedDistributedList<E> {
+
+    public BlockingTypedDistributedList(AsyncTypedDistributedList<E> primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public int size() {
+        return complete(async().size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return complete(async().isEmpty());
+    }
+
+    @Override
+    public void add(E value) {
+        complete(async().add(value));
+    }
+
+    @Override
+    public void add(int index, E value) {
+        complete(async().add(index, value));
+    }
+
+    @Override
+    public E get(int index) {
+        return complete(async().get(index));
+    }
+
+    @Override
+    public void set(int index, E value) {
+        complete(async().set(index, value));
+    }
+
+    @Override
+    public E remove(int index) {
+        return complete(async().remove(index));
+    }
+
+    @Override
+    public void clear() {
+        complete(async().clear());
+    }
+}
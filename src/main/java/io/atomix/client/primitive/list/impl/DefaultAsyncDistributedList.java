@@ -0,0 +1,203 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list.impl;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.list.AppendRequest;
+import io.atomix.api.primitive.list.AppendResponse;
+import io.atomix.api.primitive.list.ClearRequest;
+import io.atomix.api.primitive.list.ClearResponse;
+import io.atomix.api.primitive.list.EventsRequest;
+import io.atomix.api.primitive.list.EventsResponse;
+import io.atomix.api.primitive.list.GetRequest;
+import io.atomix.api.primitive.list.GetResponse;
+import io.atomix.api.primitive.list.InsertRequest;
+import io.atomix.api.primitive.list.InsertResponse;
+import io.atomix.api.primitive.list.Item;
+import io.atomix.api.primitive.list.ListServiceGrpc;
+import io.atomix.api.primitive.list.RemoveRequest;
+import io.atomix.api.primitive.list.RemoveResponse;
+import io.atomix.api.primitive.list.SetRequest;
+import io.atomix.api.primitive.list.SetResponse;
+import io.atomix.api.primitive.list.SizeRequest;
+import io.atomix.api.primitive.list.SizeResponse;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.EventStream;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.primitive.list.AsyncDistributedList;
+import io.atomix.client.primitive.list.DistributedList;
+import io.atomix.client.primitive.list.DistributedListEvent;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Default asynchronous distributed list.
+ */
+public class DefaultAsyncDistributedList
+        extends AbstractAsyncPrimitive<ListServiceGrpc.ListServiceStub>
+        implements AsyncDistributedList {
+    private final EventStream<EventsResponse, DistributedListEvent> events;
+
+    public DefaultAsyncDistributedList(
+            PrimitiveId id, ListServiceGrpc.ListServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.LIST, service, context);
+        this.events = new EventStream<>(
+                observer -> stream((stub, o) -> stub.events(EventsRequest.newBuilder()
+                        .setHeaders(headers())
+                        .build(), o), observer),
+                this::toEvent,
+                context.listenerExecutor(),
+                context.timer());
+    }
+
+    @Override
+    public DistributedList sync(Duration operationTimeout) {
+        return new BlockingDistributedList(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return this.<SizeResponse>execute((service, observer) -> service.size(SizeRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(SizeResponse::getSize);
+    }
+
+    @Override
+    public CompletableFuture<Void> add(byte[] value) {
+        return add(ByteString.copyFrom(value));
+    }
+
+    @Override
+    public CompletableFuture<Void> add(ByteBuffer value) {
+        return add(UnsafeByteOperations.unsafeWrap(value));
+    }
+
+    private CompletableFuture<Void> add(ByteString value) {
+        return this.<AppendResponse>execute((service, observer) -> service.append(AppendRequest.newBuilder()
+                .setHeaders(headers())
+                .setValue(value)
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> add(int index, byte[] value) {
+        return add(index, ByteString.copyFrom(value));
+    }
+
+    @Override
+    public CompletableFuture<Void> add(int index, ByteBuffer value) {
+        return add(index, UnsafeByteOperations.unsafeWrap(value));
+    }
+
+    private CompletableFuture<Void> add(int index, ByteString value) {
+        return this.<InsertResponse>execute((service, observer) -> service.insert(InsertRequest.newBuilder()
+                .setHeaders(headers())
+                .setItem(Item.newBuilder()
+                        .setIndex(index)
+                        .setValue(value)
+                        .build())
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> get(int index) {
+        return getValue(index).thenApply(ByteString::toByteArray);
+    }
+
+    @Override
+    public CompletableFuture<ByteBuffer> getBuffer(int index) {
+        return getValue(index).thenApply(ByteString::asReadOnlyByteBuffer);
+    }
+
+    private CompletableFuture<ByteString> getValue(int index) {
+        return this.<GetResponse>execute((service, observer) -> service.get(GetRequest.newBuilder()
+                .setHeaders(headers())
+                .setIndex(index)
+                .build(), observer))
+                .thenApply(response -> response.getItem().getValue());
+    }
+
+    @Override
+    public CompletableFuture<Void> set(int index, byte[] value) {
+        return set(index, ByteString.copyFrom(value));
+    }
+
+    @Override
+    public CompletableFuture<Void> set(int index, ByteBuffer value) {
+        return set(index, UnsafeByteOperations.unsafeWrap(value));
+    }
+
+    private CompletableFuture<Void> set(int index, ByteString value) {
+        return this.<SetResponse>execute((service, observer) -> service.set(SetRequest.newBuilder()
+                .setHeaders(headers())
+                .setItem(Item.newBuilder()
+                        .setIndex(index)
+                        .setValue(value)
+                        .build())
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<byte[]> remove(int index) {
+        return this.<RemoveResponse>execute((service, observer) -> service.remove(RemoveRequest.newBuilder()
+                .setHeaders(headers())
+                .setIndex(index)
+                .build(), observer))
+                .thenApply(response -> response.getItem().getValue().toByteArray());
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return this.<ClearResponse>execute((service, observer) -> service.clear(ClearRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> addListener(EventListener<DistributedListEvent> listener) {
+        return events.addListener(listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeListener(EventListener<DistributedListEvent> listener) {
+        return events.removeListener(listener);
+    }
+
+    @Override
+    public Flow.Publisher<DistributedListEvent> events() {
+        return events.publisher();
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        events.close();
+        return super.close();
+    }
+
+    private DistributedListEvent toEvent(EventsResponse response) {
+        Item item = response.getEvent().getItem();
+        switch (response.getEvent().getType()) {
+            case ADD:
+                return new DistributedListEvent(
+                        DistributedListEvent.Type.ADD, item.getIndex(), item.getValue().toByteArray());
+            case REMOVE:
+                return new DistributedListEvent(
+                        DistributedListEvent.Type.REMOVE, item.getIndex(), item.getValue().toByteArray());
+            default:
+                return null;
+        }
+    }
+}
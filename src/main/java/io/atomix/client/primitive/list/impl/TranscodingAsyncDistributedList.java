@@ -0,0 +1,96 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.list.impl;
+
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.list.AsyncDistributedList;
+import io.atomix.client.primitive.list.AsyncTypedDistributedList;
+import io.atomix.client.primitive.list.TypedDistributedList;
+import io.atomix.client.utils.codec.Codec;
+import io.atomix.client.utils.codec.Codecs;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Typed distributed list that encodes its values into an underlying distributed list.
+ *
+ * @param <E> the element type
+ */
+public class TranscodingAsyncDistributedList<E> implements AsyncTypedDistributedList<E> {
+    private final AsyncDistributedList list;
+    private final Codec<E> codec;
+
+    public TranscodingAsyncDistributedList(AsyncDistributedList list, Codec<E> codec) {
+        this.list = requireNonNull(list, "list cannot be null");
+        this.codec = requireNonNull(codec, "codec cannot be null");
+    }
+
+    @Override
+    public String name() {
+        return list.name();
+    }
+
+    @Override
+    public PrimitiveType type() {
+        return list.type();
+    }
+
+    @Override
+    public AsyncDistributedList raw() {
+        return list;
+    }
+
+    @Override
+    public TypedDistributedList<E> sync(Duration operationTimeout) {
+        return new BlockingTypedDistributedList<>(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return list.size();
+    }
+
+    @Override
+    public CompletableFuture<Void> add(E value) {
+        return list.add(encode(value));
+    }
+
+    @Override
+    public CompletableFuture<Void> add(int index, E value) {
+        return list.add(index, encode(value));
+    }
+
+    @Override
+    public CompletableFuture<E> get(int index) {
+        return list.getBuffer(index).thenApply(codec::decode);
+    }
+
+    @Override
+    public CompletableFuture<Void> set(int index, E value) {
+        return list.set(index, encode(value));
+    }
+
+    @Override
+    public CompletableFuture<E> remove(int index) {
+        return list.remove(index).thenApply(bytes -> Codecs.decode(codec, bytes));
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return list.clear();
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        return list.close();
+    }
+
+    private ByteBuffer encode(E value) {
+        return ByteBuffer.wrap(Codecs.encode(codec, value));
+    }
+}
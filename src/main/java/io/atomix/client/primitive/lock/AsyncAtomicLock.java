@@ -0,0 +1,62 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.lock;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous atomic lock.
+ */
+public interface AsyncAtomicLock extends AsyncPrimitive {
+
+    /**
+     * Acquires the lock, waiting until it's available.
+     *
+     * @return a future to be completed with the lock version once the lock has been acquired
+     */
+    CompletableFuture<Long> lock();
+
+    /**
+     * Acquires the lock if it's available.
+     *
+     * @return a future to be completed with the lock version if the lock was acquired
+     */
+    CompletableFuture<OptionalLong> tryLock();
+
+    /**
+     * Acquires the lock if it becomes available within the given timeout.
+     *
+     * @param timeout the maximum time to wait for the lock
+     * @return a future to be completed with the lock version if the lock was acquired
+     */
+    CompletableFuture<OptionalLong> tryLock(Duration timeout);
+
+    /**
+     * Releases the lock.
+     *
+     * @return a future to be completed once the lock has been released
+     */
+    CompletableFuture<Void> unlock();
+
+    /**
+     * Returns whether the lock is held.
+     *
+     * @return a future to be completed with whether the lock is held
+     */
+    CompletableFuture<Boolean> isLocked();
+
+    @Override
+    default AtomicLock sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    AtomicLock sync(Duration operationTimeout);
+
+}
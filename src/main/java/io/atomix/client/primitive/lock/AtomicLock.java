@@ -0,0 +1,53 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.lock;
+
+import io.atomix.client.primitive.SyncPrimitive;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Atomic lock.
+ */
+public interface AtomicLock extends SyncPrimitive {
+
+    /**
+     * Acquires the lock, waiting until it's available.
+     *
+     * @return the lock version once the lock has been acquired
+     */
+    long lock();
+
+    /**
+     * Acquires the lock if it's available.
+     *
+     * @return the lock version if the lock was acquired
+     */
+    OptionalLong tryLock();
+
+    /**
+     * Acquires the lock if it becomes available within the given timeout.
+     *
+     * @param timeout the maximum time to wait for the lock
+     * @return the lock version if the lock was acquired
+     */
+    OptionalLong tryLock(Duration timeout);
+
+    /**
+     * Releases the lock.
+     */
+    void unlock();
+
+    /**
+     * Returns whether the lock is held.
+     *
+     * @return whether the lock is held
+     */
+    boolean isLocked();
+
+    @Override
+    AsyncAtomicLock async();
+
+}
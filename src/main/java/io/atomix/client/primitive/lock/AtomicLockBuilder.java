@@ -0,0 +1,35 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.lock;
+
+import io.atomix.api.primitive.lock.LockServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.lock.impl.DefaultAsyncAtomicLock;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder for {@link AsyncAtomicLock}.
+ */
+public class AtomicLockBuilder extends PrimitiveBuilder<AtomicLockBuilder, AsyncAtomicLock> {
+
+    public AtomicLockBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.LOCK, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncAtomicLock> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncAtomicLock(
+                getPrimitiveId(),
+                LockServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public AtomicLock build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+}
@@ -0,0 +1,46 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.lock.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.lock.AsyncAtomicLock;
+import io.atomix.client.primitive.lock.AtomicLock;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Blocking atomic lock.
+ */
+public class BlockingAtomicLock extends Synchronous<AsyncAtomicLock> implements AtomicLock {
+
+    public BlockingAtomicLock(AsyncAtomicLock primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public long lock() {
+        return completeWithoutTimeout(async().lock());
+    }
+
+    @Override
+    public OptionalLong tryLock() {
+        return complete(async().tryLock());
+    }
+
+    @Override
+    public OptionalLong tryLock(Duration timeout) {
+        return complete(async().tryLock(timeout), timeout);
+    }
+
+    @Override
+    public void unlock() {
+        complete(async().unlock());
+    }
+
+    @Override
+    public boolean isLocked() {
+        return complete(async().isLocked());
+    }
+}
@@ -0,0 +1,92 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.lock.impl;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.lock.GetLockRequest;
+import io.atomix.api.primitive.lock.GetLockResponse;
+import io.atomix.api.primitive.lock.Lock;
+import io.atomix.api.primitive.lock.LockRequest;
+import io.atomix.api.primitive.lock.LockResponse;
+import io.atomix.api.primitive.lock.LockServiceGrpc;
+import io.atomix.api.primitive.lock.UnlockRequest;
+import io.atomix.api.primitive.lock.UnlockResponse;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.primitive.lock.AsyncAtomicLock;
+import io.atomix.client.primitive.lock.AtomicLock;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Default asynchronous atomic lock.
+ */
+public class DefaultAsyncAtomicLock
+        extends AbstractAsyncPrimitive<LockServiceGrpc.LockServiceStub>
+        implements AsyncAtomicLock {
+
+    public DefaultAsyncAtomicLock(PrimitiveId id, LockServiceGrpc.LockServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.LOCK, service, context);
+    }
+
+    @Override
+    public AtomicLock sync(Duration operationTimeout) {
+        return new BlockingAtomicLock(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Long> lock() {
+        return this.<LockResponse>execute((service, observer) -> service.lock(LockRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer), Duration.ZERO)
+                .thenApply(response -> response.getLock().getMeta().getRevision());
+    }
+
+    @Override
+    public CompletableFuture<OptionalLong> tryLock() {
+        return tryLock(Duration.ZERO);
+    }
+
+    @Override
+    public CompletableFuture<OptionalLong> tryLock(Duration timeout) {
+        return this.<LockResponse>execute((service, observer) -> service.lock(LockRequest.newBuilder()
+                .setHeaders(headers())
+                .setTimeout(com.google.protobuf.Duration.newBuilder()
+                        .setSeconds(timeout.getSeconds())
+                        .setNanos(timeout.getNano())
+                        .build())
+                .build(), observer), lockTimeout(timeout))
+                .thenApply(response -> toVersion(response.getLock()));
+    }
+
+    @Override
+    public CompletableFuture<Void> unlock() {
+        return this.<UnlockResponse>execute((service, observer) -> service.unlock(UnlockRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isLocked() {
+        return this.<GetLockResponse>execute((service, observer) -> service.getLock(GetLockRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> response.getLock().getState() == Lock.State.LOCKED);
+    }
+
+    private Duration lockTimeout(Duration timeout) {
+        Duration requestTimeout = context().partition().requestTimeout();
+        return requestTimeout.isZero() ? requestTimeout : requestTimeout.plus(timeout);
+    }
+
+    private static OptionalLong toVersion(Lock lock) {
+        return lock.getState() == Lock.State.LOCKED
+                ? OptionalLong.of(lock.getMeta().getRevision())
+                : OptionalLong.empty();
+    }
+}
@@ -0,0 +1,7 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+/**
+ * Lock implementation.
+ */
+package io.atomix.client.primitive.lock.impl;
@@ -0,0 +1,81 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.log;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous distributed log.
+ */
+public interface AsyncDistributedLog extends AsyncPrimitive {
+
+    /**
+     * Returns the number of entries in the log.
+     *
+     * @return a future to be completed with the number of entries
+     */
+    CompletableFuture<Integer> size();
+
+    /**
+     * Appends a value to the log.
+     *
+     * @param value the value to append
+     * @return a future to be completed with the appended entry
+     */
+    CompletableFuture<LogEntry> append(byte[] value);
+
+    /**
+     * Appends the remaining bytes of the given buffer to the log.
+     * <p>
+     * The bytes are sent without being copied, so they must not be modified until the returned future
+     * completes. The buffer's position is not changed.
+     *
+     * @param value the value to append
+     * @return a future to be completed with the appended entry
+     */
+    CompletableFuture<LogEntry> append(ByteBuffer value);
+
+    /**
+     * Returns the entry at the given index.
+     *
+     * @param index the entry index
+     * @return a future to be completed with the entry, or {@code null} if there is no entry at the index
+     */
+    CompletableFuture<LogEntry> get(long index);
+
+    /**
+     * Returns the first entry in the log.
+     *
+     * @return a future to be completed with the first entry, or {@code null} if the log is empty
+     */
+    CompletableFuture<LogEntry> firstEntry();
+
+    /**
+     * Returns the last entry in the log.
+     *
+     * @return a future to be completed with the last entry, or {@code null} if the log is empty
+     */
+    CompletableFuture<LogEntry> lastEntry();
+
+    /**
+     * Removes all entries from the log.
+     *
+     * @return a future to be completed once the log has been cleared
+     */
+    CompletableFuture<Void> clear();
+
+    @Override
+    default DistributedLog sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    DistributedLog sync(Duration operationTimeout);
+
+}
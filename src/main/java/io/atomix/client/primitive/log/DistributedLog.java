@@ -0,0 +1,70 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.log;
+
+import io.atomix.client.primitive.SyncPrimitive;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Distributed log.
+ */
+public interface DistributedLog extends SyncPrimitive {
+
+    /**
+     * Returns the number of entries in the log.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Appends a value to the log.
+     *
+     * @param value the value to append
+     * @return the appended entry
+     */
+    LogEntry append(byte[] value);
+
+    /**
+     * Appends the remaining bytes of the given buffer to the log.
+     * <p>
+     * The bytes are sent without being copied. The buffer's position is not changed.
+     *
+     * @param value the value to append
+     * @return the appended entry
+     */
+    LogEntry append(ByteBuffer value);
+
+    /**
+     * Returns the entry at the given index.
+     *
+     * @param index the entry index
+     * @return the entry, or {@code null} if there is no entry at the index
+     */
+    LogEntry get(long index);
+
+    /**
+     * Returns the first entry in the log.
+     *
+     * @return the first entry, or {@code null} if the log is empty
+     */
+    LogEntry firstEntry();
+
+    /**
+     * Returns the last entry in the log.
+     *
+     * @return the last entry, or {@code null} if the log is empty
+     */
+    LogEntry lastEntry();
+
+    /**
+     * Removes all entries from the log.
+     */
+    void clear();
+
+    @Override
+    AsyncDistributedLog async();
+
+}
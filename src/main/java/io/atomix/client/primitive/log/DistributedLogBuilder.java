@@ -0,0 +1,35 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.log;
+
+import io.atomix.api.primitive.log.LogServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.log.impl.DefaultAsyncDistributedLog;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder for {@link AsyncDistributedLog}.
+ */
+public class DistributedLogBuilder extends PrimitiveBuilder<DistributedLogBuilder, AsyncDistributedLog> {
+
+    public DistributedLogBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.LOG, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncDistributedLog> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncDistributedLog(
+                getPrimitiveId(),
+                LogServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public DistributedLog build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+}
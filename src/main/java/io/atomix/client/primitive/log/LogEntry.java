@@ -0,0 +1,68 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.log;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Distributed log entry.
+ * <p>
+ * Entries read from the log hold the value received from the server and copy it into an array only
+ * when {@link #value()} is first called, so values read through {@link #valueBuffer()} are never
+ * copied.
+ */
+public final class LogEntry {
+    private final long index;
+    private final ByteBuffer buffer;
+    private volatile byte[] value;
+
+    public LogEntry(long index, byte[] value) {
+        this.index = index;
+        this.buffer = ByteBuffer.wrap(value).asReadOnlyBuffer();
+        this.value = value;
+    }
+
+    public LogEntry(long index, ByteBuffer value) {
+        this.index = index;
+        this.buffer = value.asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns the entry index.
+     *
+     * @return the entry index
+     */
+    public long index() {
+        return index;
+    }
+
+    /**
+     * Returns the entry value.
+     *
+     * @return the entry value
+     */
+    public byte[] value() {
+        byte[] value = this.value;
+        if (value == null) {
+            value = new byte[buffer.remaining()];
+            buffer.duplicate().get(value);
+            this.value = value;
+        }
+        return value;
+    }
+
+    /**
+     * Returns the entry value without copying it.
+     *
+     * @return a read-only buffer over the entry value
+     */
+    public ByteBuffer valueBuffer() {
+        return buffer.duplicate();
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{index=" + index + "}";
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.log.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.log.AsyncDistributedLog;
+import io.atomix.client.primitive.log.DistributedLog;
+import io.atomix.client.primitive.log.LogEntry;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * Blocking distributed log.
+ */
+public class BlockingDistributedLog extends Synchronous<AsyncDistributedLog> implements DistributedLog {
+
+    public BlockingDistributedLog(AsyncDistributedLog primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public int size() {
+        return complete(async().size());
+    }
+
+    @Override
+    public LogEntry append(byte[] value) {
+        return complete(async().append(value));
+    }
+
+    @Override
+    public LogEntry append(ByteBuffer value) {
+        return complete(async().append(value));
+    }
+
+    @Override
+    public LogEntry get(long index) {
+        return complete(async().get(index));
+    }
+
+    @Override
+    public LogEntry firstEntry() {
+        return complete(async().firstEntry());
+    }
+
+    @Override
+    public LogEntry lastEntry() {
+        return complete(async().lastEntry());
+    }
+
+    @Override
+    public void clear() {
+        complete(async().clear());
+    }
+}
@@ -0,0 +1,116 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.log.impl;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.log.AppendRequest;
+import io.atomix.api.primitive.log.AppendResponse;
+import io.atomix.api.primitive.log.ClearRequest;
+import io.atomix.api.primitive.log.ClearResponse;
+import io.atomix.api.primitive.log.Entry;
+import io.atomix.api.primitive.log.FirstEntryRequest;
+import io.atomix.api.primitive.log.FirstEntryResponse;
+import io.atomix.api.primitive.log.GetRequest;
+import io.atomix.api.primitive.log.GetResponse;
+import io.atomix.api.primitive.log.LastEntryRequest;
+import io.atomix.api.primitive.log.LastEntryResponse;
+import io.atomix.api.primitive.log.LogServiceGrpc;
+import io.atomix.api.primitive.log.SizeRequest;
+import io.atomix.api.primitive.log.SizeResponse;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.primitive.log.AsyncDistributedLog;
+import io.atomix.client.primitive.log.DistributedLog;
+import io.atomix.client.primitive.log.LogEntry;
+import io.grpc.Status;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Default asynchronous distributed log.
+ */
+public class DefaultAsyncDistributedLog
+        extends AbstractAsyncPrimitive<LogServiceGrpc.LogServiceStub>
+        implements AsyncDistributedLog {
+
+    public DefaultAsyncDistributedLog(PrimitiveId id, LogServiceGrpc.LogServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.LOG, service, context);
+    }
+
+    @Override
+    public DistributedLog sync(Duration operationTimeout) {
+        return new BlockingDistributedLog(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return this.<SizeResponse>execute((service, observer) -> service.size(SizeRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(SizeResponse::getSize);
+    }
+
+    @Override
+    public CompletableFuture<LogEntry> append(byte[] value) {
+        return append(ByteString.copyFrom(value));
+    }
+
+    @Override
+    public CompletableFuture<LogEntry> append(ByteBuffer value) {
+        return append(UnsafeByteOperations.unsafeWrap(value));
+    }
+
+    private CompletableFuture<LogEntry> append(ByteString value) {
+        return this.<AppendResponse>execute((service, observer) -> service.append(AppendRequest.newBuilder()
+                .setHeaders(headers())
+                .setValue(value)
+                .build(), observer))
+                .thenApply(response -> toLogEntry(response.getEntry()));
+    }
+
+    @Override
+    public CompletableFuture<LogEntry> get(long index) {
+        return this.<GetResponse>execute((service, observer) -> service.get(GetRequest.newBuilder()
+                .setHeaders(headers())
+                .setIndex(index)
+                .build(), observer))
+                .thenApply(response -> toLogEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<LogEntry> firstEntry() {
+        return this.<FirstEntryResponse>execute((service, observer) -> service.firstEntry(FirstEntryRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> toLogEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<LogEntry> lastEntry() {
+        return this.<LastEntryResponse>execute((service, observer) -> service.lastEntry(LastEntryRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> toLogEntry(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return this.<ClearResponse>execute((service, observer) -> service.clear(ClearRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    private static LogEntry toLogEntry(Entry entry) {
+        return new LogEntry(entry.getIndex(), entry.getValue().asReadOnlyByteBuffer());
+    }
+}
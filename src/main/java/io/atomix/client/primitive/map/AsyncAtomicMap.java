@@ -0,0 +1,212 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Asynchronous atomic map.
+ */
+public interface AsyncAtomicMap extends AsyncPrimitive {
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return a future to be completed with the number of entries
+     */
+    CompletableFuture<Integer> size();
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return a future to be completed with whether the map is empty
+     */
+    default CompletableFuture<Boolean> isEmpty() {
+        return size().thenApply(size -> size == 0);
+    }
+
+    /**
+     * Returns whether the map contains the given key.
+     *
+     * @param key the key to check
+     * @return a future to be completed with whether the key is present
+     */
+    default CompletableFuture<Boolean> containsKey(String key) {
+        return get(key).thenApply(value -> value != null);
+    }
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key to get
+     * @return a future to be completed with the versioned value, or {@code null} if the key is absent
+     */
+    CompletableFuture<Versioned<byte[]>> get(String key);
+
+    /**
+     * Returns the value of the given key without copying it.
+     *
+     * @param key the key to get
+     * @return a future to be completed with the versioned value in a read-only buffer, or {@code null}
+     *         if the key is absent
+     */
+    CompletableFuture<Versioned<ByteBuffer>> getBuffer(String key);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return a future to be completed with the new versioned value
+     */
+    CompletableFuture<Versioned<byte[]>> put(String key, byte[] value);
+
+    /**
+     * Sets the value of the given key to the remaining bytes of the given buffer.
+     * <p>
+     * The bytes are sent without being copied, so they must not be modified until the returned future
+     * completes. The buffer's position is not changed.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return a future to be completed with the new versioned value in a read-only buffer
+     */
+    CompletableFuture<Versioned<ByteBuffer>> put(String key, ByteBuffer value);
+
+    /**
+     * Sets the value of the given key if its current version matches the given version.
+     *
+     * @param key        the key to set
+     * @param oldVersion the expected current version
+     * @param newValue   the value to set
+     * @return a future to be completed with whether the value was replaced
+     */
+    CompletableFuture<Boolean> replace(String key, long oldVersion, byte[] newValue);
+
+    /**
+     * Sets the value of the given key to the remaining bytes of the given buffer if its current
+     * version matches the given version.
+     * <p>
+     * The bytes are sent without being copied, so they must not be modified until the returned future
+     * completes. The buffer's position is not changed.
+     *
+     * @param key        the key to set
+     * @param oldVersion the expected current version
+     * @param newValue   the value to set
+     * @return a future to be completed with whether the value was replaced
+     */
+    CompletableFuture<Boolean> replace(String key, long oldVersion, ByteBuffer newValue);
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove
+     * @return a future to be completed with the removed value, or {@code null} if the key was absent
+     */
+    CompletableFuture<Versioned<byte[]>> remove(String key);
+
+    /**
+     * Removes the given key if its current version matches the given version.
+     *
+     * @param key     the key to remove
+     * @param version the expected current version
+     * @return a future to be completed with whether the key was removed
+     */
+    CompletableFuture<Boolean> remove(String key, long version);
+
+    /**
+     * Returns the values of the given keys.
+     * <p>
+     * Keys are fetched from their partitions in parallel.
+     *
+     * @param keys the keys to get
+     * @return a future to be completed with the versioned values of the keys that are present
+     */
+    CompletableFuture<Map<String, Versioned<byte[]>>> getAll(Collection<String> keys);
+
+    /**
+     * Sets the values of the given keys.
+     * <p>
+     * Entries are written to their partitions in parallel. The entries are not written atomically;
+     * if the returned future fails, some of them may have been written.
+     *
+     * @param entries the entries to set
+     * @return a future to be completed once all the entries have been written
+     */
+    CompletableFuture<Void> putAll(Map<String, byte[]> entries);
+
+    /**
+     * Removes the given keys.
+     * <p>
+     * Keys are removed from their partitions in parallel. The keys are not removed atomically; if the
+     * returned future fails, some of them may have been removed.
+     *
+     * @param keys the keys to remove
+     * @return a future to be completed with the removed values of the keys that were present
+     */
+    CompletableFuture<Map<String, Versioned<byte[]>>> removeAll(Collection<String> keys);
+
+    /**
+     * Removes all entries from the map.
+     *
+     * @return a future to be completed once the map has been cleared
+     */
+    CompletableFuture<Void> clear();
+
+    /**
+     * Adds a listener for changes to the map.
+     *
+     * @param listener the listener to add
+     * @return a future to be completed once the listener has been added
+     */
+    CompletableFuture<Void> addListener(EventListener<AtomicMapEvent> listener);
+
+    /**
+     * Removes a listener for changes to the map.
+     *
+     * @param listener the listener to remove
+     * @return a future to be completed once the listener has been removed
+     */
+    CompletableFuture<Void> removeListener(EventListener<AtomicMapEvent> listener);
+
+    /**
+     * Returns a publisher of changes to the map.
+     * <p>
+     * Each subscriber opens its own event stream, and the server only sends as many events as the
+     * subscriber has requested.
+     *
+     * @return the event publisher
+     */
+    Flow.Publisher<AtomicMapEvent> events();
+
+    /**
+     * Returns a publisher of the entries in the map.
+     * <p>
+     * Each subscriber opens its own entries stream, and the server only sends as many entries as the
+     * subscriber has requested. Partitions are streamed one after another, and the entries are not a
+     * consistent snapshot of the map across partitions.
+     *
+     * @return the entries publisher
+     */
+    Flow.Publisher<Map.Entry<String, Versioned<byte[]>>> entries();
+
+    @Override
+    default AtomicMap sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    AtomicMap sync(Duration operationTimeout);
+
+}
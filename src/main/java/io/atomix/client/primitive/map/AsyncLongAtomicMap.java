@@ -0,0 +1,173 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.collections.LongHashMap;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Asynchronous atomic map keyed by primitive {@code long} keys.
+ * <p>
+ * Keys are encoded straight into fixed-width map keys without boxing or formatting them, and bulk
+ * results are returned in {@link LongHashMap}s. A long-keyed map uses its own key encoding, so its
+ * entries can't be read through an {@link AsyncAtomicMap} of the same name. Conversely, a map must
+ * only be written through long-keyed handles: entries written under other keys are counted by
+ * {@link #size()} but can't be read, and their events are dropped.
+ */
+public interface AsyncLongAtomicMap extends AsyncPrimitive {
+
+    /**
+     * Returns the number of entries in the map.
+     * <p>
+     * Every entry of the map is counted, including any written under keys that aren't {@code long}
+     * keys.
+     *
+     * @return a future to be completed with the number of entries
+     */
+    CompletableFuture<Integer> size();
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return a future to be completed with whether the map is empty
+     */
+    default CompletableFuture<Boolean> isEmpty() {
+        return size().thenApply(size -> size == 0);
+    }
+
+    /**
+     * Returns whether the map contains the given key.
+     *
+     * @param key the key to check
+     * @return a future to be completed with whether the key is present
+     */
+    default CompletableFuture<Boolean> containsKey(long key) {
+        return get(key).thenApply(value -> value != null);
+    }
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key to get
+     * @return a future to be completed with the versioned value, or {@code null} if the key is absent
+     */
+    CompletableFuture<Versioned<byte[]>> get(long key);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return a future to be completed with the new versioned value
+     */
+    CompletableFuture<Versioned<byte[]>> put(long key, byte[] value);
+
+    /**
+     * Sets the value of the given key if its current version matches the given version.
+     *
+     * @param key        the key to set
+     * @param oldVersion the expected current version
+     * @param newValue   the value to set
+     * @return a future to be completed with whether the value was replaced
+     */
+    CompletableFuture<Boolean> replace(long key, long oldVersion, byte[] newValue);
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove
+     * @return a future to be completed with the removed value, or {@code null} if the key was absent
+     */
+    CompletableFuture<Versioned<byte[]>> remove(long key);
+
+    /**
+     * Removes the given key if its current version matches the given version.
+     *
+     * @param key     the key to remove
+     * @param version the expected current version
+     * @return a future to be completed with whether the key was removed
+     */
+    CompletableFuture<Boolean> remove(long key, long version);
+
+    /**
+     * Returns the values of the given keys.
+     * <p>
+     * Keys are fetched from their partitions in parallel.
+     *
+     * @param keys the keys to get
+     * @return a future to be completed with the versioned values of the keys that are present
+     */
+    CompletableFuture<LongHashMap<Versioned<byte[]>>> getAll(long... keys);
+
+    /**
+     * Sets the values of the given keys.
+     * <p>
+     * Entries are written to their partitions in parallel. The entries are not written atomically;
+     * if the returned future fails, some of them may have been written.
+     *
+     * @param entries the entries to set
+     * @return a future to be completed once all the entries have been written
+     */
+    CompletableFuture<Void> putAll(LongHashMap<byte[]> entries);
+
+    /**
+     * Removes the given keys.
+     * <p>
+     * Keys are removed from their partitions in parallel. The keys are not removed atomically; if the
+     * returned future fails, some of them may have been removed.
+     *
+     * @param keys the keys to remove
+     * @return a future to be completed with the removed values of the keys that were present
+     */
+    CompletableFuture<LongHashMap<Versioned<byte[]>>> removeAll(long... keys);
+
+    /**
+     * Removes all entries from the map.
+     *
+     * @return a future to be completed once the map has been cleared
+     */
+    CompletableFuture<Void> clear();
+
+    /**
+     * Adds a listener for changes to the map.
+     *
+     * @param listener the listener to add
+     * @return a future to be completed once the listener has been added
+     */
+    CompletableFuture<Void> addListener(EventListener<LongAtomicMapEvent> listener);
+
+    /**
+     * Removes a listener for changes to the map.
+     *
+     * @param listener the listener to remove
+     * @return a future to be completed once the listener has been removed
+     */
+    CompletableFuture<Void> removeListener(EventListener<LongAtomicMapEvent> listener);
+
+    /**
+     * Returns a publisher of changes to the map.
+     * <p>
+     * Each subscriber opens its own event stream, and the server only sends as many events as the
+     * subscriber has requested.
+     *
+     * @return the event publisher
+     */
+    Flow.Publisher<LongAtomicMapEvent> events();
+
+    @Override
+    default LongAtomicMap sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    LongAtomicMap sync(Duration operationTimeout);
+
+}
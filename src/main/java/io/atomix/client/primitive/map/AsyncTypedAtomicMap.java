@@ -0,0 +1,143 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.codec.Codec;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous atomic map whose values are encoded with a {@link Codec}.
+ *
+ * @param <V> the value type
+ */
+public interface AsyncTypedAtomicMap<V> extends AsyncPrimitive {
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return a future to be completed with the number of entries
+     */
+    CompletableFuture<Integer> size();
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return a future to be completed with whether the map is empty
+     */
+    default CompletableFuture<Boolean> isEmpty() {
+        return size().thenApply(size -> size == 0);
+    }
+
+    /**
+     * Returns whether the map contains the given key.
+     *
+     * @param key the key to check
+     * @return a future to be completed with whether the key is present
+     */
+    CompletableFuture<Boolean> containsKey(String key);
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key to get
+     * @return a future to be completed with the versioned value, or {@code null} if the key is absent
+     */
+    CompletableFuture<Versioned<V>> get(String key);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return a future to be completed with the new version of the key
+     */
+    CompletableFuture<Long> put(String key, V value);
+
+    /**
+     * Sets the value of the given key if its current version matches the given version.
+     *
+     * @param key        the key to set
+     * @param oldVersion the expected current version
+     * @param newValue   the value to set
+     * @return a future to be completed with whether the value was replaced
+     */
+    CompletableFuture<Boolean> replace(String key, long oldVersion, V newValue);
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove
+     * @return a future to be completed with the removed value, or {@code null} if the key was absent
+     */
+    CompletableFuture<Versioned<V>> remove(String key);
+
+    /**
+     * Removes the given key if its current version matches the given version.
+     *
+     * @param key     the key to remove
+     * @param version the expected current version
+     * @return a future to be completed with whether the key was removed
+     */
+    CompletableFuture<Boolean> remove(String key, long version);
+
+    /**
+     * Returns the values of the given keys.
+     *
+     * @param keys the keys to get
+     * @return a future to be completed with the versioned values of the keys that are present
+     */
+    CompletableFuture<Map<String, Versioned<V>>> getAll(Collection<String> keys);
+
+    /**
+     * Sets the values of the given keys.
+     * <p>
+     * The entries are not written atomically; if the returned future fails, some of them may have
+     * been written.
+     *
+     * @param entries the entries to set
+     * @return a future to be completed once all the entries have been written
+     */
+    CompletableFuture<Void> putAll(Map<String, V> entries);
+
+    /**
+     * Removes the given keys.
+     * <p>
+     * The keys are not removed atomically; if the returned future fails, some of them may have been
+     * removed.
+     *
+     * @param keys the keys to remove
+     * @return a future to be completed with the removed values of the keys that were present
+     */
+    CompletableFuture<Map<String, Versioned<V>>> removeAll(Collection<String> keys);
+
+    /**
+     * Removes all entries from the map.
+     *
+     * @return a future to be completed once the map has been cleared
+     */
+    CompletableFuture<Void> clear();
+
+    /**
+     * Returns the underlying map of encoded values.
+     *
+     * @return the underlying map
+     */
+    AsyncAtomicMap raw();
+
+    @Override
+    default TypedAtomicMap<V> sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    TypedAtomicMap<V> sync(Duration operationTimeout);
+
+}
@@ -0,0 +1,197 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Atomic map.
+ */
+public interface AtomicMap extends SyncPrimitive {
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return whether the map is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns whether the map contains the given key.
+     *
+     * @param key the key to check
+     * @return whether the key is present
+     */
+    boolean containsKey(String key);
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key to get
+     * @return the versioned value, or {@code null} if the key is absent
+     */
+    Versioned<byte[]> get(String key);
+
+    /**
+     * Returns the value of the given key without copying it.
+     *
+     * @param key the key to get
+     * @return the versioned value in a read-only buffer, or {@code null} if the key is absent
+     */
+    Versioned<ByteBuffer> getBuffer(String key);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return the new versioned value
+     */
+    Versioned<byte[]> put(String key, byte[] value);
+
+    /**
+     * Sets the value of the given key to the remaining bytes of the given buffer.
+     * <p>
+     * The bytes are sent without being copied. The buffer's position is not changed.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return the new versioned value in a read-only buffer
+     */
+    Versioned<ByteBuffer> put(String key, ByteBuffer value);
+
+    /**
+     * Sets the value of the given key if its current version matches the given version.
+     *
+     * @param key        the key to set
+     * @param oldVersion the expected current version
+     * @param newValue   the value to set
+     * @return whether the value was replaced
+     */
+    boolean replace(String key, long oldVersion, byte[] newValue);
+
+    /**
+     * Sets the value of the given key to the remaining bytes of the given buffer if its current
+     * version matches the given version.
+     * <p>
+     * The bytes are sent without being copied. The buffer's position is not changed.
+     *
+     * @param key        the key to set
+     * @param oldVersion the expected current version
+     * @param newValue   the value to set
+     * @return whether the value was replaced
+     */
+    boolean replace(String key, long oldVersion, ByteBuffer newValue);
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove
+     * @return the removed value, or {@code null} if the key was absent
+     */
+    Versioned<byte[]> remove(String key);
+
+    /**
+     * Removes the given key if its current version matches the given version.
+     *
+     * @param key     the key to remove
+     * @param version the expected current version
+     * @return whether the key was removed
+     */
+    boolean remove(String key, long version);
+
+    /**
+     * Returns the values of the given keys.
+     *
+     * @param keys the keys to get
+     * @return the versioned values of the keys that are present
+     */
+    Map<String, Versioned<byte[]>> getAll(Collection<String> keys);
+
+    /**
+     * Sets the values of the given keys.
+     * <p>
+     * The entries are not written atomically; if the operation fails, some of them may have been
+     * written.
+     *
+     * @param entries the entries to set
+     */
+    void putAll(Map<String, byte[]> entries);
+
+    /**
+     * Removes the given keys.
+     * <p>
+     * The keys are not removed atomically; if the operation fails, some of them may have been removed.
+     *
+     * @param keys the keys to remove
+     * @return the removed values of the keys that were present
+     */
+    Map<String, Versioned<byte[]>> removeAll(Collection<String> keys);
+
+    /**
+     * Removes all entries from the map.
+     */
+    void clear();
+
+    /**
+     * Adds a listener for changes to the map.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(EventListener<AtomicMapEvent> listener);
+
+    /**
+     * Removes a listener for changes to the map.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(EventListener<AtomicMapEvent> listener);
+
+    /**
+     * Returns a lazily consumed stream of the entries in the map.
+     * <p>
+     * Entries are fetched from the server as the stream is consumed, with a bounded number prefetched,
+     * so the map need not fit in memory. The stream holds an open server stream until it is exhausted or
+     * closed. It is closed when a terminal operation on it returns, including short-circuiting ones such
+     * as {@code findFirst()}, but streams of primitives derived from it and its iterator are not, so
+     * those must be used in a try-with-resources statement.
+     *
+     * @return the stream of entries
+     */
+    Stream<Map.Entry<String, Versioned<byte[]>>> entries();
+
+    /**
+     * Returns a lazily consumed stream of the keys in the map.
+     *
+     * @return the stream of keys
+     * @see #entries()
+     */
+    Stream<String> keys();
+
+    /**
+     * Returns a lazily consumed stream of the values in the map.
+     *
+     * @return the stream of values
+     * @see #entries()
+     */
+    Stream<Versioned<byte[]>> values();
+
+    @Override
+    AsyncAtomicMap async();
+
+}
@@ -0,0 +1,107 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.api.primitive.map.MapServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.map.impl.CachingAsyncAtomicMap;
+import io.atomix.client.primitive.map.impl.DefaultAsyncAtomicMap;
+import io.atomix.client.primitive.map.impl.TranscodingAsyncAtomicMap;
+import io.atomix.client.utils.codec.Codec;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link AsyncAtomicMap}.
+ */
+public class AtomicMapBuilder extends PrimitiveBuilder<AtomicMapBuilder, AsyncAtomicMap> {
+    private int nearCacheSize;
+    private long offHeapNearCacheBytes;
+
+    public AtomicMapBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.MAP, name);
+    }
+
+    /**
+     * Enables a near cache that serves reads of recently used keys locally.
+     * <p>
+     * The cache is kept up to date through the map's event stream, so it is eventually consistent
+     * with the map; reads of a key may briefly return its previous value after another client
+     * changes it. Disabled by default.
+     *
+     * @param nearCacheSize the maximum number of cached keys, or zero to disable the cache
+     * @return the map builder
+     */
+    public AtomicMapBuilder withNearCache(int nearCacheSize) {
+        if (nearCacheSize < 0) {
+            throw new IllegalArgumentException("nearCacheSize cannot be negative");
+        }
+        this.nearCacheSize = nearCacheSize;
+        return this;
+    }
+
+    /**
+     * Enables a near cache tier that holds serialized entries in direct memory.
+     * <p>
+     * The tier keeps large working sets off the heap, so they don't add to GC pauses. If a heap near
+     * cache is also enabled with {@link #withNearCache(int)}, it holds the most recently read of the
+     * entries in direct memory. The JVM's {@code -XX:MaxDirectMemorySize} must allow for the tier.
+     * Disabled by default.
+     *
+     * @param offHeapNearCacheBytes the maximum number of bytes to cache, or zero to disable the tier
+     * @return the map builder
+     */
+    public AtomicMapBuilder withOffHeapNearCache(long offHeapNearCacheBytes) {
+        if (offHeapNearCacheBytes < 0) {
+            throw new IllegalArgumentException("offHeapNearCacheBytes cannot be negative");
+        }
+        this.offHeapNearCacheBytes = offHeapNearCacheBytes;
+        return this;
+    }
+
+    @Override
+    public CompletableFuture<AsyncAtomicMap> buildAsync() {
+        return getPartitions().thenApply(partitions -> {
+            AsyncAtomicMap map = new DefaultAsyncAtomicMap(
+                    getPrimitiveId(),
+                    MapServiceGrpc.newStub(partitions.getChannel(getName())),
+                    getContext(partitions));
+            return nearCacheSize > 0 || offHeapNearCacheBytes > 0
+                    ? new CachingAsyncAtomicMap(map, nearCacheSize, offHeapNearCacheBytes, getTimer())
+                    : map;
+        });
+    }
+
+    @Override
+    public AtomicMap build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+
+    /**
+     * Builds a map whose values are encoded with the given codec.
+     *
+     * @param valueCodec the value codec
+     * @param <V>        the value type
+     * @return a future to be completed with the map
+     */
+    public <V> CompletableFuture<AsyncTypedAtomicMap<V>> buildAsync(Codec<V> valueCodec) {
+        requireNonNull(valueCodec, "valueCodec cannot be null");
+        return buildAsync().thenApply(map -> new TranscodingAsyncAtomicMap<>(map, valueCodec));
+    }
+
+    /**
+     * Builds a map whose values are encoded with the given codec.
+     *
+     * @param valueCodec the value codec
+     * @param <V>        the value type
+     * @return the map
+     */
+    public <V> TypedAtomicMap<V> build(Codec<V> valueCodec) {
+        return buildAsync(valueCodec).join().sync(getOperationTimeout());
+    }
+}
@@ -0,0 +1,63 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.primitive.meta.Versioned;
+
+/**
+ * Atomic map change event.
+ */
+public final class AtomicMapEvent {
+
+    /**
+     * Map event type.
+     */
+    public enum Type {
+        INSERT,
+        UPDATE,
+        REMOVE,
+    }
+
+    private final Type type;
+    private final String key;
+    private final Versioned<byte[]> value;
+
+    public AtomicMapEvent(Type type, String key, Versioned<byte[]> value) {
+        this.type = type;
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Returns the event type.
+     *
+     * @return the event type
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the key that changed.
+     *
+     * @return the key that changed
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Returns the entry value; the new value for inserts and updates, the removed value for removals.
+     *
+     * @return the entry value
+     */
+    public Versioned<byte[]> value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{type=" + type + ", key=" + key + ", value=" + value + "}";
+    }
+}
@@ -0,0 +1,132 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.collections.LongHashMap;
+import io.atomix.client.utils.event.EventListener;
+
+/**
+ * Atomic map keyed by primitive {@code long} keys.
+ */
+public interface LongAtomicMap extends SyncPrimitive {
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return whether the map is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns whether the map contains the given key.
+     *
+     * @param key the key to check
+     * @return whether the key is present
+     */
+    boolean containsKey(long key);
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key to get
+     * @return the versioned value, or {@code null} if the key is absent
+     */
+    Versioned<byte[]> get(long key);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return the new versioned value
+     */
+    Versioned<byte[]> put(long key, byte[] value);
+
+    /**
+     * Sets the value of the given key if its current version matches the given version.
+     *
+     * @param key        the key to set
+     * @param oldVersion the expected current version
+     * @param newValue   the value to set
+     * @return whether the value was replaced
+     */
+    boolean replace(long key, long oldVersion, byte[] newValue);
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove
+     * @return the removed value, or {@code null} if the key was absent
+     */
+    Versioned<byte[]> remove(long key);
+
+    /**
+     * Removes the given key if its current version matches the given version.
+     *
+     * @param key     the key to remove
+     * @param version the expected current version
+     * @return whether the key was removed
+     */
+    boolean remove(long key, long version);
+
+    /**
+     * Returns the values of the given keys.
+     *
+     * @param keys the keys to get
+     * @return the versioned values of the keys that are present
+     */
+    LongHashMap<Versioned<byte[]>> getAll(long... keys);
+
+    /**
+     * Sets the values of the given keys.
+     * <p>
+     * The entries are not written atomically; if the operation fails, some of them may have been
+     * written.
+     *
+     * @param entries the entries to set
+     */
+    void putAll(LongHashMap<byte[]> entries);
+
+    /**
+     * Removes the given keys.
+     * <p>
+     * The keys are not removed atomically; if the operation fails, some of them may have been removed.
+     *
+     * @param keys the keys to remove
+     * @return the removed values of the keys that were present
+     */
+    LongHashMap<Versioned<byte[]>> removeAll(long... keys);
+
+    /**
+     * Removes all entries from the map.
+     */
+    void clear();
+
+    /**
+     * Adds a listener for changes to the map.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(EventListener<LongAtomicMapEvent> listener);
+
+    /**
+     * Removes a listener for changes to the map.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(EventListener<LongAtomicMapEvent> listener);
+
+    @Override
+    AsyncLongAtomicMap async();
+
+}
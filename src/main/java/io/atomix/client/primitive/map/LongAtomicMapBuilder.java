@@ -0,0 +1,39 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.api.primitive.map.MapServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.map.impl.DefaultAsyncAtomicMap;
+import io.atomix.client.primitive.map.impl.TranscodingAsyncLongAtomicMap;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder for {@link AsyncLongAtomicMap}.
+ */
+public class LongAtomicMapBuilder extends PrimitiveBuilder<LongAtomicMapBuilder, AsyncLongAtomicMap> {
+
+    public LongAtomicMapBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.MAP, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncLongAtomicMap> buildAsync() {
+        return getPartitions().thenApply(partitions -> {
+            AsyncAtomicMap map = new DefaultAsyncAtomicMap(
+                    getPrimitiveId(),
+                    MapServiceGrpc.newStub(partitions.getChannel(getName())),
+                    getContext(partitions));
+            return new TranscodingAsyncLongAtomicMap(map);
+        });
+    }
+
+    @Override
+    public LongAtomicMap build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+}
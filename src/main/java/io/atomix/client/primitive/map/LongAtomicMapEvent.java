@@ -0,0 +1,53 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.primitive.meta.Versioned;
+
+/**
+ * Long-keyed atomic map change event.
+ */
+public final class LongAtomicMapEvent {
+    private final AtomicMapEvent.Type type;
+    private final long key;
+    private final Versioned<byte[]> value;
+
+    public LongAtomicMapEvent(AtomicMapEvent.Type type, long key, Versioned<byte[]> value) {
+        this.type = type;
+        this.key = key;
+        this.value = value;
+    }
+
+    /**
+     * Returns the event type.
+     *
+     * @return the event type
+     */
+    public AtomicMapEvent.Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the key that changed.
+     *
+     * @return the key that changed
+     */
+    public long key() {
+        return key;
+    }
+
+    /**
+     * Returns the entry value; the new value for inserts and updates, the removed value for removals.
+     *
+     * @return the entry value
+     */
+    public Versioned<byte[]> value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{type=" + type + ", key=" + key + ", value=" + value + "}";
+    }
+}
@@ -0,0 +1,121 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Atomic map whose values are encoded with a {@link io.atomix.client.utils.codec.Codec}.
+ *
+ * @param <V> the value type
+ */
+public interface TypedAtomicMap<V> extends SyncPrimitive {
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries
+     */
+    int size();
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return whether the map is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns whether the map contains the given key.
+     *
+     * @param key the key to check
+     * @return whether the key is present
+     */
+    boolean containsKey(String key);
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key to get
+     * @return the versioned value, or {@code null} if the key is absent
+     */
+    Versioned<V> get(String key);
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key to set
+     * @param value the value to set
+     * @return the new version of the key
+     */
+    long put(String key, V value);
+
+    /**
+     * Sets the value of the given key if its current version matches the given version.
+     *
+     * @param key        the key to set
+     * @param oldVersion the expected current version
+     * @param newValue   the value to set
+     * @return whether the value was replaced
+     */
+    boolean replace(String key, long oldVersion, V newValue);
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key to remove
+     * @return the removed value, or {@code null} if the key was absent
+     */
+    Versioned<V> remove(String key);
+
+    /**
+     * Removes the given key if its current version matches the given version.
+     *
+     * @param key     the key to remove
+     * @param version the expected current version
+     * @return whether the key was removed
+     */
+    boolean remove(String key, long version);
+
+    /**
+     * Returns the values of the given keys.
+     *
+     * @param keys the keys to get
+     * @return the versioned values of the keys that are present
+     */
+    Map<String, Versioned<V>> getAll(Collection<String> keys);
+
+    /**
+     * Sets the values of the given keys.
+     * <p>
+     * The entries are not written atomically; if the operation fails, some of them may have been
+     * written.
+     *
+     * @param entries the entries to set
+     */
+    void putAll(Map<String, V> entries);
+
+    /**
+     * Removes the given keys.
+     * <p>
+     * The keys are not removed atomically; if the operation fails, some of them may have been removed.
+     *
+     * @param keys the keys to remove
+     * @return the removed values of the keys that were present
+     */
+    Map<String, Versioned<V>> removeAll(Collection<String> keys);
+
+    /**
+     * Removes all entries from the map.
+     */
+    void clear();
+
+    @Override
+    AsyncTypedAtomicMap<V> async();
+
+}
@@ -0,0 +1,127 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.map.AsyncAtomicMap;
+import io.atomix.client.primitive.map.AtomicMap;
+import io.atomix.client.primitive.map.AtomicMapEvent;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Blocking atomic map.
+ */
+public class BlockingAtomicMap extends Synchronous<AsyncAtomicMap> implements AtomicMap {
+
+    public BlockingAtomicMap(AsyncAtomicMap primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public int size() {
+        return complete(async().size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return complete(async().isEmpty());
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return complete(async().containsKey(key));
+    }
+
+    @Override
+    public Versioned<byte[]> get(String key) {
+        return complete(async().get(key));
+    }
+
+    @Override
+    public Versioned<ByteBuffer> getBuffer(String key) {
+        return complete(async().getBuffer(key));
+    }
+
+    @Override
+    public Versioned<byte[]> put(String key, byte[] value) {
+        return complete(async().put(key, value));
+    }
+
+    @Override
+    public Versioned<ByteBuffer> put(String key, ByteBuffer value) {
+        return complete(async().put(key, value));
+    }
+
+    @Override
+    public boolean replace(String key, long oldVersion, byte[] newValue) {
+        return complete(async().replace(key, oldVersion, newValue));
+    }
+
+    @Override
+    public boolean replace(String key, long oldVersion, ByteBuffer newValue) {
+        return complete(async().replace(key, oldVersion, newValue));
+    }
+
+    @Override
+    public Versioned<byte[]> remove(String key) {
+        return complete(async().remove(key));
+    }
+
+    @Override
+    public boolean remove(String key, long version) {
+        return complete(async().remove(key, version));
+    }
+
+    @Override
+    public Map<String, Versioned<byte[]>> getAll(Collection<String> keys) {
+        return complete(async().getAll(keys));
+    }
+
+    @Override
+    public void putAll(Map<String, byte[]> entries) {
+        complete(async().putAll(entries));
+    }
+
+    @Override
+    public Map<String, Versioned<byte[]>> removeAll(Collection<String> keys) {
+        return complete(async().removeAll(keys));
+    }
+
+    @Override
+    public void clear() {
+        complete(async().clear());
+    }
+
+    @Override
+    public void addListener(EventListener<AtomicMapEvent> listener) {
+        complete(async().addListener(listener));
+    }
+
+    @Override
+    public void removeListener(EventListener<AtomicMapEvent> listener) {
+        complete(async().removeListener(listener));
+    }
+
+    @Override
+    public Stream<Map.Entry<String, Versioned<byte[]>>> entries() {
+        return stream(async().entries());
+    }
+
+    @Override
+    public Stream<String> keys() {
+        return entries().map(Map.Entry::getKey);
+    }
+
+    @Override
+    public Stream<Versioned<byte[]>> values() {
+        return entries().map(Map.Entry::getValue);
+    }
+}
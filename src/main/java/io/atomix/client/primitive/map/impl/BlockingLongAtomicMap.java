@@ -0,0 +1,94 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.map.AsyncLongAtomicMap;
+import io.atomix.client.primitive.map.LongAtomicMap;
+import io.atomix.client.primitive.map.LongAtomicMapEvent;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.collections.LongHashMap;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+
+/**
+ * Blocking long-keyed atomic map.
+ */
+public class BlockingLongAtomicMap extends Synchronous<AsyncLongAtomicMap> implements LongAtomicMap {
+
+    public BlockingLongAtomicMap(AsyncLongAtomicMap primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public int size() {
+        return complete(async().size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return complete(async().isEmpty());
+    }
+
+    @Override
+    public boolean containsKey(long key) {
+        return complete(async().containsKey(key));
+    }
+
+    @Override
+    public Versioned<byte[]> get(long key) {
+        return complete(async().get(key));
+    }
+
+    @Override
+    public Versioned<byte[]> put(long key, byte[] value) {
+        return complete(async().put(key, value));
+    }
+
+    @Override
+    public boolean replace(long key, long oldVersion, byte[] newValue) {
+        return complete(async().replace(key, oldVersion, newValue));
+    }
+
+    @Override
+    public Versioned<byte[]> remove(long key) {
+        return complete(async().remove(key));
+    }
+
+    @Override
+    public boolean remove(long key, long version) {
+        return complete(async().remove(key, version));
+    }
+
+    @Override
+    public LongHashMap<Versioned<byte[]>> getAll(long... keys) {
+        return complete(async().getAll(keys));
+    }
+
+    @Override
+    public void putAll(LongHashMap<byte[]> entries) {
+        complete(async().putAll(entries));
+    }
+
+    @Override
+    public LongHashMap<Versioned<byte[]>> removeAll(long... keys) {
+        return complete(async().removeAll(keys));
+    }
+
+    @Override
+    public void clear() {
+        complete(async().clear());
+    }
+
+    @Override
+    public void addListener(EventListener<LongAtomicMapEvent> listener) {
+        complete(async().addListener(listener));
+    }
+
+    @Override
+    public void removeListener(EventListener<LongAtomicMapEvent> listener) {
+        complete(async().removeListener(listener));
+    }
+}
@@ -0,0 +1,85 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.map.AsyncTypedAtomicMap;
+import io.atomix.client.primitive.map.TypedAtomicMap;
+import io.atomix.client.primitive.meta.Versioned;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Blocking typed atomic map.
+ *
+ * @param <V> the value type
+ */
+public class BlockingTypedAtomicMap<V> extends Synchronous<AsyncTypedAtomicMap<V>> implements TypedAtomicMap<V> {
+
+    public BlockingTypedAtomicMap(AsyncTypedAtomicMap<V> primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public int size() {
+        return complete(async().size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return complete(async().isEmpty());
+    }
+
+    @Override
+    public boolean containsKey(String key) {
+        return complete(async().containsKey(key));
+    }
+
+    @Override
+    public Versioned<V> get(String key) {
+        return complete(async().get(key));
+    }
+
+    @Override
+    public long put(String key, V value) {
+        return complete(async().put(key, value));
+    }
+
+    @Override
+    public boolean replace(String key, long oldVersion, V newValue) {
+        return complete(async().replace(key, oldVersion, newValue));
+    }
+
+    @Override
+    public Versioned<V> remove(String key) {
+        return complete(async().remove(key));
+    }
+
+    @Override
+    public boolean remove(String key, long version) {
+        return complete(async().remove(key, version));
+    }
+
+    @Override
+    public Map<String, Versioned<V>> getAll(Collection<String> keys) {
+        return complete(async().getAll(keys));
+    }
+
+    @Override
+    public void putAll(Map<String, V> entries) {
+        complete(async().putAll(entries));
+    }
+
+    @Override
+    public Map<String, Versioned<V>> removeAll(Collection<String> keys) {
+        return complete(async().removeAll(keys));
+    }
+
+    @Override
+    public void clear() {
+        complete(async().clear());
+    }
+}
@@ -0,0 +1,584 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.EventStream;
+import io.atomix.client.primitive.map.AsyncAtomicMap;
+import io.atomix.client.primitive.map.AtomicMap;
+import io.atomix.client.primitive.map.AtomicMapEvent;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.concurrent.Timer;
+import io.atomix.client.utils.event.EventListener;
+import io.grpc.Status;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Atomic map that serves reads of recently used keys from a local near cache.
+ * <p>
+ * The cache holds recently read entries, including keys known to be absent, on the heap, in direct
+ * memory, or in a small heap tier in front of a large direct memory tier. It is kept up to date
+ * through the map's event stream. Events and local writes replace a cached entry only if they carry a
+ * newer revision, so events that arrive late never overwrite newer values. A read that misses the
+ * cache fills it only if no change to the key was observed while the read was in flight.
+ * <p>
+ * Entries are cached only while the event stream is open. If the stream fails, the cache is emptied
+ * and reads go to the map until the stream has been reopened. The client can't tell when the server
+ * has registered a new stream until its first event arrives, and a change made before then is never
+ * delivered. Until that first event, entries are therefore cached for at most one second, and
+ * reads that started before it are not cached at all once it has arrived.
+ * <p>
+ * The cache is split into up to 16 segments by key hash, each with its own store and lock, so reads
+ * of different keys don't contend. The size limits are divided evenly between the segments.
+ */
+public class CachingAsyncAtomicMap implements AsyncAtomicMap {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CachingAsyncAtomicMap.class);
+    private static final Duration RESUBSCRIBE_DELAY = Duration.ofSeconds(1);
+    private static final Duration UNCONFIRMED_TTL = Duration.ofSeconds(1);
+    private static final Versioned<byte[]> ABSENT = new Versioned<>(null, 0);
+    private static final int MAX_SEGMENTS = 16;
+
+    private final AsyncAtomicMap map;
+    private final Timer timer;
+    private final Segment[] segments;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Subscriber subscriber;
+    private volatile boolean live;
+    private volatile boolean confirmed;
+    private boolean closed;
+
+    /**
+     * Creates a new caching map holding its entries on the heap.
+     *
+     * @param map     the map to cache
+     * @param maxSize the maximum number of cached keys
+     * @param timer   the timer on which to reopen the event stream after it fails
+     */
+    public CachingAsyncAtomicMap(AsyncAtomicMap map, int maxSize, Timer timer) {
+        this(map, maxSize, 0, timer);
+    }
+
+    /**
+     * Creates a new caching map.
+     * <p>
+     * If both limits are set, the heap holds the most recently used of the entries cached in direct
+     * memory.
+     *
+     * @param map             the map to cache
+     * @param maxSize         the maximum number of keys cached on the heap, or zero for none
+     * @param maxOffHeapBytes the maximum number of bytes cached in direct memory, or zero for none
+     * @param timer           the timer on which to reopen the event stream after it fails
+     */
+    public CachingAsyncAtomicMap(AsyncAtomicMap map, int maxSize, long maxOffHeapBytes, Timer timer) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize cannot be negative");
+        }
+        if (maxOffHeapBytes < 0) {
+            throw new IllegalArgumentException("maxOffHeapBytes cannot be negative");
+        }
+        if (maxSize == 0 && maxOffHeapBytes == 0) {
+            throw new IllegalArgumentException("maxSize or maxOffHeapBytes must be positive");
+        }
+        this.map = requireNonNull(map, "map cannot be null");
+        this.timer = requireNonNull(timer, "timer cannot be null");
+        int limit = MAX_SEGMENTS;
+        if (maxSize > 0) {
+            limit = Math.min(limit, maxSize);
+        }
+        if (maxOffHeapBytes > 0) {
+            limit = (int) Math.min(limit, Math.max(1, maxOffHeapBytes / OffHeapNearCache.PAGE_SIZE));
+        }
+        this.segments = new Segment[Integer.highestOneBit(limit)];
+        for (int i = 0; i < segments.length; i++) {
+            int segmentSize = maxSize / segments.length;
+            long segmentBytes = maxOffHeapBytes / segments.length;
+            if (maxOffHeapBytes == 0) {
+                segments[i] = new Segment(new HeapNearCache(segmentSize));
+            } else if (maxSize == 0) {
+                segments[i] = new Segment(new OffHeapNearCache(segmentBytes));
+            } else {
+                HeapNearCache heap = new HeapNearCache(segmentSize);
+                segments[i] = new Segment(new TieredNearCache(heap, new OffHeapNearCache(segmentBytes, heap::remove)));
+            }
+        }
+        subscribe();
+    }
+
+    @Override
+    public String name() {
+        return map.name();
+    }
+
+    @Override
+    public PrimitiveType type() {
+        return map.type();
+    }
+
+    @Override
+    public AtomicMap sync(Duration operationTimeout) {
+        return new BlockingAtomicMap(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return map.size();
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> get(String key) {
+        Segment segment = segment(key);
+        Load load;
+        segment.lock.lock();
+        try {
+            if (!live) {
+                return map.get(key);
+            }
+            Versioned<byte[]> cached = segment.cache.get(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached.value() != null ? cached : null);
+            }
+            load = new Load(!confirmed);
+            segment.loads.put(key, load);
+        } finally {
+            segment.lock.unlock();
+        }
+        return map.get(key).thenApply(value -> {
+            loaded(key, load, value);
+            return value;
+        });
+    }
+
+    /**
+     * Returns the value of the given key in a read-only buffer.
+     * <p>
+     * The cache holds its own copies of values, so the buffer wraps the copy read from the cache or
+     * the value read from the map without copying it again.
+     */
+    @Override
+    public CompletableFuture<Versioned<ByteBuffer>> getBuffer(String key) {
+        return get(key).thenApply(value -> value != null
+                ? value.map(bytes -> ByteBuffer.wrap(bytes).asReadOnlyBuffer())
+                : null);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> put(String key, byte[] value) {
+        return map.put(key, value).thenApply(result -> {
+            update(key, result);
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Versioned<ByteBuffer>> put(String key, ByteBuffer value) {
+        return map.put(key, value).thenApply(result -> {
+            invalidate(key, result.version());
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> replace(String key, long oldVersion, byte[] newValue) {
+        return map.replace(key, oldVersion, newValue).thenApply(result -> {
+            invalidate(key, Long.MAX_VALUE);
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> replace(String key, long oldVersion, ByteBuffer newValue) {
+        return map.replace(key, oldVersion, newValue).thenApply(result -> {
+            invalidate(key, Long.MAX_VALUE);
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> remove(String key) {
+        return map.remove(key).thenApply(result -> {
+            invalidate(key, result != null ? result.version() : Long.MAX_VALUE);
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(String key, long version) {
+        return map.remove(key, version).thenApply(result -> {
+            invalidate(key, Long.MAX_VALUE);
+            return result;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Versioned<byte[]>>> getAll(Collection<String> keys) {
+        Map<String, Versioned<byte[]>> results = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        Map<String, Load> loads = new HashMap<>();
+        for (String key : keys) {
+            Segment segment = segment(key);
+            segment.lock.lock();
+            try {
+                Versioned<byte[]> cached = live ? segment.cache.get(key) : null;
+                if (cached == null) {
+                    misses.add(key);
+                    if (live) {
+                        Load load = new Load(!confirmed);
+                        segment.loads.put(key, load);
+                        loads.put(key, load);
+                    }
+                } else if (cached.value() != null) {
+                    results.put(key, cached);
+                }
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        if (misses.isEmpty()) {
+            return CompletableFuture.completedFuture(results);
+        }
+        return map.getAll(misses).thenApply(values -> {
+            loads.forEach((key, load) -> loaded(key, load, values.get(key)));
+            results.putAll(values);
+            return results;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, byte[]> entries) {
+        return map.putAll(entries).thenRun(() -> entries.keySet().forEach(key -> invalidate(key, Long.MAX_VALUE)));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Versioned<byte[]>>> removeAll(Collection<String> keys) {
+        return map.removeAll(keys).thenApply(results -> {
+            keys.forEach(key -> invalidate(key, Long.MAX_VALUE));
+            return results;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return map.clear().thenRun(this::invalidateAll);
+    }
+
+    @Override
+    public CompletableFuture<Void> addListener(EventListener<AtomicMapEvent> listener) {
+        return map.addListener(listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeListener(EventListener<AtomicMapEvent> listener) {
+        return map.removeListener(listener);
+    }
+
+    @Override
+    public Flow.Publisher<AtomicMapEvent> events() {
+        return map.events();
+    }
+
+    @Override
+    public Flow.Publisher<Map.Entry<String, Versioned<byte[]>>> entries() {
+        return map.entries();
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        lock.lock();
+        try {
+            closed = true;
+            live = false;
+            if (subscriber != null) {
+                subscriber.cancel();
+                subscriber = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        invalidateAll();
+        return map.close();
+    }
+
+    private void subscribe() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            subscriber = new Subscriber();
+        } finally {
+            lock.unlock();
+        }
+        map.events().subscribe(subscriber);
+    }
+
+    private void resubscribe() {
+        try {
+            timer.schedule(this::subscribe, RESUBSCRIBE_DELAY);
+        } catch (RejectedExecutionException e) {
+            // The client is closed, so stop caching.
+        }
+    }
+
+    /**
+     * Caches the value read for the given key, unless the key changed while it was being read.
+     * <p>
+     * A read that started before the event stream was confirmed may have missed a change that was never
+     * delivered. It's cached as unconfirmed if the stream still is, and not at all if it no longer is.
+     */
+    private void loaded(String key, Load load, Versioned<byte[]> value) {
+        Segment segment = segment(key);
+        segment.lock.lock();
+        try {
+            if (segment.loads.remove(key, load) && !(load.unconfirmed && confirmed)) {
+                segment.cache.put(key, value != null ? value : ABSENT);
+                if (load.unconfirmed) {
+                    segment.unconfirmed.add(key);
+                }
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the cached value of the given key if the new value is more recent.
+     */
+    private void update(String key, Versioned<byte[]> value) {
+        Segment segment = segment(key);
+        segment.lock.lock();
+        try {
+            segment.loads.remove(key);
+            long version = segment.cache.version(key);
+            if (version != NearCache.NOT_CACHED && version < value.version()) {
+                segment.cache.put(key, value);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the cached value of the given key if it is no more recent than the given version.
+     */
+    private void invalidate(String key, long version) {
+        Segment segment = segment(key);
+        segment.lock.lock();
+        try {
+            segment.loads.remove(key);
+            long cached = segment.cache.version(key);
+            if (cached != NearCache.NOT_CACHED && cached <= version) {
+                segment.cache.remove(key);
+            }
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * Empties every segment.
+     * <p>
+     * Callers that stop caching clear {@link #live} first, so a read can't start a load in a segment
+     * after it has been emptied.
+     */
+    private void invalidateAll() {
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.lock.lock();
+                try {
+                    segment.cache.clear();
+                    segment.loads.clear();
+                    segment.unconfirmed.clear();
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drops the entries cached while the event stream was unconfirmed.
+     */
+    private void dropUnconfirmed() {
+        for (Segment segment : segments) {
+            segment.lock.lock();
+            try {
+                for (String key : segment.unconfirmed) {
+                    segment.cache.remove(key);
+                }
+                segment.unconfirmed.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    private Segment segment(String key) {
+        int hash = key.hashCode();
+        return segments[(hash ^ hash >>> 16) & (segments.length - 1)];
+    }
+
+    /**
+     * Segment of the cache, holding the keys with a common hash suffix.
+     */
+    private static final class Segment {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final NearCache cache;
+        private final Map<String, Load> loads = new HashMap<>();
+        private final Set<String> unconfirmed = new HashSet<>();
+
+        Segment(NearCache cache) {
+            this.cache = cache;
+        }
+    }
+
+    /**
+     * Read of a key that fills the cache once it completes.
+     */
+    private static final class Load {
+        private final boolean unconfirmed;
+
+        Load(boolean unconfirmed) {
+            this.unconfirmed = unconfirmed;
+        }
+    }
+
+    /**
+     * Subscriber that applies the map's events to the cache.
+     */
+    private class Subscriber implements Flow.Subscriber<AtomicMapEvent> {
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (cancelled) {
+                subscription.cancel();
+                return;
+            }
+            lock.lock();
+            try {
+                if (subscriber != this) {
+                    subscription.cancel();
+                    return;
+                }
+                confirmed = false;
+                live = true;
+            } finally {
+                lock.unlock();
+            }
+            scheduleExpiry();
+            subscription.request(EventStream.WINDOW);
+        }
+
+        /**
+         * Drops the unconfirmed entries every {@link #UNCONFIRMED_TTL} until the stream is confirmed.
+         */
+        private void scheduleExpiry() {
+            try {
+                timer.schedule(this::expire, UNCONFIRMED_TTL);
+            } catch (RejectedExecutionException e) {
+                // The client is closed, so stop caching.
+            }
+        }
+
+        private void expire() {
+            lock.lock();
+            try {
+                if (subscriber != this || confirmed) {
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            dropUnconfirmed();
+            scheduleExpiry();
+        }
+
+        /**
+         * Marks the stream as registered by the server on its first event.
+         */
+        private void confirm() {
+            lock.lock();
+            try {
+                if (subscriber != this || confirmed) {
+                    return;
+                }
+                confirmed = true;
+            } finally {
+                lock.unlock();
+            }
+            dropUnconfirmed();
+        }
+
+        @Override
+        public void onNext(AtomicMapEvent event) {
+            if (!confirmed) {
+                confirm();
+            }
+            if (event.type() == AtomicMapEvent.Type.REMOVE) {
+                invalidate(event.key(), event.value().version());
+            } else {
+                update(event.key(), event.value());
+            }
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            if (Status.fromThrowable(t).getCode() != Status.Code.CANCELLED) {
+                LOGGER.warn("Near cache event stream for {} failed", name(), t);
+            }
+            closed();
+        }
+
+        @Override
+        public void onComplete() {
+            closed();
+        }
+
+        private void closed() {
+            lock.lock();
+            try {
+                if (subscriber != this) {
+                    return;
+                }
+                subscriber = null;
+                live = false;
+            } finally {
+                lock.unlock();
+            }
+            invalidateAll();
+            resubscribe();
+        }
+
+        void cancel() {
+            cancelled = true;
+            Flow.Subscription subscription = this.subscription;
+            if (subscription != null) {
+                subscription.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,246 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.map.ClearRequest;
+import io.atomix.api.primitive.map.ClearResponse;
+import io.atomix.api.primitive.map.EntriesRequest;
+import io.atomix.api.primitive.map.EntriesResponse;
+import io.atomix.api.primitive.map.Entry;
+import io.atomix.api.primitive.map.EventsRequest;
+import io.atomix.api.primitive.map.EventsResponse;
+import io.atomix.api.primitive.map.GetRequest;
+import io.atomix.api.primitive.map.GetResponse;
+import io.atomix.api.primitive.map.MapServiceGrpc;
+import io.atomix.api.primitive.map.PutRequest;
+import io.atomix.api.primitive.map.PutResponse;
+import io.atomix.api.primitive.map.RemoveRequest;
+import io.atomix.api.primitive.map.RemoveResponse;
+import io.atomix.api.primitive.map.SizeRequest;
+import io.atomix.api.primitive.map.SizeResponse;
+import io.atomix.api.primitive.meta.ObjectMeta;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.EventPublisher;
+import io.atomix.client.primitive.impl.EventStream;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.primitive.map.AsyncAtomicMap;
+import io.atomix.client.primitive.map.AtomicMap;
+import io.atomix.client.primitive.map.AtomicMapEvent;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.event.EventListener;
+import io.grpc.Status;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Default asynchronous atomic map.
+ */
+public class DefaultAsyncAtomicMap
+        extends AbstractAsyncPrimitive<MapServiceGrpc.MapServiceStub>
+        implements AsyncAtomicMap {
+    private final EventStream<EventsResponse, AtomicMapEvent> events;
+
+    public DefaultAsyncAtomicMap(PrimitiveId id, MapServiceGrpc.MapServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.MAP, service, context);
+        this.events = new EventStream<>(
+                observer -> stream((stub, o) -> stub.events(EventsRequest.newBuilder()
+                        .setHeaders(headers())
+                        .build(), o), observer),
+                this::toEvent,
+                context.listenerExecutor(),
+                context.timer());
+    }
+
+    @Override
+    public AtomicMap sync(Duration operationTimeout) {
+        return new BlockingAtomicMap(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return this.<SizeResponse>readAll((service, observer) -> service.size(SizeRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(responses -> responses.stream().mapToInt(SizeResponse::getSize).sum());
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> get(String key) {
+        return getEntry(key).thenApply(entry -> entry != null ? toVersioned(entry) : null);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<ByteBuffer>> getBuffer(String key) {
+        return getEntry(key).thenApply(entry -> entry != null ? toVersionedBuffer(entry) : null);
+    }
+
+    private CompletableFuture<Entry> getEntry(String key) {
+        return this.<GetResponse>read(key, (service, observer) -> service.get(GetRequest.newBuilder()
+                .setHeaders(headers())
+                .setKey(key)
+                .build(), observer))
+                .thenApply(GetResponse::getEntry)
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> put(String key, byte[] value) {
+        return put(key, ByteString.copyFrom(value)).thenApply(DefaultAsyncAtomicMap::toVersioned);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<ByteBuffer>> put(String key, ByteBuffer value) {
+        return put(key, UnsafeByteOperations.unsafeWrap(value)).thenApply(DefaultAsyncAtomicMap::toVersionedBuffer);
+    }
+
+    private CompletableFuture<Entry> put(String key, ByteString value) {
+        return this.<PutResponse>execute(key, (service, observer) -> service.put(PutRequest.newBuilder()
+                .setHeaders(headers())
+                .setEntry(Entry.newBuilder()
+                        .setKey(key)
+                        .setValue(value)
+                        .build())
+                .build(), observer))
+                .thenApply(PutResponse::getEntry);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> replace(String key, long oldVersion, byte[] newValue) {
+        return replace(key, oldVersion, ByteString.copyFrom(newValue));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> replace(String key, long oldVersion, ByteBuffer newValue) {
+        return replace(key, oldVersion, UnsafeByteOperations.unsafeWrap(newValue));
+    }
+
+    private CompletableFuture<Boolean> replace(String key, long oldVersion, ByteString newValue) {
+        return this.<PutResponse>execute(key, (service, observer) -> service.put(PutRequest.newBuilder()
+                .setHeaders(headers())
+                .setEntry(Entry.newBuilder()
+                        .setKey(key)
+                        .setValue(newValue)
+                        .setMeta(ObjectMeta.newBuilder()
+                                .setRevision(oldVersion)
+                                .build())
+                        .build())
+                .build(), observer))
+                .thenApply(response -> true)
+                .exceptionally(orElse(Status.Code.FAILED_PRECONDITION, false))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, false));
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> remove(String key) {
+        return this.<RemoveResponse>execute(key, (service, observer) -> service.remove(RemoveRequest.newBuilder()
+                .setHeaders(headers())
+                .setEntry(Entry.newBuilder()
+                        .setKey(key)
+                        .build())
+                .build(), observer))
+                .thenApply(response -> toVersioned(response.getEntry()))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(String key, long version) {
+        return this.<RemoveResponse>execute(key, (service, observer) -> service.remove(RemoveRequest.newBuilder()
+                .setHeaders(headers())
+                .setEntry(Entry.newBuilder()
+                        .setKey(key)
+                        .setMeta(ObjectMeta.newBuilder()
+                                .setRevision(version)
+                                .build())
+                        .build())
+                .build(), observer))
+                .thenApply(response -> true)
+                .exceptionally(orElse(Status.Code.FAILED_PRECONDITION, false))
+                .exceptionally(orElse(Status.Code.NOT_FOUND, false));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Versioned<byte[]>>> getAll(Collection<String> keys) {
+        return executeAll(keys, this::get);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, byte[]> entries) {
+        return applyAll(entries.keySet(), key -> put(key, ByteString.copyFrom(entries.get(key))));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Versioned<byte[]>>> removeAll(Collection<String> keys) {
+        return executeAll(keys, this::remove);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return this.<ClearResponse>executeOnAll((service, observer) -> service.clear(ClearRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> addListener(EventListener<AtomicMapEvent> listener) {
+        return events.addListener(listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeListener(EventListener<AtomicMapEvent> listener) {
+        return events.removeListener(listener);
+    }
+
+    @Override
+    public Flow.Publisher<AtomicMapEvent> events() {
+        return events.publisher();
+    }
+
+    @Override
+    public Flow.Publisher<Map.Entry<String, Versioned<byte[]>>> entries() {
+        return new EventPublisher<>(
+                this.<EntriesResponse>streamAll((stub, o) -> stub.entries(EntriesRequest.newBuilder()
+                        .setHeaders(headers())
+                        .build(), o)),
+                response -> Map.entry(response.getEntry().getKey(), toVersioned(response.getEntry())),
+                context().executor());
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        events.close();
+        return super.close();
+    }
+
+    private AtomicMapEvent toEvent(EventsResponse response) {
+        Entry entry = response.getEvent().getEntry();
+        switch (response.getEvent().getType()) {
+            case INSERT:
+                return new AtomicMapEvent(AtomicMapEvent.Type.INSERT, entry.getKey(), toVersioned(entry));
+            case UPDATE:
+                return new AtomicMapEvent(AtomicMapEvent.Type.UPDATE, entry.getKey(), toVersioned(entry));
+            case REMOVE:
+                return new AtomicMapEvent(AtomicMapEvent.Type.REMOVE, entry.getKey(), toVersioned(entry));
+            default:
+                return null;
+        }
+    }
+
+    private static Versioned<byte[]> toVersioned(Entry entry) {
+        return new Versioned<>(entry.getValue().toByteArray(), entry.getMeta().getRevision());
+    }
+
+    private static Versioned<ByteBuffer> toVersionedBuffer(Entry entry) {
+        return new Versioned<>(entry.getValue().asReadOnlyByteBuffer(), entry.getMeta().getRevision());
+    }
+}
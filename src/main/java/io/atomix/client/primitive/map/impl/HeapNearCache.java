@@ -0,0 +1,56 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.meta.Versioned;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Near cache holding the least recently used keys on the heap.
+ */
+final class HeapNearCache implements NearCache {
+    private final int maxSize;
+    private final Map<String, Versioned<byte[]>> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    HeapNearCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public Versioned<byte[]> get(String key) {
+        return copy(entries.get(key));
+    }
+
+    @Override
+    public long version(String key) {
+        Versioned<byte[]> value = entries.get(key);
+        return value != null ? value.version() : NOT_CACHED;
+    }
+
+    @Override
+    public void put(String key, Versioned<byte[]> value) {
+        entries.put(key, copy(value));
+        if (entries.size() > maxSize) {
+            entries.remove(entries.keySet().iterator().next());
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        entries.clear();
+    }
+
+    private static Versioned<byte[]> copy(Versioned<byte[]> value) {
+        return value != null && value.value() != null
+                ? new Versioned<>(value.value().clone(), value.version())
+                : value;
+    }
+}
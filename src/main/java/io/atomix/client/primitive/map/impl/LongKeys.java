@@ -0,0 +1,105 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.utils.collections.LongHashMap;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Encoding of {@code long} keys as map keys.
+ * <p>
+ * Map keys are strings, and strings go over the wire as UTF-8, so a key is packed seven bits at a
+ * time into {@value #LENGTH} ASCII characters: every key is exactly {@value #LENGTH} bytes on the wire
+ * and in the string's compact Latin-1 form. The sign bit is flipped first so that the encoded keys
+ * sort in the same order as the numbers.
+ */
+final class LongKeys {
+    static final int LENGTH = 10;
+
+    private LongKeys() {
+    }
+
+    /**
+     * Encodes the given key.
+     *
+     * @param key the key to encode
+     * @return the encoded key
+     */
+    static String encode(long key) {
+        long bits = key ^ Long.MIN_VALUE;
+        byte[] bytes = new byte[LENGTH];
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            bytes[i] = (byte) (bits & 0x7f);
+            bits >>>= 7;
+        }
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Encodes the given keys.
+     *
+     * @param keys the keys to encode
+     * @return the encoded keys
+     */
+    static List<String> encodeAll(long[] keys) {
+        String[] encoded = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            encoded[i] = encode(keys[i]);
+        }
+        return Arrays.asList(encoded);
+    }
+
+    /**
+     * Returns whether the given map key is an encoded {@code long} key.
+     *
+     * @param key the map key
+     * @return whether the key can be decoded
+     */
+    static boolean isEncoded(String key) {
+        if (key.length() != LENGTH || key.charAt(0) > 1) {
+            return false;
+        }
+        for (int i = 1; i < LENGTH; i++) {
+            if (key.charAt(i) > 0x7f) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the given key.
+     *
+     * @param key the encoded key
+     * @return the decoded key
+     * @throws IllegalArgumentException if the key is not an encoded {@code long} key
+     */
+    static long decode(String key) {
+        if (!isEncoded(key)) {
+            throw new IllegalArgumentException("Not a long key: " + key);
+        }
+        long bits = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            bits = bits << 7 | key.charAt(i);
+        }
+        return bits ^ Long.MIN_VALUE;
+    }
+
+    /**
+     * Decodes the keys of the given map.
+     *
+     * @param entries the entries by encoded key
+     * @param <V>     the value type
+     * @return the entries by decoded key
+     */
+    static <V> LongHashMap<V> decodeAll(Map<String, V> entries) {
+        LongHashMap<V> decoded = new LongHashMap<>(entries.size());
+        entries.forEach((key, value) -> decoded.put(decode(key), value));
+        return decoded;
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.meta.Versioned;
+
+/**
+ * Local store backing a {@link CachingAsyncAtomicMap}.
+ * <p>
+ * A cached key maps either to its value or, if the key is known to be absent from the map, to a
+ * {@link Versioned} with a {@code null} value. Stores copy values in and out, so neither the caller nor
+ * the store can change the other's arrays. Stores are not thread safe; the map serializes access.
+ */
+interface NearCache {
+
+    /**
+     * Version returned by {@link #version(String)} for keys that aren't cached.
+     */
+    long NOT_CACHED = -1;
+
+    /**
+     * Returns the cached value of the given key.
+     *
+     * @param key the key
+     * @return the cached value, or {@code null} if the key isn't cached
+     */
+    Versioned<byte[]> get(String key);
+
+    /**
+     * Returns the version of the cached value of the given key without counting it as a read.
+     *
+     * @param key the key
+     * @return the cached version, or {@link #NOT_CACHED} if the key isn't cached
+     */
+    long version(String key);
+
+    /**
+     * Caches the value of the given key, evicting other keys if the store is full.
+     *
+     * @param key   the key
+     * @param value the value, with a {@code null} value if the key is absent
+     */
+    void put(String key, Versioned<byte[]> value);
+
+    /**
+     * Removes the given key from the cache.
+     *
+     * @param key the key
+     */
+    void remove(String key);
+
+    /**
+     * Removes all keys from the cache.
+     */
+    void clear();
+}
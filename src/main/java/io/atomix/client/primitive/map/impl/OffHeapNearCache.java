@@ -0,0 +1,580 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.meta.Versioned;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Near cache holding serialized entries in direct memory, bounded by a number of bytes.
+ * <p>
+ * Memory is allocated in 1 MiB direct pages. A page is assigned to one power-of-two size class when a
+ * chunk of the class is needed and carved into chunks as they are allocated; once all its chunks are
+ * freed it is returned to a pool of empty pages from which any class may take it. Clearing the cache
+ * keeps the pages and returns them all to the pool. An entry is a single chunk holding its key,
+ * version, value and entry number. The heap holds only primitive arrays: an open-addressing index
+ * over entry numbers and, for each entry, its hash, chunk address and links in the eviction queues.
+ * Heap usage and GC work therefore don't grow with the size of the values.
+ * <p>
+ * Each class is managed by W-TinyLFU: new entries enter a small LRU window, then a probation segment,
+ * and move to a protected segment when read again. The eviction victim is the least recently used
+ * probation entry, unless the most recently demoted one has been accessed less often, as estimated
+ * by a {@link FrequencySketch}; that keeps one-off reads from flushing out frequently read keys.
+ * <p>
+ * Once every page is in use, an entry is made room for by evicting the victim of its own size class,
+ * unless the coldest victim of all the other classes has been accessed less often. The page holding
+ * that victim is then reclaimed: all its entries are evicted and the page is reassigned. A class
+ * with no entries of its own reclaims a page if the new entry has been accessed at least as often as
+ * the coldest victim, so memory follows the sizes of the values being read instead of staying with
+ * the classes that filled it first.
+ * <p>
+ * Direct memory is limited by {@code -XX:MaxDirectMemorySize}, which must allow for the cache.
+ */
+final class OffHeapNearCache implements NearCache {
+    private static final int PAGE_SHIFT = 20;
+    static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+    private static final int MIN_CHUNK_SHIFT = 6;
+    private static final int CLASSES = PAGE_SHIFT - MIN_CHUNK_SHIFT + 1;
+    private static final int HEADER = 20;
+    private static final int ENTRY_OFFSET = 16;
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int NIL = -1;
+
+    private final int maxPages;
+    private final FrequencySketch sketch;
+    private final Consumer<String> evictionListener;
+    private ByteBuffer[] pages = new ByteBuffer[0];
+    private int[] pageClasses = new int[0];
+    private int[] pageFree = new int[0];
+    private int[] pageBump = new int[0];
+    private int[] pageUsed = new int[0];
+    private int[] pagePrev = new int[0];
+    private int[] pageNext = new int[0];
+    private int pageCount;
+    private int emptyPages = NIL;
+    private final int[] partialPages = new int[CLASSES];
+
+    private int[] hashes = new int[16];
+    private long[] addresses = new long[16];
+    private int[] prev = new int[16];
+    private int[] next = new int[16];
+    private byte[] queues = new byte[16];
+    private int entryCount;
+    private int[] freeEntries = new int[16];
+    private int freeEntryCount;
+    private int size;
+
+    private final int[] heads = new int[CLASSES * 3];
+    private final int[] tails = new int[CLASSES * 3];
+    private final int[] counts = new int[CLASSES * 3];
+
+    private int[] table = new int[16];
+    private int mask = table.length - 1;
+
+    OffHeapNearCache(long maxBytes) {
+        this(maxBytes, key -> {
+        });
+    }
+
+    /**
+     * Creates a new off-heap near cache.
+     *
+     * @param maxBytes         the maximum number of bytes to allocate
+     * @param evictionListener called with each key evicted to make room for another
+     */
+    OffHeapNearCache(long maxBytes, Consumer<String> evictionListener) {
+        if (maxBytes < PAGE_SIZE) {
+            throw new IllegalArgumentException("maxBytes must be at least " + PAGE_SIZE);
+        }
+        this.maxPages = (int) Math.min(maxBytes >>> PAGE_SHIFT, Integer.MAX_VALUE);
+        this.sketch = new FrequencySketch((int) Math.min(maxBytes >>> 10, 1 << 24));
+        this.evictionListener = evictionListener;
+        clear();
+    }
+
+    @Override
+    public Versioned<byte[]> get(String key) {
+        int hash = hash(key);
+        sketch.increment(hash);
+        int entry = find(key, hash);
+        if (entry == NIL) {
+            return null;
+        }
+        onAccess(entry);
+        return read(entry);
+    }
+
+    @Override
+    public long version(String key) {
+        int entry = find(key, hash(key));
+        if (entry == NIL) {
+            return NOT_CACHED;
+        }
+        long address = addresses[entry];
+        return page(address).getLong(offset(address) + 8);
+    }
+
+    @Override
+    public void put(String key, Versioned<byte[]> value) {
+        int hash = hash(key);
+        int existing = find(key, hash);
+        if (existing != NIL) {
+            removeEntry(existing);
+        }
+        byte[] bytes = value.value();
+        long length = HEADER + 2L * key.length() + (bytes != null ? bytes.length : 0);
+        if (length > PAGE_SIZE) {
+            return;
+        }
+        int chunkClass = Math.max(0, 32 - Integer.numberOfLeadingZeros((int) length - 1) - MIN_CHUNK_SHIFT);
+        long address = allocate(chunkClass, hash);
+        if (address == NIL) {
+            return;
+        }
+        int entry = newEntry();
+        write(address, entry, key, value.version(), bytes);
+        hashes[entry] = hash;
+        addresses[entry] = address;
+        insert(entry);
+        size++;
+        push(entry, chunkClass, WINDOW);
+        int windowSize = Math.max(1, (counts[chunkClass * 3] + counts[chunkClass * 3 + PROBATION]
+                + counts[chunkClass * 3 + PROTECTED]) / 100);
+        while (counts[chunkClass * 3] > windowSize) {
+            int demoted = tails[chunkClass * 3];
+            unlink(demoted, chunkClass);
+            push(demoted, chunkClass, PROBATION);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        int entry = find(key, hash(key));
+        if (entry != NIL) {
+            removeEntry(entry);
+        }
+    }
+
+    /**
+     * Removes all entries, keeping the allocated pages for reuse by any size class.
+     */
+    @Override
+    public void clear() {
+        emptyPages = NIL;
+        for (int page = pageCount - 1; page >= 0; page--) {
+            release(page);
+        }
+        Arrays.fill(partialPages, NIL);
+        Arrays.fill(heads, NIL);
+        Arrays.fill(tails, NIL);
+        Arrays.fill(counts, 0);
+        entryCount = 0;
+        freeEntryCount = 0;
+        size = 0;
+        Arrays.fill(table, NIL);
+    }
+
+    private static int hash(String key) {
+        int h = key.hashCode() * 0x9e3779b9;
+        return h ^ h >>> 16;
+    }
+
+    private int chunkClass(int entry) {
+        return pageClasses[(int) (addresses[entry] >>> PAGE_SHIFT)];
+    }
+
+    private ByteBuffer page(long address) {
+        return pages[(int) (address >>> PAGE_SHIFT)];
+    }
+
+    private static int offset(long address) {
+        return (int) address & (PAGE_SIZE - 1);
+    }
+
+    private void write(long address, int entry, String key, long version, byte[] value) {
+        ByteBuffer page = page(address);
+        int offset = offset(address);
+        page.putInt(offset, key.length());
+        page.putInt(offset + 4, value != null ? value.length : NIL);
+        page.putLong(offset + 8, version);
+        page.putInt(offset + ENTRY_OFFSET, entry);
+        int keyOffset = offset + HEADER;
+        for (int i = 0; i < key.length(); i++) {
+            page.putChar(keyOffset + 2 * i, key.charAt(i));
+        }
+        if (value != null) {
+            page.position(keyOffset + 2 * key.length());
+            page.put(value);
+        }
+    }
+
+    private Versioned<byte[]> read(int entry) {
+        long address = addresses[entry];
+        ByteBuffer page = page(address);
+        int offset = offset(address);
+        int valueLength = page.getInt(offset + 4);
+        long version = page.getLong(offset + 8);
+        if (valueLength == NIL) {
+            return new Versioned<>(null, version);
+        }
+        byte[] value = new byte[valueLength];
+        page.position(offset + HEADER + 2 * page.getInt(offset));
+        page.get(value);
+        return new Versioned<>(value, version);
+    }
+
+    private String readKey(int entry) {
+        long address = addresses[entry];
+        ByteBuffer page = page(address);
+        int offset = offset(address);
+        char[] key = new char[page.getInt(offset)];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = page.getChar(offset + HEADER + 2 * i);
+        }
+        return new String(key);
+    }
+
+    private boolean keyEquals(int entry, String key) {
+        long address = addresses[entry];
+        ByteBuffer page = page(address);
+        int offset = offset(address);
+        if (page.getInt(offset) != key.length()) {
+            return false;
+        }
+        int keyOffset = offset + HEADER;
+        for (int i = 0; i < key.length(); i++) {
+            if (page.getChar(keyOffset + 2 * i) != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a free chunk of the given class for the key with the given hash, evicting entries if no
+     * memory is left.
+     */
+    private long allocate(int chunkClass, int hash) {
+        for (;;) {
+            int page = partialPages[chunkClass];
+            if (page == NIL) {
+                page = assignPage(chunkClass);
+            }
+            if (page != NIL) {
+                return take(page, chunkClass);
+            }
+            int victim = victim(chunkClass);
+            int coldest = coldestVictim(chunkClass);
+            if (coldest != NIL && (victim == NIL
+                    ? sketch.frequency(hash) >= sketch.frequency(hashes[coldest])
+                    : sketch.frequency(hashes[coldest]) < sketch.frequency(hashes[victim]))) {
+                reclaim((int) (addresses[coldest] >>> PAGE_SHIFT));
+            } else if (victim != NIL) {
+                evict(victim);
+            } else {
+                return NIL;
+            }
+        }
+    }
+
+    /**
+     * Returns the least frequently accessed of the eviction victims of the classes other than the
+     * given one.
+     */
+    private int coldestVictim(int chunkClass) {
+        int coldest = NIL;
+        int coldestFrequency = Integer.MAX_VALUE;
+        for (int other = 0; other < CLASSES; other++) {
+            if (other == chunkClass) {
+                continue;
+            }
+            int victim = victim(other);
+            if (victim != NIL) {
+                int frequency = sketch.frequency(hashes[victim]);
+                if (frequency < coldestFrequency) {
+                    coldest = victim;
+                    coldestFrequency = frequency;
+                }
+            }
+        }
+        return coldest;
+    }
+
+    /**
+     * Evicts every entry on the given page, which returns the page to the pool of empty pages.
+     */
+    private void reclaim(int page) {
+        int chunkSize = 1 << (pageClasses[page] + MIN_CHUNK_SHIFT);
+        // Evicting the last entry releases the page, which resets its bump pointer and ends the loop.
+        for (int offset = 0; offset < pageBump[page]; offset += chunkSize) {
+            int entry = pages[page].getInt(offset + ENTRY_OFFSET);
+            if (entry != NIL) {
+                evict(entry);
+            }
+        }
+    }
+
+    private void evict(int entry) {
+        String key = readKey(entry);
+        removeEntry(entry);
+        evictionListener.accept(key);
+    }
+
+    /**
+     * Takes a chunk from a page of the given class, reusing freed chunks before carving new ones.
+     */
+    private long take(int page, int chunkClass) {
+        int offset = pageFree[page];
+        if (offset != NIL) {
+            pageFree[page] = pages[page].getInt(offset);
+        } else {
+            offset = pageBump[page];
+            pageBump[page] += 1 << (chunkClass + MIN_CHUNK_SHIFT);
+        }
+        pageUsed[page]++;
+        if (isFull(page)) {
+            unlinkPage(page, chunkClass);
+        }
+        return (long) page << PAGE_SHIFT | offset;
+    }
+
+    private void free(long address, int chunkClass) {
+        int page = (int) (address >>> PAGE_SHIFT);
+        boolean full = isFull(page);
+        pages[page].putInt(offset(address) + ENTRY_OFFSET, NIL);
+        pages[page].putInt(offset(address), pageFree[page]);
+        pageFree[page] = offset(address);
+        if (--pageUsed[page] == 0) {
+            if (!full) {
+                unlinkPage(page, chunkClass);
+            }
+            release(page);
+        } else if (full) {
+            linkPage(page, chunkClass);
+        }
+    }
+
+    private boolean isFull(int page) {
+        return pageFree[page] == NIL && pageBump[page] == PAGE_SIZE;
+    }
+
+    /**
+     * Assigns an empty page to the given class, allocating a new page if none is empty.
+     */
+    private int assignPage(int chunkClass) {
+        int page = emptyPages;
+        if (page != NIL) {
+            emptyPages = pageNext[page];
+        } else if (pageCount < maxPages) {
+            page = addPage();
+        } else {
+            return NIL;
+        }
+        pageClasses[page] = chunkClass;
+        linkPage(page, chunkClass);
+        return page;
+    }
+
+    private int addPage() {
+        if (pageCount == pages.length) {
+            int length = (int) Math.min(Math.max((long) pages.length * 2, 16), maxPages);
+            pages = Arrays.copyOf(pages, length);
+            pageClasses = Arrays.copyOf(pageClasses, length);
+            pageFree = Arrays.copyOf(pageFree, length);
+            pageBump = Arrays.copyOf(pageBump, length);
+            pageUsed = Arrays.copyOf(pageUsed, length);
+            pagePrev = Arrays.copyOf(pagePrev, length);
+            pageNext = Arrays.copyOf(pageNext, length);
+        }
+        int page = pageCount++;
+        pages[page] = ByteBuffer.allocateDirect(PAGE_SIZE);
+        pageFree[page] = NIL;
+        return page;
+    }
+
+    /**
+     * Returns a page to the pool of empty pages.
+     */
+    private void release(int page) {
+        pageClasses[page] = NIL;
+        pageFree[page] = NIL;
+        pageBump[page] = 0;
+        pageUsed[page] = 0;
+        pageNext[page] = emptyPages;
+        emptyPages = page;
+    }
+
+    private void linkPage(int page, int chunkClass) {
+        pagePrev[page] = NIL;
+        pageNext[page] = partialPages[chunkClass];
+        if (partialPages[chunkClass] != NIL) {
+            pagePrev[partialPages[chunkClass]] = page;
+        }
+        partialPages[chunkClass] = page;
+    }
+
+    private void unlinkPage(int page, int chunkClass) {
+        if (pagePrev[page] != NIL) {
+            pageNext[pagePrev[page]] = pageNext[page];
+        } else {
+            partialPages[chunkClass] = pageNext[page];
+        }
+        if (pageNext[page] != NIL) {
+            pagePrev[pageNext[page]] = pagePrev[page];
+        }
+    }
+
+    private int victim(int chunkClass) {
+        int victim = tails[chunkClass * 3 + PROBATION];
+        if (victim == NIL) {
+            victim = tails[chunkClass * 3 + PROTECTED];
+            return victim != NIL ? victim : tails[chunkClass * 3];
+        }
+        int candidate = heads[chunkClass * 3 + PROBATION];
+        if (candidate != victim && sketch.frequency(hashes[candidate]) < sketch.frequency(hashes[victim])) {
+            return candidate;
+        }
+        return victim;
+    }
+
+    private void onAccess(int entry) {
+        int chunkClass = chunkClass(entry);
+        int queue = queues[entry];
+        unlink(entry, chunkClass);
+        if (queue != PROBATION) {
+            push(entry, chunkClass, queue);
+            return;
+        }
+        push(entry, chunkClass, PROTECTED);
+        int protectedSize = Math.max(1, (counts[chunkClass * 3 + PROBATION]
+                + counts[chunkClass * 3 + PROTECTED]) * 4 / 5);
+        while (counts[chunkClass * 3 + PROTECTED] > protectedSize) {
+            int demoted = tails[chunkClass * 3 + PROTECTED];
+            unlink(demoted, chunkClass);
+            push(demoted, chunkClass, PROBATION);
+        }
+    }
+
+    private void push(int entry, int chunkClass, int queue) {
+        int list = chunkClass * 3 + queue;
+        queues[entry] = (byte) queue;
+        prev[entry] = NIL;
+        next[entry] = heads[list];
+        if (heads[list] != NIL) {
+            prev[heads[list]] = entry;
+        } else {
+            tails[list] = entry;
+        }
+        heads[list] = entry;
+        counts[list]++;
+    }
+
+    private void unlink(int entry, int chunkClass) {
+        int list = chunkClass * 3 + queues[entry];
+        if (prev[entry] != NIL) {
+            next[prev[entry]] = next[entry];
+        } else {
+            heads[list] = next[entry];
+        }
+        if (next[entry] != NIL) {
+            prev[next[entry]] = prev[entry];
+        } else {
+            tails[list] = prev[entry];
+        }
+        counts[list]--;
+    }
+
+    private void removeEntry(int entry) {
+        int chunkClass = chunkClass(entry);
+        delete(entry);
+        unlink(entry, chunkClass);
+        free(addresses[entry], chunkClass);
+        if (freeEntryCount == freeEntries.length) {
+            freeEntries = Arrays.copyOf(freeEntries, freeEntries.length * 2);
+        }
+        freeEntries[freeEntryCount++] = entry;
+        size--;
+    }
+
+    private int newEntry() {
+        if (freeEntryCount > 0) {
+            return freeEntries[--freeEntryCount];
+        }
+        if (entryCount == hashes.length) {
+            int length = hashes.length * 2;
+            hashes = Arrays.copyOf(hashes, length);
+            addresses = Arrays.copyOf(addresses, length);
+            prev = Arrays.copyOf(prev, length);
+            next = Arrays.copyOf(next, length);
+            queues = Arrays.copyOf(queues, length);
+        }
+        return entryCount++;
+    }
+
+    private int find(String key, int hash) {
+        for (int slot = hash & mask; table[slot] != NIL; slot = (slot + 1) & mask) {
+            int entry = table[slot];
+            if (hashes[entry] == hash && keyEquals(entry, key)) {
+                return entry;
+            }
+        }
+        return NIL;
+    }
+
+    private void insert(int entry) {
+        if ((size + 1) * 2 > table.length) {
+            int[] entries = table;
+            table = new int[entries.length * 2];
+            mask = table.length - 1;
+            Arrays.fill(table, NIL);
+            for (int existing : entries) {
+                if (existing != NIL) {
+                    place(existing);
+                }
+            }
+        }
+        place(entry);
+    }
+
+    private void place(int entry) {
+        int slot = hashes[entry] & mask;
+        while (table[slot] != NIL) {
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = entry;
+    }
+
+    /**
+     * Removes an entry from the index, shifting back the entries that probed past it.
+     */
+    private void delete(int entry) {
+        int slot = hashes[entry] & mask;
+        while (table[slot] != entry) {
+            slot = (slot + 1) & mask;
+        }
+        for (int gap = slot, i = slot;;) {
+            table[gap] = NIL;
+            int moved;
+            do {
+                i = (i + 1) & mask;
+                moved = table[i];
+                if (moved == NIL) {
+                    return;
+                }
+                int home = hashes[moved] & mask;
+                // Entries whose home slot lies cyclically in (gap, i] can't be moved before the gap.
+                if (gap <= i ? gap < home && home <= i : gap < home || home <= i) {
+                    moved = NIL;
+                }
+            } while (moved == NIL);
+            table[gap] = moved;
+            gap = i;
+        }
+    }
+}
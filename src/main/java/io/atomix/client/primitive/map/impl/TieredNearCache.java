@@ -0,0 +1,64 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.meta.Versioned;
+
+/**
+ * Near cache with a small, fast tier in front of a larger one.
+ * <p>
+ * Every key is cached in the second tier; keys read from the second tier are promoted to the first.
+ * Keys the second tier rejects are removed from the first, and the second tier must remove the keys
+ * it evicts from the first as well, e.g. through an {@link OffHeapNearCache} eviction listener, so
+ * that the first tier never holds a key whose changes the second tier wouldn't see.
+ */
+final class TieredNearCache implements NearCache {
+    private final NearCache first;
+    private final NearCache second;
+
+    TieredNearCache(NearCache first, NearCache second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public Versioned<byte[]> get(String key) {
+        Versioned<byte[]> value = first.get(key);
+        if (value == null) {
+            value = second.get(key);
+            if (value != null) {
+                first.put(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public long version(String key) {
+        long version = second.version(key);
+        return version != NOT_CACHED ? version : first.version(key);
+    }
+
+    @Override
+    public void put(String key, Versioned<byte[]> value) {
+        second.put(key, value);
+        if (second.version(key) != NOT_CACHED) {
+            first.put(key, value);
+        } else {
+            first.remove(key);
+        }
+    }
+
+    @Override
+    public void remove(String key) {
+        first.remove(key);
+        second.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        first.clear();
+        second.clear();
+    }
+}
@@ -0,0 +1,135 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.map.AsyncAtomicMap;
+import io.atomix.client.primitive.map.AsyncTypedAtomicMap;
+import io.atomix.client.primitive.map.TypedAtomicMap;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.codec.Codec;
+import io.atomix.client.utils.codec.Codecs;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Typed atomic map that encodes its values into an underlying atomic map.
+ * <p>
+ * Values are written and read through the map's buffer methods, so an encoded value is handed to
+ * the request and a received value to the codec without being copied.
+ *
+ * @param <V> the value type
+ */
+public class TranscodingAsyncAtomicMap<V> implements AsyncTypedAtomicMap<V> {
+    private final AsyncAtomicMap map;
+    private final Codec<V> codec;
+
+    public TranscodingAsyncAtomicMap(AsyncAtomicMap map, Codec<V> codec) {
+        this.map = requireNonNull(map, "map cannot be null");
+        this.codec = requireNonNull(codec, "codec cannot be null");
+    }
+
+    @Override
+    public String name() {
+        return map.name();
+    }
+
+    @Override
+    public PrimitiveType type() {
+        return map.type();
+    }
+
+    @Override
+    public AsyncAtomicMap raw() {
+        return map;
+    }
+
+    @Override
+    public TypedAtomicMap<V> sync(Duration operationTimeout) {
+        return new BlockingTypedAtomicMap<>(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return map.size();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> containsKey(String key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<V>> get(String key) {
+        return map.getBuffer(key).thenApply(value -> value != null ? value.map(codec::decode) : null);
+    }
+
+    @Override
+    public CompletableFuture<Long> put(String key, V value) {
+        return map.put(key, encode(value)).thenApply(Versioned::version);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> replace(String key, long oldVersion, V newValue) {
+        return map.replace(key, oldVersion, encode(newValue));
+    }
+
+    @Override
+    public CompletableFuture<Versioned<V>> remove(String key) {
+        return map.remove(key).thenApply(this::decode);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(String key, long version) {
+        return map.remove(key, version);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Versioned<V>>> getAll(Collection<String> keys) {
+        return map.getAll(keys).thenApply(this::decodeAll);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAll(Map<String, V> entries) {
+        Map<String, byte[]> encoded = new HashMap<>(entries.size() * 2);
+        entries.forEach((key, value) -> encoded.put(key, Codecs.encode(codec, value)));
+        return map.putAll(encoded);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, Versioned<V>>> removeAll(Collection<String> keys) {
+        return map.removeAll(keys).thenApply(this::decodeAll);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return map.clear();
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        return map.close();
+    }
+
+    private ByteBuffer encode(V value) {
+        return ByteBuffer.wrap(Codecs.encode(codec, value));
+    }
+
+    private Versioned<V> decode(Versioned<byte[]> value) {
+        return value != null ? value.map(bytes -> Codecs.decode(codec, bytes)) : null;
+    }
+
+    private Map<String, Versioned<V>> decodeAll(Map<String, Versioned<byte[]>> values) {
+        Map<String, Versioned<V>> decoded = new HashMap<>(values.size() * 2);
+        values.forEach((key, value) -> decoded.put(key, decode(value)));
+        return decoded;
+    }
+}
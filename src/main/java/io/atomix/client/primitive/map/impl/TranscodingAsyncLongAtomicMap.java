@@ -0,0 +1,182 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.map.AsyncAtomicMap;
+import io.atomix.client.primitive.map.AsyncLongAtomicMap;
+import io.atomix.client.primitive.map.AtomicMapEvent;
+import io.atomix.client.primitive.map.LongAtomicMap;
+import io.atomix.client.primitive.map.LongAtomicMapEvent;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.collections.LongHashMap;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Long-keyed atomic map that encodes its keys into an underlying atomic map.
+ * <p>
+ * Each key is encoded once per operation by {@link LongKeys}. Events for keys that aren't encoded
+ * {@code long} keys are dropped, but {@link #size()} counts every entry of the underlying map, so the
+ * map must only be written through long-keyed handles.
+ */
+public class TranscodingAsyncLongAtomicMap implements AsyncLongAtomicMap {
+    private final AsyncAtomicMap map;
+    private final Map<EventListener<LongAtomicMapEvent>, EventListener<AtomicMapEvent>> listeners =
+            new ConcurrentHashMap<>();
+
+    public TranscodingAsyncLongAtomicMap(AsyncAtomicMap map) {
+        this.map = requireNonNull(map, "map cannot be null");
+    }
+
+    @Override
+    public String name() {
+        return map.name();
+    }
+
+    @Override
+    public PrimitiveType type() {
+        return map.type();
+    }
+
+    @Override
+    public LongAtomicMap sync(Duration operationTimeout) {
+        return new BlockingLongAtomicMap(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return map.size();
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> get(long key) {
+        return map.get(LongKeys.encode(key));
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> put(long key, byte[] value) {
+        return map.put(LongKeys.encode(key), value);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> replace(long key, long oldVersion, byte[] newValue) {
+        return map.replace(LongKeys.encode(key), oldVersion, newValue);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> remove(long key) {
+        return map.remove(LongKeys.encode(key));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(long key, long version) {
+        return map.remove(LongKeys.encode(key), version);
+    }
+
+    @Override
+    public CompletableFuture<LongHashMap<Versioned<byte[]>>> getAll(long... keys) {
+        return map.getAll(LongKeys.encodeAll(keys)).thenApply(LongKeys::decodeAll);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAll(LongHashMap<byte[]> entries) {
+        Map<String, byte[]> encoded = new HashMap<>(entries.size() * 2);
+        entries.forEach((key, value) -> encoded.put(LongKeys.encode(key), value));
+        return map.putAll(encoded);
+    }
+
+    @Override
+    public CompletableFuture<LongHashMap<Versioned<byte[]>>> removeAll(long... keys) {
+        return map.removeAll(LongKeys.encodeAll(keys)).thenApply(LongKeys::decodeAll);
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return map.clear();
+    }
+
+    @Override
+    public CompletableFuture<Void> addListener(EventListener<LongAtomicMapEvent> listener) {
+        requireNonNull(listener, "listener cannot be null");
+        return map.addListener(listeners.computeIfAbsent(listener, l -> event -> {
+            LongAtomicMapEvent longEvent = decode(event);
+            if (longEvent != null) {
+                l.event(longEvent);
+            }
+        }));
+    }
+
+    @Override
+    public CompletableFuture<Void> removeListener(EventListener<LongAtomicMapEvent> listener) {
+        EventListener<AtomicMapEvent> mapListener = listeners.remove(listener);
+        return mapListener != null ? map.removeListener(mapListener) : CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public Flow.Publisher<LongAtomicMapEvent> events() {
+        return subscriber -> map.events().subscribe(new DecodingSubscriber(requireNonNull(subscriber)));
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        return map.close();
+    }
+
+    private static LongAtomicMapEvent decode(AtomicMapEvent event) {
+        if (!LongKeys.isEncoded(event.key())) {
+            return null;
+        }
+        return new LongAtomicMapEvent(event.type(), LongKeys.decode(event.key()), event.value());
+    }
+
+    /**
+     * Subscriber that decodes the keys of the underlying map's events.
+     * <p>
+     * Each dropped event is replaced by requesting another, so the subscriber's demand is only
+     * consumed by the events it receives.
+     */
+    private static final class DecodingSubscriber implements Flow.Subscriber<AtomicMapEvent> {
+        private final Flow.Subscriber<? super LongAtomicMapEvent> subscriber;
+        private Flow.Subscription subscription;
+
+        DecodingSubscriber(Flow.Subscriber<? super LongAtomicMapEvent> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscriber.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(AtomicMapEvent event) {
+            LongAtomicMapEvent longEvent = decode(event);
+            if (longEvent != null) {
+                subscriber.onNext(longEvent);
+            } else {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+    }
+}
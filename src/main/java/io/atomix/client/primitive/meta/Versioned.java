@@ -0,0 +1,81 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.meta;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Value paired with the revision at which it was written.
+ *
+ * @param <V> the value type
+ */
+public final class Versioned<V> {
+    private final V value;
+    private final long version;
+
+    public Versioned(V value, long version) {
+        this.value = value;
+        this.version = version;
+    }
+
+    /**
+     * Returns the value.
+     *
+     * @return the value
+     */
+    public V value() {
+        return value;
+    }
+
+    /**
+     * Returns the version.
+     *
+     * @return the version
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Maps the value, keeping the version.
+     *
+     * @param mapper the value mapper
+     * @param <U>    the mapped value type
+     * @return the versioned mapped value
+     */
+    public <U> Versioned<U> map(Function<V, U> mapper) {
+        return new Versioned<>(mapper.apply(value), version);
+    }
+
+    /**
+     * Returns the value of the given versioned value, or {@code null} if it's {@code null}.
+     *
+     * @param versioned the versioned value
+     * @param <U>       the value type
+     * @return the value or {@code null}
+     */
+    public static <U> U valueOrNull(Versioned<U> versioned) {
+        return versioned != null ? versioned.value() : null;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof Versioned)) {
+            return false;
+        }
+        Versioned<?> that = (Versioned<?>) object;
+        return version == that.version && Objects.equals(value, that.value);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(value, version);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{value=" + value + ", version=" + version + "}";
+    }
+}
@@ -0,0 +1,100 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.set;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Asynchronous distributed set.
+ */
+public interface AsyncDistributedSet extends AsyncPrimitive {
+
+    /**
+     * Returns the number of elements in the set.
+     *
+     * @return a future to be completed with the number of elements
+     */
+    CompletableFuture<Integer> size();
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return a future to be completed with whether the set is empty
+     */
+    default CompletableFuture<Boolean> isEmpty() {
+        return size().thenApply(size -> size == 0);
+    }
+
+    /**
+     * Returns whether the set contains the given element.
+     *
+     * @param element the element to check
+     * @return a future to be completed with whether the element is present
+     */
+    CompletableFuture<Boolean> contains(String element);
+
+    /**
+     * Adds an element to the set.
+     *
+     * @param element the element to add
+     * @return a future to be completed with whether the element was added
+     */
+    CompletableFuture<Boolean> add(String element);
+
+    /**
+     * Removes an element from the set.
+     *
+     * @param element the element to remove
+     * @return a future to be completed with whether the element was removed
+     */
+    CompletableFuture<Boolean> remove(String element);
+
+    /**
+     * Removes all elements from the set.
+     *
+     * @return a future to be completed once the set has been cleared
+     */
+    CompletableFuture<Void> clear();
+
+    /**
+     * Adds a listener for changes to the set.
+     *
+     * @param listener the listener to add
+     * @return a future to be completed once the listener has been added
+     */
+    CompletableFuture<Void> addListener(EventListener<DistributedSetEvent> listener);
+
+    /**
+     * Removes a listener for changes to the set.
+     *
+     * @param listener the listener to remove
+     * @return a future to be completed once the listener has been removed
+     */
+    CompletableFuture<Void> removeListener(EventListener<DistributedSetEvent> listener);
+
+    /**
+     * Returns a publisher of changes to the set.
+     * <p>
+     * Each subscriber opens its own event stream, and the server only sends as many events as the
+     * subscriber has requested.
+     *
+     * @return the event publisher
+     */
+    Flow.Publisher<DistributedSetEvent> events();
+
+    @Override
+    default DistributedSet sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    DistributedSet sync(Duration operationTimeout);
+
+}
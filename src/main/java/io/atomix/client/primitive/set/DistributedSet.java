@@ -0,0 +1,74 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.set;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.utils.event.EventListener;
+
+/**
+ * Distributed set.
+ */
+public interface DistributedSet extends SyncPrimitive {
+
+    /**
+     * Returns the number of elements in the set.
+     *
+     * @return the number of elements
+     */
+    int size();
+
+    /**
+     * Returns whether the set is empty.
+     *
+     * @return whether the set is empty
+     */
+    boolean isEmpty();
+
+    /**
+     * Returns whether the set contains the given element.
+     *
+     * @param element the element to check
+     * @return whether the element is present
+     */
+    boolean contains(String element);
+
+    /**
+     * Adds an element to the set.
+     *
+     * @param element the element to add
+     * @return whether the element was added
+     */
+    boolean add(String element);
+
+    /**
+     * Removes an element from the set.
+     *
+     * @param element the element to remove
+     * @return whether the element was removed
+     */
+    boolean remove(String element);
+
+    /**
+     * Removes all elements from the set.
+     */
+    void clear();
+
+    /**
+     * Adds a listener for changes to the set.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(EventListener<DistributedSetEvent> listener);
+
+    /**
+     * Removes a listener for changes to the set.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(EventListener<DistributedSetEvent> listener);
+
+    @Override
+    AsyncDistributedSet async();
+
+}
@@ -0,0 +1,35 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.set;
+
+import io.atomix.api.primitive.set.SetServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.set.impl.DefaultAsyncDistributedSet;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Builder for {@link AsyncDistributedSet}.
+ */
+public class DistributedSetBuilder extends PrimitiveBuilder<DistributedSetBuilder, AsyncDistributedSet> {
+
+    public DistributedSetBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.SET, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncDistributedSet> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncDistributedSet(
+                getPrimitiveId(),
+                SetServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public DistributedSet build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+}
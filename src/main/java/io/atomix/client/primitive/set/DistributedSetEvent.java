@@ -0,0 +1,49 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.set;
+
+/**
+ * Distributed set change event.
+ */
+public final class DistributedSetEvent {
+
+    /**
+     * Set event type.
+     */
+    public enum Type {
+        ADD,
+        REMOVE,
+    }
+
+    private final Type type;
+    private final String element;
+
+    public DistributedSetEvent(Type type, String element) {
+        this.type = type;
+        this.element = element;
+    }
+
+    /**
+     * Returns the event type.
+     *
+     * @return the event type
+     */
+    public Type type() {
+        return type;
+    }
+
+    /**
+     * Returns the element that was added or removed.
+     *
+     * @return the element
+     */
+    public String element() {
+        return element;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{type=" + type + ", element=" + element + "}";
+    }
+}
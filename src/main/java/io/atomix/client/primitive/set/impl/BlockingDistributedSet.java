@@ -0,0 +1,62 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.set.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.set.AsyncDistributedSet;
+import io.atomix.client.primitive.set.DistributedSet;
+import io.atomix.client.primitive.set.DistributedSetEvent;
+import io.atomix.client.utils.event.EventListener;
+
+import java.time.Duration;
+
+/**
+ * Blocking distributed set.
+ */
+public class BlockingDistributedSet extends Synchronous<AsyncDistributedSet> implements DistributedSet {
+
+    public BlockingDistributedSet(AsyncDistributedSet primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public int size() {
+        return complete(async().size());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return complete(async().isEmpty());
+    }
+
+    @Override
+    public boolean contains(String element) {
+        return complete(async().contains(element));
+    }
+
+    @Override
+    public boolean add(String element) {
+        return complete(async().add(element));
+    }
+
+    @Override
+    public boolean remove(String element) {
+        return complete(async().remove(element));
+    }
+
+    @Override
+    public void clear() {
+        complete(async().clear());
+    }
+
+    @Override
+    public void addListener(EventListener<DistributedSetEvent> listener) {
+        complete(async().addListener(listener));
+    }
+
+    @Override
+    public void removeListener(EventListener<DistributedSetEvent> listener) {
+        complete(async().removeListener(listener));
+    }
+}
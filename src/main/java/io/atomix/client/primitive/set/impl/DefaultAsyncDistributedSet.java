@@ -0,0 +1,142 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.set.impl;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.set.AddRequest;
+import io.atomix.api.primitive.set.AddResponse;
+import io.atomix.api.primitive.set.ClearRequest;
+import io.atomix.api.primitive.set.ClearResponse;
+import io.atomix.api.primitive.set.ContainsRequest;
+import io.atomix.api.primitive.set.ContainsResponse;
+import io.atomix.api.primitive.set.Element;
+import io.atomix.api.primitive.set.EventsRequest;
+import io.atomix.api.primitive.set.EventsResponse;
+import io.atomix.api.primitive.set.RemoveRequest;
+import io.atomix.api.primitive.set.RemoveResponse;
+import io.atomix.api.primitive.set.SetServiceGrpc;
+import io.atomix.api.primitive.set.SizeRequest;
+import io.atomix.api.primitive.set.SizeResponse;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.EventStream;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.primitive.set.AsyncDistributedSet;
+import io.atomix.client.primitive.set.DistributedSet;
+import io.atomix.client.primitive.set.DistributedSetEvent;
+import io.atomix.client.utils.event.EventListener;
+import io.grpc.Status;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Default asynchronous distributed set.
+ */
+public class DefaultAsyncDistributedSet
+        extends AbstractAsyncPrimitive<SetServiceGrpc.SetServiceStub>
+        implements AsyncDistributedSet {
+    private final EventStream<EventsResponse, DistributedSetEvent> events;
+
+    public DefaultAsyncDistributedSet(PrimitiveId id, SetServiceGrpc.SetServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.SET, service, context);
+        this.events = new EventStream<>(
+                observer -> stream((stub, o) -> stub.events(EventsRequest.newBuilder()
+                        .setHeaders(headers())
+                        .build(), o), observer),
+                this::toEvent,
+                context.listenerExecutor(),
+                context.timer());
+    }
+
+    @Override
+    public DistributedSet sync(Duration operationTimeout) {
+        return new BlockingDistributedSet(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Integer> size() {
+        return this.<SizeResponse>readAll((service, observer) -> service.size(SizeRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(responses -> responses.stream().mapToInt(SizeResponse::getSize).sum());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> contains(String element) {
+        return this.<ContainsResponse>read(element, (service, observer) -> service.contains(ContainsRequest.newBuilder()
+                .setHeaders(headers())
+                .setElement(Element.newBuilder()
+                        .setValue(element)
+                        .build())
+                .build(), observer))
+                .thenApply(ContainsResponse::getContains);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> add(String element) {
+        return this.<AddResponse>execute(element, (service, observer) -> service.add(AddRequest.newBuilder()
+                .setHeaders(headers())
+                .setElement(Element.newBuilder()
+                        .setValue(element)
+                        .build())
+                .build(), observer))
+                .thenApply(response -> true)
+                .exceptionally(orElse(Status.Code.ALREADY_EXISTS, false));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> remove(String element) {
+        return this.<RemoveResponse>execute(element, (service, observer) -> service.remove(RemoveRequest.newBuilder()
+                .setHeaders(headers())
+                .setElement(Element.newBuilder()
+                        .setValue(element)
+                        .build())
+                .build(), observer))
+                .thenApply(response -> true)
+                .exceptionally(orElse(Status.Code.NOT_FOUND, false));
+    }
+
+    @Override
+    public CompletableFuture<Void> clear() {
+        return this.<ClearResponse>executeOnAll((service, observer) -> service.clear(ClearRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(response -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> addListener(EventListener<DistributedSetEvent> listener) {
+        return events.addListener(listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeListener(EventListener<DistributedSetEvent> listener) {
+        return events.removeListener(listener);
+    }
+
+    @Override
+    public Flow.Publisher<DistributedSetEvent> events() {
+        return events.publisher();
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        events.close();
+        return super.close();
+    }
+
+    private DistributedSetEvent toEvent(EventsResponse response) {
+        String element = response.getEvent().getElement().getValue();
+        switch (response.getEvent().getType()) {
+            case ADD:
+                return new DistributedSetEvent(DistributedSetEvent.Type.ADD, element);
+            case REMOVE:
+                return new DistributedSetEvent(DistributedSetEvent.Type.REMOVE, element);
+            default:
+                return null;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Asynchronous atomic value.
+ */
+public interface AsyncAtomicValue extends AsyncPrimitive {
+
+    /**
+     * Returns the current value.
+     *
+     * @return a future to be completed with the versioned value, or {@code null} if the value is unset
+     */
+    CompletableFuture<Versioned<byte[]>> get();
+
+    /**
+     * Returns the current value without copying it.
+     *
+     * @return a future to be completed with the versioned value in a read-only buffer, or {@code null}
+     *         if the value is unset
+     */
+    CompletableFuture<Versioned<ByteBuffer>> getBuffer();
+
+    /**
+     * Sets the value.
+     *
+     * @param value the value to set
+     * @return a future to be completed with the new versioned value
+     */
+    CompletableFuture<Versioned<byte[]>> set(byte[] value);
+
+    /**
+     * Sets the value to the remaining bytes of the given buffer.
+     * <p>
+     * The bytes are sent without being copied, so they must not be modified until the returned future
+     * completes. The buffer's position is not changed.
+     *
+     * @param value the value to set
+     * @return a future to be completed with the new versioned value in a read-only buffer
+     */
+    CompletableFuture<Versioned<ByteBuffer>> set(ByteBuffer value);
+
+    /**
+     * Sets the value if its current version matches the given version.
+     *
+     * @param version the expected current version
+     * @param value   the value to set
+     * @return a future to be completed with whether the value was set
+     */
+    CompletableFuture<Boolean> compareAndSet(long version, byte[] value);
+
+    /**
+     * Sets the value to the remaining bytes of the given buffer if its current version matches the
+     * given version.
+     * <p>
+     * The bytes are sent without being copied, so they must not be modified until the returned future
+     * completes. The buffer's position is not changed.
+     *
+     * @param version the expected current version
+     * @param value   the value to set
+     * @return a future to be completed with whether the value was set
+     */
+    CompletableFuture<Boolean> compareAndSet(long version, ByteBuffer value);
+
+    /**
+     * Adds a listener for changes to the value.
+     *
+     * @param listener the listener to add
+     * @return a future to be completed once the listener has been added
+     */
+    CompletableFuture<Void> addListener(EventListener<AtomicValueEvent> listener);
+
+    /**
+     * Removes a listener for changes to the value.
+     *
+     * @param listener the listener to remove
+     * @return a future to be completed once the listener has been removed
+     */
+    CompletableFuture<Void> removeListener(EventListener<AtomicValueEvent> listener);
+
+    /**
+     * Returns a publisher of changes to the value.
+     * <p>
+     * Each subscriber opens its own event stream, and the server only sends as many events as the
+     * subscriber has requested.
+     *
+     * @return the event publisher
+     */
+    Flow.Publisher<AtomicValueEvent> events();
+
+    @Override
+    default AtomicValue sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    AtomicValue sync(Duration operationTimeout);
+
+}
@@ -0,0 +1,60 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value;
+
+import io.atomix.client.primitive.AsyncPrimitive;
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.codec.Codec;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous atomic value encoded with a {@link Codec}.
+ *
+ * @param <V> the value type
+ */
+public interface AsyncTypedAtomicValue<V> extends AsyncPrimitive {
+
+    /**
+     * Returns the current value.
+     *
+     * @return a future to be completed with the versioned value, or {@code null} if the value is unset
+     */
+    CompletableFuture<Versioned<V>> get();
+
+    /**
+     * Sets the value.
+     *
+     * @param value the value to set
+     * @return a future to be completed with the new version of the value
+     */
+    CompletableFuture<Long> set(V value);
+
+    /**
+     * Sets the value if its current version matches the given version.
+     *
+     * @param version the expected current version
+     * @param value   the value to set
+     * @return a future to be completed with whether the value was set
+     */
+    CompletableFuture<Boolean> compareAndSet(long version, V value);
+
+    /**
+     * Returns the underlying value of encoded bytes.
+     *
+     * @return the underlying value
+     */
+    AsyncAtomicValue raw();
+
+    @Override
+    default TypedAtomicValue<V> sync() {
+        return sync(SyncPrimitive.DEFAULT_OPERATION_TIMEOUT);
+    }
+
+    @Override
+    TypedAtomicValue<V> sync(Duration operationTimeout);
+
+}
@@ -0,0 +1,87 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Atomic value.
+ */
+public interface AtomicValue extends SyncPrimitive {
+
+    /**
+     * Returns the current value.
+     *
+     * @return the versioned value, or {@code null} if the value is unset
+     */
+    Versioned<byte[]> get();
+
+    /**
+     * Returns the current value without copying it.
+     *
+     * @return the versioned value in a read-only buffer, or {@code null} if the value is unset
+     */
+    Versioned<ByteBuffer> getBuffer();
+
+    /**
+     * Sets the value.
+     *
+     * @param value the value to set
+     * @return the new versioned value
+     */
+    Versioned<byte[]> set(byte[] value);
+
+    /**
+     * Sets the value to the remaining bytes of the given buffer.
+     * <p>
+     * The bytes are sent without being copied. The buffer's position is not changed.
+     *
+     * @param value the value to set
+     * @return the new versioned value in a read-only buffer
+     */
+    Versioned<ByteBuffer> set(ByteBuffer value);
+
+    /**
+     * Sets the value if its current version matches the given version.
+     *
+     * @param version the expected current version
+     * @param value   the value to set
+     * @return whether the value was set
+     */
+    boolean compareAndSet(long version, byte[] value);
+
+    /**
+     * Sets the value to the remaining bytes of the given buffer if its current version matches the
+     * given version.
+     * <p>
+     * The bytes are sent without being copied. The buffer's position is not changed.
+     *
+     * @param version the expected current version
+     * @param value   the value to set
+     * @return whether the value was set
+     */
+    boolean compareAndSet(long version, ByteBuffer value);
+
+    /**
+     * Adds a listener for changes to the value.
+     *
+     * @param listener the listener to add
+     */
+    void addListener(EventListener<AtomicValueEvent> listener);
+
+    /**
+     * Removes a listener for changes to the value.
+     *
+     * @param listener the listener to remove
+     */
+    void removeListener(EventListener<AtomicValueEvent> listener);
+
+    @Override
+    AsyncAtomicValue async();
+
+}
@@ -0,0 +1,62 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value;
+
+import io.atomix.api.primitive.value.ValueServiceGrpc;
+import io.atomix.client.AtomixClient;
+import io.atomix.client.primitive.PrimitiveBuilder;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.value.impl.DefaultAsyncAtomicValue;
+import io.atomix.client.primitive.value.impl.TranscodingAsyncAtomicValue;
+import io.atomix.client.utils.codec.Codec;
+
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Builder for {@link AsyncAtomicValue}.
+ */
+public class AtomicValueBuilder extends PrimitiveBuilder<AtomicValueBuilder, AsyncAtomicValue> {
+
+    public AtomicValueBuilder(AtomixClient client, String name) {
+        super(client, PrimitiveType.VALUE, name);
+    }
+
+    @Override
+    public CompletableFuture<AsyncAtomicValue> buildAsync() {
+        return getPartitions().thenApply(partitions -> new DefaultAsyncAtomicValue(
+                getPrimitiveId(),
+                ValueServiceGrpc.newStub(partitions.getChannel(getName())),
+                getContext(partitions)));
+    }
+
+    @Override
+    public AtomicValue build() {
+        return buildAsync().join().sync(getOperationTimeout());
+    }
+
+    /**
+     * Builds a value encoded with the given codec.
+     *
+     * @param codec the value codec
+     * @param <V>   the value type
+     * @return a future to be completed with the value
+     */
+    public <V> CompletableFuture<AsyncTypedAtomicValue<V>> buildAsync(Codec<V> codec) {
+        requireNonNull(codec, "codec cannot be null");
+        return buildAsync().thenApply(value -> new TranscodingAsyncAtomicValue<>(value, codec));
+    }
+
+    /**
+     * Builds a value encoded with the given codec.
+     *
+     * @param codec the value codec
+     * @param <V>   the value type
+     * @return the value
+     */
+    public <V> TypedAtomicValue<V> build(Codec<V> codec) {
+        return buildAsync(codec).join().sync(getOperationTimeout());
+    }
+}
@@ -0,0 +1,31 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value;
+
+import io.atomix.client.primitive.meta.Versioned;
+
+/**
+ * Atomic value change event.
+ */
+public final class AtomicValueEvent {
+    private final Versioned<byte[]> value;
+
+    public AtomicValueEvent(Versioned<byte[]> value) {
+        this.value = value;
+    }
+
+    /**
+     * Returns the updated value.
+     *
+     * @return the updated value
+     */
+    public Versioned<byte[]> value() {
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{value=" + value + "}";
+    }
+}
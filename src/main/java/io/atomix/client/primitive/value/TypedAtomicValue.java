@@ -0,0 +1,43 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value;
+
+import io.atomix.client.primitive.SyncPrimitive;
+import io.atomix.client.primitive.meta.Versioned;
+
+/**
+ * Atomic value encoded with a {@link io.atomix.client.utils.codec.Codec}.
+ *
+ * @param <V> the value type
+ */
+public interface TypedAtomicValue<V> extends SyncPrimitive {
+
+    /**
+     * Returns the current value.
+     *
+     * @return the versioned value, or {@code null} if the value is unset
+     */
+    Versioned<V> get();
+
+    /**
+     * Sets the value.
+     *
+     * @param value the value to set
+     * @return the new version of the value
+     */
+    long set(V value);
+
+    /**
+     * Sets the value if its current version matches the given version.
+     *
+     * @param version the expected current version
+     * @param value   the value to set
+     * @return whether the value was set
+     */
+    boolean compareAndSet(long version, V value);
+
+    @Override
+    AsyncTypedAtomicValue<V> async();
+
+}
@@ -0,0 +1,64 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.primitive.value.AsyncAtomicValue;
+import io.atomix.client.primitive.value.AtomicValue;
+import io.atomix.client.primitive.value.AtomicValueEvent;
+import io.atomix.client.utils.event.EventListener;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+
+/**
+ * Blocking atomic value.
+ */
+public class BlockingAtomicValue extends Synchronous<AsyncAtomicValue> implements AtomicValue {
+
+    public BlockingAtomicValue(AsyncAtomicValue primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public Versioned<byte[]> get() {
+        return complete(async().get());
+    }
+
+    @Override
+    public Versioned<ByteBuffer> getBuffer() {
+        return complete(async().getBuffer());
+    }
+
+    @Override
+    public Versioned<byte[]> set(byte[] value) {
+        return complete(async().set(value));
+    }
+
+    @Override
+    public Versioned<ByteBuffer> set(ByteBuffer value) {
+        return complete(async().set(value));
+    }
+
+    @Override
+    public boolean compareAndSet(long version, byte[] value) {
+        return complete(async().compareAndSet(version, value));
+    }
+
+    @Override
+    public boolean compareAndSet(long version, ByteBuffer value) {
+        return complete(async().compareAndSet(version, value));
+    }
+
+    @Override
+    public void addListener(EventListener<AtomicValueEvent> listener) {
+        complete(async().addListener(listener));
+    }
+
+    @Override
+    public void removeListener(EventListener<AtomicValueEvent> listener) {
+        complete(async().removeListener(listener));
+    }
+}
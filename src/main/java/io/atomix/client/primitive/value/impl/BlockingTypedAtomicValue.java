@@ -0,0 +1,38 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value.impl;
+
+import io.atomix.client.primitive.impl.Synchronous;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.primitive.value.AsyncTypedAtomicValue;
+import io.atomix.client.primitive.value.TypedAtomicValue;
+
+import java.time.Duration;
+
+/**
+ * Blocking typed atomic value.
+ *
+ * @param <V> the value type
+ */
+public class BlockingTypedAtomicValue<V> extends Synchronous<AsyncTypedAtomicValue<V>> implements TypedAtomicValue<V> {
+
+    public BlockingTypedAtomicValue(AsyncTypedAtomicValue<V> primitive, Duration operationTimeout) {
+        super(primitive, operationTimeout);
+    }
+
+    @Override
+    public Versioned<V> get() {
+        return complete(async().get());
+    }
+
+    @Override
+    public long set(V value) {
+        return complete(async().set(value));
+    }
+
+    @Override
+    public boolean compareAndSet(long version, V value) {
+        return complete(async().compareAndSet(version, value));
+    }
+}
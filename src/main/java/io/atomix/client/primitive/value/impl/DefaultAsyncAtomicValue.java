@@ -0,0 +1,158 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value.impl;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.UnsafeByteOperations;
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.api.primitive.meta.ObjectMeta;
+import io.atomix.api.primitive.value.EventsRequest;
+import io.atomix.api.primitive.value.EventsResponse;
+import io.atomix.api.primitive.value.GetRequest;
+import io.atomix.api.primitive.value.GetResponse;
+import io.atomix.api.primitive.value.SetRequest;
+import io.atomix.api.primitive.value.SetResponse;
+import io.atomix.api.primitive.value.Value;
+import io.atomix.api.primitive.value.ValueServiceGrpc;
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.impl.AbstractAsyncPrimitive;
+import io.atomix.client.primitive.impl.EventStream;
+import io.atomix.client.primitive.impl.PrimitiveContext;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.primitive.value.AsyncAtomicValue;
+import io.atomix.client.primitive.value.AtomicValue;
+import io.atomix.client.primitive.value.AtomicValueEvent;
+import io.atomix.client.utils.event.EventListener;
+import io.grpc.Status;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+
+/**
+ * Default asynchronous atomic value.
+ */
+public class DefaultAsyncAtomicValue
+        extends AbstractAsyncPrimitive<ValueServiceGrpc.ValueServiceStub>
+        implements AsyncAtomicValue {
+    private final EventStream<EventsResponse, AtomicValueEvent> events;
+
+    public DefaultAsyncAtomicValue(
+            PrimitiveId id, ValueServiceGrpc.ValueServiceStub service, PrimitiveContext context) {
+        super(id, PrimitiveType.VALUE, service, context);
+        this.events = new EventStream<>(
+                observer -> stream((stub, o) -> stub.events(EventsRequest.newBuilder()
+                        .setHeaders(headers())
+                        .build(), o), observer),
+                this::toEvent,
+                context.listenerExecutor(),
+                context.timer());
+    }
+
+    @Override
+    public AtomicValue sync(Duration operationTimeout) {
+        return new BlockingAtomicValue(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> get() {
+        return getValue().thenApply(value -> value != null ? toVersioned(value) : null);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<ByteBuffer>> getBuffer() {
+        return getValue().thenApply(value -> value != null ? toVersionedBuffer(value) : null);
+    }
+
+    private CompletableFuture<Value> getValue() {
+        return this.<GetResponse>read((service, observer) -> service.get(GetRequest.newBuilder()
+                .setHeaders(headers())
+                .build(), observer))
+                .thenApply(GetResponse::getValue)
+                .exceptionally(orElse(Status.Code.NOT_FOUND, null));
+    }
+
+    @Override
+    public CompletableFuture<Versioned<byte[]>> set(byte[] value) {
+        return set(ByteString.copyFrom(value)).thenApply(DefaultAsyncAtomicValue::toVersioned);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<ByteBuffer>> set(ByteBuffer value) {
+        return set(UnsafeByteOperations.unsafeWrap(value)).thenApply(DefaultAsyncAtomicValue::toVersionedBuffer);
+    }
+
+    private CompletableFuture<Value> set(ByteString value) {
+        return this.<SetResponse>execute((service, observer) -> service.set(SetRequest.newBuilder()
+                .setHeaders(headers())
+                .setValue(Value.newBuilder()
+                        .setValue(value)
+                        .build())
+                .build(), observer))
+                .thenApply(SetResponse::getValue);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compareAndSet(long version, byte[] value) {
+        return compareAndSet(version, ByteString.copyFrom(value));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compareAndSet(long version, ByteBuffer value) {
+        return compareAndSet(version, UnsafeByteOperations.unsafeWrap(value));
+    }
+
+    private CompletableFuture<Boolean> compareAndSet(long version, ByteString value) {
+        return this.<SetResponse>execute((service, observer) -> service.set(SetRequest.newBuilder()
+                .setHeaders(headers())
+                .setValue(Value.newBuilder()
+                        .setValue(value)
+                        .setMeta(ObjectMeta.newBuilder()
+                                .setRevision(version)
+                                .build())
+                        .build())
+                .build(), observer))
+                .thenApply(response -> true)
+                .exceptionally(orElse(Status.Code.FAILED_PRECONDITION, false));
+    }
+
+    @Override
+    public CompletableFuture<Void> addListener(EventListener<AtomicValueEvent> listener) {
+        return events.addListener(listener);
+    }
+
+    @Override
+    public CompletableFuture<Void> removeListener(EventListener<AtomicValueEvent> listener) {
+        return events.removeListener(listener);
+    }
+
+    @Override
+    public Flow.Publisher<AtomicValueEvent> events() {
+        return events.publisher();
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        events.close();
+        return super.close();
+    }
+
+    private AtomicValueEvent toEvent(EventsResponse response) {
+        switch (response.getEvent().getType()) {
+            case UPDATE:
+                return new AtomicValueEvent(toVersioned(response.getEvent().getValue()));
+            default:
+                return null;
+        }
+    }
+
+    private static Versioned<byte[]> toVersioned(Value value) {
+        return new Versioned<>(value.getValue().toByteArray(), value.getMeta().getRevision());
+    }
+
+    private static Versioned<ByteBuffer> toVersionedBuffer(Value value) {
+        return new Versioned<>(value.getValue().asReadOnlyByteBuffer(), value.getMeta().getRevision());
+    }
+}
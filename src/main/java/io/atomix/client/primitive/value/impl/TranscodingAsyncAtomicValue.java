@@ -0,0 +1,77 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.value.impl;
+
+import io.atomix.client.primitive.PrimitiveType;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.primitive.value.AsyncAtomicValue;
+import io.atomix.client.primitive.value.AsyncTypedAtomicValue;
+import io.atomix.client.primitive.value.TypedAtomicValue;
+import io.atomix.client.utils.codec.Codec;
+import io.atomix.client.utils.codec.Codecs;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Typed atomic value that encodes its value into an underlying atomic value.
+ *
+ * @param <V> the value type
+ */
+public class TranscodingAsyncAtomicValue<V> implements AsyncTypedAtomicValue<V> {
+    private final AsyncAtomicValue value;
+    private final Codec<V> codec;
+
+    public TranscodingAsyncAtomicValue(AsyncAtomicValue value, Codec<V> codec) {
+        this.value = requireNonNull(value, "value cannot be null");
+        this.codec = requireNonNull(codec, "codec cannot be null");
+    }
+
+    @Override
+    public String name() {
+        return value.name();
+    }
+
+    @Override
+    public PrimitiveType type() {
+        return value.type();
+    }
+
+    @Override
+    public AsyncAtomicValue raw() {
+        return value;
+    }
+
+    @Override
+    public TypedAtomicValue<V> sync(Duration operationTimeout) {
+        return new BlockingTypedAtomicValue<>(this, operationTimeout);
+    }
+
+    @Override
+    public CompletableFuture<Versioned<V>> get() {
+        return value.getBuffer().thenApply(result -> result != null ? result.map(codec::decode) : null);
+    }
+
+    @Override
+    public CompletableFuture<Long> set(V newValue) {
+        return value.set(encode(newValue)).thenApply(Versioned::version);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> compareAndSet(long version, V newValue) {
+        return value.compareAndSet(version, encode(newValue));
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+        return value.close();
+    }
+
+    private ByteBuffer encode(V newValue) {
+        return ByteBuffer.wrap(Codecs.encode(codec, newValue));
+    }
+}
@@ -2,6 +2,6 @@
 // SPDX-License-Identifier: Apache-2.0
 
 /**
- * Value abstaction.
+ * Value abstraction.
  */
-package io.atomix.client;
+package io.atomix.client.primitive.value;
@@ -0,0 +1,45 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+/**
+ * Additive-increase/multiplicative-decrease limit.
+ */
+final class AimdLimit implements ConcurrencyLimit {
+    private static final double BACKOFF_RATIO = 0.9;
+
+    private final int maxLimit;
+    private int limit;
+
+    AimdLimit(int initialLimit, int maxLimit) {
+        if (maxLimit <= 0) {
+            throw new IllegalArgumentException("maxLimit must be positive");
+        }
+        if (initialLimit <= 0 || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be positive and no greater than maxLimit");
+        }
+        this.maxLimit = maxLimit;
+        this.limit = initialLimit;
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(1, (int) (limit * BACKOFF_RATIO));
+        } else if (inFlight * 2 >= limit) {
+            // Only grow while the limit is actually being used.
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "AimdLimit{limit=" + limit + ", maxLimit=" + maxLimit + "}";
+    }
+}
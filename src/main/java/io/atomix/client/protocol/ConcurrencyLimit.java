@@ -0,0 +1,80 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+/**
+ * Limit on the number of requests in flight on a partition.
+ * <p>
+ * Adaptive limits adjust themselves from the round trip time of each completed request. A limit
+ * instance belongs to a single {@link RequestWindow}, which only calls it while holding its lock, so
+ * implementations need not be thread-safe.
+ */
+public interface ConcurrencyLimit {
+
+    /**
+     * Returns a limit that never changes.
+     *
+     * @param limit the number of requests allowed in flight
+     * @return the fixed limit
+     */
+    static ConcurrencyLimit fixed(int limit) {
+        return new FixedLimit(limit);
+    }
+
+    /**
+     * Returns an additive-increase/multiplicative-decrease limit starting at its maximum.
+     * <p>
+     * The limit grows by one for each successful request while the partition is busy and is cut by
+     * 10% whenever a request is dropped, i.e. times out or is rejected by the partition. Starting at
+     * the maximum lets a new client pipeline its full window until the partition first drops a request.
+     *
+     * @param maxLimit the maximum number of requests allowed in flight
+     * @return the AIMD limit
+     */
+    static ConcurrencyLimit aimd(int maxLimit) {
+        return new AimdLimit(maxLimit, maxLimit);
+    }
+
+    /**
+     * Returns an additive-increase/multiplicative-decrease limit.
+     *
+     * @param initialLimit the number of requests initially allowed in flight
+     * @param maxLimit     the maximum number of requests allowed in flight
+     * @return the AIMD limit
+     * @see #aimd(int)
+     */
+    static ConcurrencyLimit aimd(int initialLimit, int maxLimit) {
+        return new AimdLimit(initialLimit, maxLimit);
+    }
+
+    /**
+     * Returns a delay-based limit modelled on TCP Vegas.
+     * <p>
+     * The limit estimates the queue on the partition from the ratio of the minimum round trip time
+     * to the latest one, growing while the queue is short and shrinking as it builds up. It starts at
+     * 20 requests, or {@code maxLimit} if that is smaller.
+     *
+     * @param maxLimit the maximum number of requests allowed in flight
+     * @return the Vegas limit
+     */
+    static ConcurrencyLimit vegas(int maxLimit) {
+        return new VegasLimit(maxLimit);
+    }
+
+    /**
+     * Returns the number of requests currently allowed in flight.
+     *
+     * @return the current limit
+     */
+    int limit();
+
+    /**
+     * Updates the limit from a completed request.
+     *
+     * @param rttNanos the request's round trip time in nanoseconds
+     * @param inFlight the number of requests in flight when the request was started
+     * @param dropped  whether the request timed out or was rejected by the partition
+     */
+    void onSample(long rttNanos, int inFlight, boolean dropped);
+}
@@ -0,0 +1,32 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+/**
+ * Limit that never changes.
+ */
+final class FixedLimit implements ConcurrencyLimit {
+    private final int limit;
+
+    FixedLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        this.limit = limit;
+    }
+
+    @Override
+    public int limit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+    }
+
+    @Override
+    public String toString() {
+        return "FixedLimit{limit=" + limit + "}";
+    }
+}
@@ -0,0 +1,88 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import java.time.Duration;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Policy for hedging idempotent reads.
+ * <p>
+ * When a read has not completed within the given quantile of the partition's recent read latency, a
+ * second attempt is sent on another connection to the partition, the first successful response
+ * wins and the other attempt is cancelled. Reads are never hedged on a partition with a single
+ * connection, nor while the partition's request window has a queue, so hedging does
+ * not add load to a partition that is already saturated.
+ */
+public final class HedgingPolicy {
+    private static final HedgingPolicy DISABLED = new HedgingPolicy(false, 1, Duration.ZERO);
+
+    /**
+     * Returns a policy that never hedges.
+     *
+     * @return the disabled policy
+     */
+    public static HedgingPolicy disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns a policy that hedges reads slower than the given latency quantile.
+     *
+     * @param quantile the latency quantile after which to hedge, e.g. {@code 0.95}
+     * @param minDelay the minimum delay before hedging
+     * @return the hedging policy
+     */
+    public static HedgingPolicy atQuantile(double quantile, Duration minDelay) {
+        if (quantile <= 0 || quantile >= 1) {
+            throw new IllegalArgumentException("quantile must be between 0 and 1");
+        }
+        return new HedgingPolicy(true, quantile, requireNonNull(minDelay, "minDelay cannot be null"));
+    }
+
+    private final boolean enabled;
+    private final double quantile;
+    private final Duration minDelay;
+
+    private HedgingPolicy(boolean enabled, double quantile, Duration minDelay) {
+        this.enabled = enabled;
+        this.quantile = quantile;
+        this.minDelay = minDelay;
+    }
+
+    /**
+     * Returns whether reads are hedged.
+     *
+     * @return whether hedging is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the latency quantile after which reads are hedged.
+     *
+     * @return the latency quantile
+     */
+    public double quantile() {
+        return quantile;
+    }
+
+    /**
+     * Returns the minimum delay before a read is hedged.
+     *
+     * @return the minimum hedging delay
+     */
+    public Duration minDelay() {
+        return minDelay;
+    }
+
+    @Override
+    public String toString() {
+        return enabled
+                ? "HedgingPolicy{quantile=" + quantile + ", minDelay=" + minDelay + "}"
+                : "HedgingPolicy{disabled}";
+    }
+}
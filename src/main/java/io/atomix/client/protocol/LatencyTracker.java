@@ -0,0 +1,69 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks latency quantiles over a sliding window of recent samples.
+ * <p>
+ * Quantiles are recomputed from a sorted copy of the window every {@link #REFRESH_INTERVAL} samples,
+ * so reading a quantile is constant time.
+ */
+final class LatencyTracker {
+    private static final int WINDOW = 1024;  // must be a power of two
+    private static final int REFRESH_INTERVAL = 128;
+    private static final int MIN_SAMPLES = 100;
+
+    private final long[] samples = new long[WINDOW];
+    private final long[] sorted = new long[WINDOW];
+    private final ReentrantLock lock = new ReentrantLock();
+    private int next;
+    private int filled;
+    private int unsorted;
+    private int sortedCount;
+
+    /**
+     * Records a latency sample.
+     *
+     * @param nanos the latency in nanoseconds
+     */
+    void record(long nanos) {
+        lock.lock();
+        try {
+            samples[next] = nanos;
+            next = (next + 1) & (WINDOW - 1);
+            if (filled < WINDOW) {
+                filled++;
+            }
+            if (++unsorted == REFRESH_INTERVAL) {
+                unsorted = 0;
+                sortedCount = filled;
+                System.arraycopy(samples, 0, sorted, 0, sortedCount);
+                Arrays.sort(sorted, 0, sortedCount);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the given latency quantile, or {@code -1} if too few samples have been recorded.
+     *
+     * @param quantile the quantile
+     * @return the latency quantile in nanoseconds
+     */
+    long quantile(double quantile) {
+        lock.lock();
+        try {
+            if (sortedCount < MIN_SAMPLES) {
+                return -1;
+            }
+            return sorted[Math.min(sortedCount - 1, (int) (sortedCount * quantile))];
+        } finally {
+            lock.unlock();
+        }
+    }
+}
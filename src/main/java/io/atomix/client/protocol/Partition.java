@@ -0,0 +1,230 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import io.atomix.client.channel.ChannelPool;
+import io.atomix.client.utils.concurrent.Timer;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Protocol partition serving primitives at a single address.
+ * <p>
+ * The partition owns the connections to its address and the window that bounds the unary requests
+ * pipelined on them. Request deadlines and hedges are scheduled on the client's shared {@link Timer}.
+ */
+public final class Partition {
+
+    /**
+     * Call option carrying the attempt number of a hedged call.
+     * <p>
+     * Each attempt of a call is sent on a different connection to the partition.
+     */
+    public static final CallOptions.Key<Integer> ATTEMPT = CallOptions.Key.createWithDefault("atomix-attempt", 0);
+
+    private final ChannelPool channels;
+    private final RequestWindow window;
+    private final HedgingPolicy hedgingPolicy;
+    private final Timer timer;
+    private final Duration requestTimeout;
+    private final LatencyTracker readLatency = new LatencyTracker();
+
+    Partition(ChannelPool channels, RequestWindow window, HedgingPolicy hedgingPolicy,
+              Timer timer, Duration requestTimeout) {
+        this.channels = channels;
+        this.window = window;
+        this.hedgingPolicy = hedgingPolicy;
+        this.timer = timer;
+        this.requestTimeout = requestTimeout;
+    }
+
+    /**
+     * Returns the partition host.
+     *
+     * @return the partition host
+     */
+    public String host() {
+        return channels.host();
+    }
+
+    /**
+     * Returns the partition port.
+     *
+     * @return the partition port
+     */
+    public int port() {
+        return channels.port();
+    }
+
+    /**
+     * Connects all the partition's connections ahead of the first request.
+     *
+     * @return a future to be completed once the partition's connections are ready
+     */
+    public CompletableFuture<Void> connect() {
+        return channels.connect();
+    }
+
+    /**
+     * Returns the channel for the given key.
+     * <p>
+     * All calls for the same key use the same connection, except for hedged attempts, which are
+     * routed by their {@link #ATTEMPT} option.
+     *
+     * @param key the key for which to return a channel
+     * @return the channel
+     */
+    public Channel getChannel(String key) {
+        return new PartitionChannel(this, key.hashCode());
+    }
+
+    /**
+     * Starts a call on the connection for the given stripe, or on a following connection for hedged
+     * attempts.
+     */
+    <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+            int stripe, MethodDescriptor<RequestT, ResponseT> method, CallOptions callOptions) {
+        return channels.getChannel(stripe + callOptions.getOption(ATTEMPT)).newCall(method, callOptions);
+    }
+
+    /**
+     * Returns the authority of the connection for the given stripe.
+     */
+    String authority(int stripe) {
+        return channels.getChannel(stripe).authority();
+    }
+
+    /**
+     * Returns the partition's request window.
+     *
+     * @return the request window
+     */
+    public RequestWindow window() {
+        return window;
+    }
+
+    /**
+     * Returns the default deadline of unary requests to the partition.
+     *
+     * @return the request timeout, or {@link Duration#ZERO} if requests have no deadline
+     */
+    public Duration requestTimeout() {
+        return requestTimeout;
+    }
+
+    /**
+     * Executes a unary request within the partition's request window.
+     * <p>
+     * The request fails with {@link Status#DEADLINE_EXCEEDED} if it is not complete within the
+     * partition's {@link #requestTimeout()}, including the time spent queued.
+     *
+     * @param request starts the request and returns a future to be completed with its response
+     * @param <T>     the response type
+     * @return a future to be completed with the response
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        return execute(request, requestTimeout);
+    }
+
+    /**
+     * Executes a unary request within the partition's request window.
+     * <p>
+     * The request fails with {@link Status#DEADLINE_EXCEEDED} if it is not complete within the given
+     * timeout, including the time spent queued. A zero timeout disables the deadline, e.g. for
+     * requests that block on the server such as lock acquisition.
+     *
+     * @param request starts the request and returns a future to be completed with its response
+     * @param timeout the request timeout
+     * @param <T>     the response type
+     * @return a future to be completed with the response
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request, Duration timeout) {
+        CompletableFuture<T> future = window.submit(request);
+        if (timeout.isZero() || future.isDone()) {
+            return future;
+        }
+        Timer.Timeout deadline = timer.schedule(() -> future.completeExceptionally(Status.DEADLINE_EXCEEDED
+                .withDescription("Request timed out after " + timeout.toMillis() + "ms")
+                .asRuntimeException()), timeout);
+        future.whenComplete((result, error) -> deadline.cancel());
+        return future;
+    }
+
+    /**
+     * Executes an idempotent read within the partition's request window, hedging it according to the
+     * partition's {@link HedgingPolicy}.
+     * <p>
+     * The read is completed with the first successful attempt, or with the last failure if every
+     * attempt fails. The attempt that loses is cancelled, which frees its slot in the window. Reads are
+     * not hedged when the partition has a single connection, since the hedge would share the slow
+     * attempt's connection.
+     * <p>
+     * The hedging delay is the configured quantile of the latency of first attempts, including those
+     * that lost to a hedge, so that hedges stay rare while a replica is slow.
+     *
+     * @param attempt starts the attempt with the given number and returns a future to be completed
+     *                with its response
+     * @param <T>     the response type
+     * @return a future to be completed with the response
+     */
+    public <T> CompletableFuture<T> read(IntFunction<CompletableFuture<T>> attempt) {
+        if (!hedgingPolicy.isEnabled() || channels.size() == 1) {
+            return execute(() -> attempt.apply(0));
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        AtomicInteger attempts = new AtomicInteger(1);
+        long startTime = System.nanoTime();
+        CompletableFuture<T> first = execute(() -> attempt.apply(0));
+        first.whenComplete((result, error) -> {
+            try {
+                // A first attempt abandoned for the hedge is sampled at the time it was cancelled, which
+                // bounds its latency from below; leaving it out would drag the quantile down.
+                if (error == null || first.isCancelled()) {
+                    readLatency.record(System.nanoTime() - startTime);
+                }
+            } finally {
+                complete(future, attempts, result, error);
+            }
+        });
+        future.whenComplete((result, error) -> first.cancel(false));
+
+        long quantile = readLatency.quantile(hedgingPolicy.quantile());
+        if (quantile >= 0) {
+            long delay = Math.max(quantile, hedgingPolicy.minDelay().toNanos());
+            Timer.Timeout hedge = timer.schedule(() -> {
+                if (!future.isDone() && window.queued() == 0 && attempts.getAndIncrement() > 0) {
+                    CompletableFuture<T> second = execute(() -> attempt.apply(1));
+                    second.whenComplete((result, error) -> complete(future, attempts, result, error));
+                    future.whenComplete((result, error) -> second.cancel(false));
+                }
+            }, delay, TimeUnit.NANOSECONDS);
+            future.whenComplete((result, error) -> hedge.cancel());
+        }
+        return future;
+    }
+
+    private static <T> void complete(CompletableFuture<T> future, AtomicInteger attempts, T result, Throwable error) {
+        if (error == null) {
+            future.complete(result);
+        } else if (attempts.decrementAndGet() == 0) {
+            future.completeExceptionally(error);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Partition{host=" + host() + ", port=" + port() + "}";
+    }
+}
@@ -0,0 +1,36 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.MethodDescriptor;
+
+/**
+ * Channel bound to one stripe of a partition's channel pool.
+ * <p>
+ * Calls made with the {@link Partition#ATTEMPT} option are sent on the following stripes, so that
+ * hedged attempts use a different connection than the original call.
+ */
+final class PartitionChannel extends Channel {
+    private final Partition partition;
+    private final int stripe;
+
+    PartitionChannel(Partition partition, int stripe) {
+        this.partition = partition;
+        this.stripe = stripe;
+    }
+
+    @Override
+    public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+            MethodDescriptor<RequestT, ResponseT> method, CallOptions callOptions) {
+        return partition.newCall(stripe, method, callOptions);
+    }
+
+    @Override
+    public String authority() {
+        return partition.authority(stripe);
+    }
+}
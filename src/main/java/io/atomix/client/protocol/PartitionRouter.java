@@ -0,0 +1,201 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Routes primitive keys to partitions over a consistent hash ring.
+ * <p>
+ * Each partition is placed on the ring at {@link #VIRTUAL_NODES} points derived from its address, so
+ * adding or removing a partition moves only the keys between its points and their predecessors. Keys
+ * are hashed with 32-bit murmur3; strings are hashed over their UTF-16 code units two at a time, so
+ * routing never encodes, copies or boxes the key. The ring is built once and only read afterwards.
+ * A table indexed by the high bits of the hash points into the sorted ring, so routing a key is a hash,
+ * one table read and a scan of usually no more than one ring point. Most buckets of the table hold no
+ * ring point at all, so a second table gives their owner directly and skips the scan.
+ */
+public final class PartitionRouter {
+    private static final int VIRTUAL_NODES = 128;
+    private static final int C1 = 0xcc9e2d51;
+    private static final int C2 = 0x1b873593;
+
+    private final Partition[] partitions;
+    private final int[] points;
+    private final Partition[] owners;
+    private final int[] index;
+    private final Partition[] buckets;
+    private final int shift;
+
+    public PartitionRouter(List<Partition> partitions) {
+        if (partitions.isEmpty()) {
+            throw new IllegalArgumentException("partitions cannot be empty");
+        }
+        this.partitions = partitions.toArray(new Partition[0]);
+        if (this.partitions.length == 1) {
+            this.points = new int[0];
+            this.owners = this.partitions;
+            this.index = new int[0];
+            this.buckets = new Partition[0];
+            this.shift = 0;
+            return;
+        }
+
+        long[] ring = new long[this.partitions.length * VIRTUAL_NODES];
+        for (int i = 0; i < this.partitions.length; i++) {
+            int seed = hash(this.partitions[i].host(), this.partitions[i].port());
+            for (int j = 0; j < VIRTUAL_NODES; j++) {
+                int point = fmix(mixH1(seed, mixK1(j)) ^ 4);
+                ring[i * VIRTUAL_NODES + j] = (long) (point ^ Integer.MIN_VALUE) << 32 | i;
+            }
+        }
+        Arrays.sort(ring);
+        this.points = new int[ring.length];
+        this.owners = new Partition[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            points[i] = (int) (ring[i] >> 32);
+            owners[i] = this.partitions[(int) ring[i]];
+        }
+
+        int bits = 32 - Integer.numberOfLeadingZeros(ring.length * 4 - 1);
+        this.shift = 32 - bits;
+        this.index = new int[1 << bits];
+        this.buckets = new Partition[1 << bits];
+        int point = 0;
+        for (int bucket = 0; bucket < index.length; bucket++) {
+            int start = (bucket << shift) ^ Integer.MIN_VALUE;
+            while (point < points.length && points[point] < start) {
+                point++;
+            }
+            index[bucket] = point;
+            // If no point falls within the bucket, every hash in it belongs to the next point's owner.
+            int end = start + (1 << shift) - 1;
+            if (point == points.length || points[point] >= end) {
+                buckets[bucket] = owners[point == points.length ? 0 : point];
+            }
+        }
+    }
+
+    /**
+     * Returns the partitions in the ring.
+     *
+     * @return the partitions
+     */
+    public List<Partition> partitions() {
+        return List.of(partitions);
+    }
+
+    /**
+     * Returns the number of partitions in the ring.
+     *
+     * @return the number of partitions
+     */
+    public int size() {
+        return partitions.length;
+    }
+
+    /**
+     * Returns the partition that owns the given key.
+     *
+     * @param key the key
+     * @return the partition owning the key
+     */
+    public Partition route(String key) {
+        return partitions.length == 1 ? partitions[0] : owner(hash(key));
+    }
+
+    /**
+     * Returns the partition that owns the given key.
+     *
+     * @param key the key
+     * @return the partition owning the key
+     */
+    public Partition route(byte[] key) {
+        return partitions.length == 1 ? partitions[0] : owner(hash(key));
+    }
+
+    private Partition owner(int hash) {
+        Partition owner = buckets[hash >>> shift];
+        if (owner != null) {
+            return owner;
+        }
+        int point = hash ^ Integer.MIN_VALUE;
+        int i = index[hash >>> shift];
+        while (i < points.length && points[i] < point) {
+            i++;
+        }
+        return owners[i == points.length ? 0 : i];
+    }
+
+    /**
+     * Returns the murmur3 hash of the UTF-16 code units of the given string.
+     *
+     * @param key the string to hash
+     * @return the hash
+     */
+    static int hash(String key) {
+        int h1 = 0;
+        int length = key.length();
+        for (int i = 1; i < length; i += 2) {
+            h1 = mixH1(h1, mixK1(key.charAt(i - 1) | key.charAt(i) << 16));
+        }
+        if ((length & 1) == 1) {
+            h1 ^= mixK1(key.charAt(length - 1));
+        }
+        return fmix(h1 ^ 2 * length);
+    }
+
+    /**
+     * Returns the murmur3 hash of the given bytes.
+     *
+     * @param key the bytes to hash
+     * @return the hash
+     */
+    static int hash(byte[] key) {
+        int h1 = 0;
+        int length = key.length;
+        int blocks = length & ~3;
+        for (int i = 0; i < blocks; i += 4) {
+            int k1 = (key[i] & 0xff)
+                    | (key[i + 1] & 0xff) << 8
+                    | (key[i + 2] & 0xff) << 16
+                    | key[i + 3] << 24;
+            h1 = mixH1(h1, mixK1(k1));
+        }
+        int k1 = 0;
+        switch (length & 3) {
+            case 3:
+                k1 ^= (key[blocks + 2] & 0xff) << 16;
+            case 2:
+                k1 ^= (key[blocks + 1] & 0xff) << 8;
+            case 1:
+                k1 ^= key[blocks] & 0xff;
+                h1 ^= mixK1(k1);
+            default:
+        }
+        return fmix(h1 ^ length);
+    }
+
+    private static int hash(String host, int port) {
+        return fmix(mixH1(hash(host), mixK1(port)) ^ 4);
+    }
+
+    private static int mixK1(int k1) {
+        return Integer.rotateLeft(k1 * C1, 15) * C2;
+    }
+
+    private static int mixH1(int h1, int k1) {
+        return Integer.rotateLeft(h1 ^ k1, 13) * 5 + 0xe6546b64;
+    }
+
+    private static int fmix(int h1) {
+        h1 ^= h1 >>> 16;
+        h1 *= 0x85ebca6b;
+        h1 ^= h1 >>> 13;
+        h1 *= 0xc2b2ae35;
+        h1 ^= h1 >>> 16;
+        return h1;
+    }
+}
@@ -0,0 +1,237 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.client.channel.ChannelProvider;
+import io.atomix.client.management.broker.BrokerClient;
+import io.atomix.client.utils.concurrent.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Resolves primitives to the partitions serving them.
+ * <p>
+ * Resolved primitives are looked up again through the broker in the background every refresh
+ * interval, and their routers are swapped when the broker reports new partitions, so topology changes
+ * are picked up without restarting the client. A primitive is only refreshed while handles to it are
+ * open; its registration is dropped once the last handle releases it.
+ */
+public class PartitionService {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PartitionService.class);
+
+    private final BrokerClient brokerClient;
+    private final ChannelProvider channelProvider;
+    private final Supplier<ConcurrencyLimit> limitFactory;
+    private final int maxQueued;
+    private final HedgingPolicy hedgingPolicy;
+    private final Timer timer;
+    private final Duration requestTimeout;
+    private final Duration refreshInterval;
+    private final Map<String, Partition> partitions = new ConcurrentHashMap<>();
+    private final Map<PrimitiveId, Registration> primitives = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public PartitionService(
+            BrokerClient brokerClient,
+            ChannelProvider channelProvider,
+            Supplier<ConcurrencyLimit> limitFactory,
+            int maxQueued,
+            HedgingPolicy hedgingPolicy,
+            Timer timer,
+            Duration requestTimeout,
+            Duration refreshInterval) {
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued cannot be negative");
+        }
+        if (requireNonNull(requestTimeout, "requestTimeout cannot be null").isNegative()) {
+            throw new IllegalArgumentException("requestTimeout cannot be negative");
+        }
+        if (requireNonNull(refreshInterval, "refreshInterval cannot be null").isNegative()) {
+            throw new IllegalArgumentException("refreshInterval cannot be negative");
+        }
+        this.brokerClient = requireNonNull(brokerClient, "brokerClient cannot be null");
+        this.channelProvider = requireNonNull(channelProvider, "channelProvider cannot be null");
+        this.limitFactory = requireNonNull(limitFactory, "limitFactory cannot be null");
+        this.maxQueued = maxQueued;
+        this.hedgingPolicy = requireNonNull(hedgingPolicy, "hedgingPolicy cannot be null");
+        this.timer = requireNonNull(timer, "timer cannot be null");
+        this.requestTimeout = requestTimeout;
+        this.refreshInterval = refreshInterval;
+        if (!refreshInterval.isZero()) {
+            scheduleRefresh();
+        }
+    }
+
+    /**
+     * Resolves the partition serving the given primitive through the broker.
+     *
+     * @param primitiveId the primitive ID
+     * @return a future to be completed with the partition
+     */
+    public CompletableFuture<Partition> getPartition(PrimitiveId primitiveId) {
+        return brokerClient.lookupPrimitive(primitiveId)
+                .thenApply(address -> getPartition(address.getHost(), address.getPort()));
+    }
+
+    /**
+     * Resolves the partitions serving the given primitive through the broker and returns a router
+     * that maps the primitive's keys onto them.
+     * <p>
+     * The broker currently assigns each primitive to a single partition, to which the router sends
+     * every key.
+     *
+     * @param primitiveId the primitive ID
+     * @return a future to be completed with the primitive's partition router
+     */
+    public CompletableFuture<PartitionRouter> getRouter(PrimitiveId primitiveId) {
+        return getPartition(primitiveId).thenApply(partition -> new PartitionRouter(List.of(partition)));
+    }
+
+    /**
+     * Returns the partitions serving the given primitive, resolving them through the broker if
+     * necessary.
+     * <p>
+     * All the handles to a primitive share its partitions, which are kept up to date in the background.
+     * Each successful call takes a reference to the partitions, which the caller must give back with
+     * {@link PrimitivePartitions#release()} once it no longer uses them.
+     *
+     * @param primitiveId the primitive ID
+     * @return a future to be completed with the primitive's partitions
+     */
+    public CompletableFuture<PrimitivePartitions> getPartitions(PrimitiveId primitiveId) {
+        Registration registration;
+        lock.lock();
+        try {
+            registration = primitives.get(primitiveId);
+            if (registration == null) {
+                registration = new Registration(getRouter(primitiveId).thenApply(router ->
+                        new PrimitivePartitions(primitiveId, router, this::refreshRouter, this::release)));
+                primitives.put(primitiveId, registration);
+            }
+            registration.references++;
+        } finally {
+            lock.unlock();
+        }
+        Registration registered = registration;
+        registered.future.whenComplete((result, error) -> {
+            if (error != null) {
+                unregister(primitiveId, registered);
+            }
+        });
+        return registered.future;
+    }
+
+    /**
+     * Releases a reference to the given partitions, dropping the primitive's registration once the last
+     * reference is released.
+     */
+    private void release(PrimitivePartitions partitions) {
+        lock.lock();
+        try {
+            Registration registration = primitives.get(partitions.primitiveId());
+            if (registration != null && registration.partitions() == partitions
+                    && --registration.references == 0) {
+                primitives.remove(partitions.primitiveId());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void unregister(PrimitiveId primitiveId, Registration registration) {
+        lock.lock();
+        try {
+            primitives.remove(primitiveId, registration);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private CompletableFuture<PartitionRouter> refreshRouter(PrimitiveId primitiveId) {
+        brokerClient.invalidate(primitiveId);
+        return getRouter(primitiveId);
+    }
+
+    private void scheduleRefresh() {
+        try {
+            timer.schedule(this::refresh, refreshInterval);
+        } catch (RejectedExecutionException e) {
+            // The client is closed, so stop refreshing.
+        }
+    }
+
+    private void refresh() {
+        List<PrimitivePartitions> registered = new ArrayList<>();
+        lock.lock();
+        try {
+            for (Registration registration : primitives.values()) {
+                PrimitivePartitions partitions = registration.partitions();
+                if (partitions != null) {
+                    registered.add(partitions);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        List<CompletableFuture<PartitionRouter>> refreshes = new ArrayList<>();
+        for (PrimitivePartitions partitions : registered) {
+            refreshes.add(partitions.refresh().whenComplete((router, error) -> {
+                if (error != null) {
+                    LOGGER.debug("Failed to refresh partitions of {}", partitions.primitiveId().getName(), error);
+                }
+            }));
+        }
+        CompletableFuture.allOf(refreshes.toArray(new CompletableFuture[0]))
+                .whenComplete((result, error) -> scheduleRefresh());
+    }
+
+    /**
+     * Returns the partition at the given address, creating it if necessary.
+     *
+     * @param host the partition host
+     * @param port the partition port
+     * @return the partition
+     */
+    public Partition getPartition(String host, int port) {
+        return partitions.computeIfAbsent(host + ":" + port, address -> new Partition(
+                channelProvider.getPool(host, port),
+                new RequestWindow(limitFactory.get(), maxQueued),
+                hedgingPolicy,
+                timer,
+                requestTimeout));
+    }
+
+    /**
+     * Partitions of a primitive shared by all the handles to it.
+     */
+    private static final class Registration {
+        private final CompletableFuture<PrimitivePartitions> future;
+        private int references;
+
+        Registration(CompletableFuture<PrimitivePartitions> future) {
+            this.future = future;
+        }
+
+        /**
+         * Returns the resolved partitions, or {@code null} if they're not resolved yet.
+         */
+        PrimitivePartitions partitions() {
+            return future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+        }
+    }
+}
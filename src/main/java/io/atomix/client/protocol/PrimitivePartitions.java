@@ -0,0 +1,266 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Partitions serving a primitive.
+ * <p>
+ * The primitive's {@link PartitionRouter} is immutable and replaced as a whole when the broker reports
+ * a new layout, so calls always route against a consistent view of the partitions without locking.
+ * Channels returned by {@link #getChannel(String)} pick the partition when each call starts, so stubs
+ * created over them follow the primitive to its new partitions.
+ */
+public final class PrimitivePartitions {
+
+    /**
+     * Call option carrying the key by which to route a call.
+     * <p>
+     * Calls without the option are routed by the key of the channel on which they are made.
+     */
+    public static final CallOptions.Key<String> ROUTING_KEY = CallOptions.Key.create("atomix-routing-key");
+
+    /**
+     * Call option carrying the partition to which to send a call regardless of its routing key.
+     * <p>
+     * Used for operations that span every partition of the primitive, such as a map's size.
+     */
+    public static final CallOptions.Key<Partition> PARTITION = CallOptions.Key.create("atomix-partition");
+
+    private final PrimitiveId primitiveId;
+    private final Function<PrimitiveId, CompletableFuture<PartitionRouter>> resolver;
+    private final Consumer<PrimitivePartitions> releaser;
+    private final AtomicReference<CompletableFuture<PartitionRouter>> refresh = new AtomicReference<>();
+    private volatile PartitionRouter router;
+
+    PrimitivePartitions(
+            PrimitiveId primitiveId,
+            PartitionRouter router,
+            Function<PrimitiveId, CompletableFuture<PartitionRouter>> resolver,
+            Consumer<PrimitivePartitions> releaser) {
+        this.primitiveId = primitiveId;
+        this.router = router;
+        this.resolver = resolver;
+        this.releaser = releaser;
+    }
+
+    /**
+     * Returns the primitive ID.
+     *
+     * @return the primitive ID
+     */
+    public PrimitiveId primitiveId() {
+        return primitiveId;
+    }
+
+    /**
+     * Returns the current router for the primitive's keys.
+     *
+     * @return the partition router
+     */
+    public PartitionRouter router() {
+        return router;
+    }
+
+    /**
+     * Returns the partition that currently owns the primitive itself.
+     *
+     * @return the primitive's partition
+     */
+    public Partition partition() {
+        return router.route(primitiveId.getName());
+    }
+
+    /**
+     * Returns a channel that sends each call to the partition owning the given key at the time the
+     * call starts.
+     *
+     * @param key the key for which to return a channel
+     * @return the channel
+     */
+    public Channel getChannel(String key) {
+        return new RoutedChannel(key);
+    }
+
+    /**
+     * Connects to all the primitive's partitions concurrently.
+     *
+     * @return a future to be completed once the connections to every partition are ready
+     */
+    public CompletableFuture<Void> connect() {
+        return CompletableFuture.allOf(router.partitions().stream()
+                .map(Partition::connect)
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Executes a call on the partition owning the primitive.
+     * <p>
+     * If the call fails with {@link Status#UNAVAILABLE}, the primitive's partitions are refreshed so
+     * that later calls reach its new partition, but the call itself is not retried; see
+     * {@link #execute(String, Function)}.
+     *
+     * @param call starts the call on the given partition and returns a future to be completed with
+     *             its response
+     * @param <T>  the response type
+     * @return a future to be completed with the response
+     */
+    public <T> CompletableFuture<T> execute(Function<Partition, CompletableFuture<T>> call) {
+        return execute(primitiveId.getName(), call);
+    }
+
+    /**
+     * Executes a call on the partition owning the given key.
+     * <p>
+     * If the call fails with {@link Status#UNAVAILABLE}, the primitive's partitions are refreshed so
+     * that later calls reach the key's new partition, but the call itself fails: {@code UNAVAILABLE}
+     * doesn't prove the request never reached the server, so retrying a write could apply it twice.
+     * Idempotent reads should use {@link #read(String, Function)}, which is retried.
+     * <p>
+     * Cancelling the returned future cancels the call.
+     *
+     * @param key  the key by which to route the call
+     * @param call starts the call on the given partition and returns a future to be completed with
+     *             its response
+     * @param <T>  the response type
+     * @return a future to be completed with the response
+     */
+    public <T> CompletableFuture<T> execute(String key, Function<Partition, CompletableFuture<T>> call) {
+        return execute(key, call, false);
+    }
+
+    /**
+     * Executes an idempotent read on the partition owning the given key.
+     * <p>
+     * If the read fails with {@link Status#UNAVAILABLE}, the primitive's partitions are refreshed and,
+     * if the key has moved, the read is retried once on its new partition. Cancelling the returned
+     * future cancels the read.
+     *
+     * @param key  the key by which to route the read
+     * @param call starts the read on the given partition and returns a future to be completed with
+     *             its response
+     * @param <T>  the response type
+     * @return a future to be completed with the response
+     */
+    public <T> CompletableFuture<T> read(String key, Function<Partition, CompletableFuture<T>> call) {
+        return execute(key, call, true);
+    }
+
+    private <T> CompletableFuture<T> execute(
+            String key, Function<Partition, CompletableFuture<T>> call, boolean idempotent) {
+        Partition partition = router.route(key);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture<T> first = call.apply(partition);
+        future.whenComplete((result, error) -> first.cancel(false));
+        first.whenComplete((result, error) -> {
+            if (error == null) {
+                future.complete(result);
+            } else if (Status.fromThrowable(error).getCode() != Status.Code.UNAVAILABLE) {
+                future.completeExceptionally(error);
+            } else if (!idempotent) {
+                refresh();
+                future.completeExceptionally(error);
+            } else {
+                refresh().whenComplete((newRouter, refreshError) -> {
+                    Partition owner = refreshError == null ? newRouter.route(key) : partition;
+                    if (owner == partition || future.isDone()) {
+                        future.completeExceptionally(error);
+                    } else {
+                        CompletableFuture<T> retry = call.apply(owner);
+                        future.whenComplete((retryResult, retryError) -> retry.cancel(false));
+                        retry.whenComplete((retryResult, retryError) -> {
+                            if (retryError == null) {
+                                future.complete(retryResult);
+                            } else {
+                                future.completeExceptionally(retryError);
+                            }
+                        });
+                    }
+                });
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Looks the primitive up through the broker and swaps in the new router if its partitions changed.
+     * <p>
+     * Concurrent refreshes share a single lookup.
+     *
+     * @return a future to be completed with the current router
+     */
+    public CompletableFuture<PartitionRouter> refresh() {
+        CompletableFuture<PartitionRouter> future = new CompletableFuture<>();
+        CompletableFuture<PartitionRouter> current = refresh.compareAndExchange(null, future);
+        if (current != null) {
+            return current;
+        }
+        resolver.apply(primitiveId).whenComplete((newRouter, error) -> {
+            refresh.set(null);
+            if (error != null) {
+                future.completeExceptionally(error);
+                return;
+            }
+            if (!newRouter.partitions().equals(router.partitions())) {
+                router = newRouter;
+            }
+            future.complete(router);
+        });
+        return future;
+    }
+
+    /**
+     * Releases a reference to the partitions taken by {@link PartitionService#getPartitions(PrimitiveId)}.
+     * <p>
+     * Each primitive handle releases its reference once when it's closed. Once every reference has been
+     * released, the partitions are no longer refreshed in the background.
+     */
+    public void release() {
+        releaser.accept(this);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "{primitive=" + primitiveId.getName()
+                + ", partitions=" + router.partitions() + "}";
+    }
+
+    /**
+     * Channel that routes each call by key against the current router.
+     */
+    private final class RoutedChannel extends Channel {
+        private final String key;
+
+        RoutedChannel(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public <RequestT, ResponseT> ClientCall<RequestT, ResponseT> newCall(
+                MethodDescriptor<RequestT, ResponseT> method, CallOptions callOptions) {
+            Partition partition = callOptions.getOption(PARTITION);
+            if (partition == null) {
+                String routingKey = callOptions.getOption(ROUTING_KEY);
+                partition = router.route(routingKey != null ? routingKey : key);
+            }
+            return partition.newCall(key.hashCode(), method, callOptions);
+        }
+
+        @Override
+        public String authority() {
+            return router.route(key).authority(key.hashCode());
+        }
+    }
+}
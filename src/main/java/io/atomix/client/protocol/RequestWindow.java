@@ -0,0 +1,223 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import io.atomix.client.utils.concurrent.Futures;
+import io.grpc.Status;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Window of unary requests in flight on a partition.
+ * <p>
+ * Up to {@link #limit()} requests are pipelined on the partition's connections and complete in any
+ * order. The limit is set by a {@link ConcurrencyLimit}, which may adapt it from the round trip time
+ * of each request. Requests submitted while the window is full are queued and started in submission
+ * order as earlier requests complete, so callers never block. Once {@link #maxQueued()} requests are
+ * waiting, further requests fail immediately with {@link Status#RESOURCE_EXHAUSTED}, which sheds load
+ * from a slow partition without affecting the others.
+ */
+public final class RequestWindow {
+    private final ConcurrencyLimit limit;
+    private final int maxQueued;
+    private final Set<IntConsumer> pending = new LinkedHashSet<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private int inFlight;
+
+    public RequestWindow(int size) {
+        this(ConcurrencyLimit.fixed(size), Integer.MAX_VALUE);
+    }
+
+    public RequestWindow(ConcurrencyLimit limit, int maxQueued) {
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("maxQueued cannot be negative");
+        }
+        this.limit = requireNonNull(limit, "limit cannot be null");
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * Returns the number of requests currently allowed in flight.
+     *
+     * @return the current limit
+     */
+    public int limit() {
+        lock.lock();
+        try {
+            return limit.limit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the maximum number of requests waiting for room in the window.
+     *
+     * @return the maximum number of queued requests
+     */
+    public int maxQueued() {
+        return maxQueued;
+    }
+
+    /**
+     * Returns the number of requests in flight.
+     *
+     * @return the number of requests in flight
+     */
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of requests waiting for room in the window.
+     *
+     * @return the number of queued requests
+     */
+    public int queued() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Submits a request to the window.
+     * <p>
+     * Completing the returned future before the request is started, e.g. by cancelling it, removes it
+     * from the queue, so it no longer counts toward {@link #maxQueued()}.
+     * Failing it after the request is started, e.g. when its deadline expires, fails the request's
+     * own future too, which abandons the call.
+     *
+     * @param request starts the request and returns a future to be completed with its response
+     * @param <T>     the response type
+     * @return a future to be completed with the response
+     */
+    public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        IntConsumer queued = null;
+        int started = 0;
+        lock.lock();
+        try {
+            if (inFlight >= limit.limit()) {
+                if (pending.size() >= maxQueued) {
+                    return Futures.exceptionalFuture(Status.RESOURCE_EXHAUSTED
+                            .withDescription("Too many requests queued on partition")
+                            .asRuntimeException());
+                }
+                queued = count -> start(request, future, count);
+                pending.add(queued);
+            } else {
+                started = ++inFlight;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (queued != null) {
+            IntConsumer entry = queued;
+            future.whenComplete((result, error) -> dequeue(entry));
+        } else {
+            start(request, future, started);
+        }
+        return future;
+    }
+
+    private void dequeue(IntConsumer entry) {
+        lock.lock();
+        try {
+            pending.remove(entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private <T> void start(Supplier<CompletableFuture<T>> request, CompletableFuture<T> future, int started) {
+        if (future.isDone()) {
+            release(0, started, false);
+            return;
+        }
+        long startTime = System.nanoTime();
+        CompletableFuture<T> response;
+        try {
+            response = request.get();
+        } catch (RuntimeException e) {
+            response = Futures.exceptionalFuture(e);
+        }
+        CompletableFuture<T> call = response;
+        future.whenComplete((result, error) -> {
+            if (error != null) {
+                call.completeExceptionally(error);
+            }
+        });
+        response.whenComplete((result, error) -> {
+            // An abandoned request, e.g. the losing attempt of a hedged read, says nothing about latency.
+            long rttNanos = error instanceof CancellationException ? 0 : System.nanoTime() - startTime;
+            release(rttNanos, started, error != null && isDropped(error));
+            if (error == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(error);
+            }
+        });
+    }
+
+    private void release(long rttNanos, int started, boolean dropped) {
+        lock.lock();
+        try {
+            if (rttNanos > 0) {
+                limit.onSample(rttNanos, started, dropped);
+            }
+            inFlight--;
+        } finally {
+            lock.unlock();
+        }
+        startPending();
+    }
+
+    private void startPending() {
+        for (;;) {
+            IntConsumer next;
+            int count;
+            lock.lock();
+            try {
+                if (inFlight >= limit.limit() || pending.isEmpty()) {
+                    return;
+                }
+                Iterator<IntConsumer> iterator = pending.iterator();
+                next = iterator.next();
+                iterator.remove();
+                count = ++inFlight;
+            } finally {
+                lock.unlock();
+            }
+            next.accept(count);
+        }
+    }
+
+    private static boolean isDropped(Throwable error) {
+        switch (Status.fromThrowable(error).getCode()) {
+            case DEADLINE_EXCEEDED:
+            case RESOURCE_EXHAUSTED:
+            case UNAVAILABLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+/**
+ * Delay-based limit modelled on TCP Vegas.
+ * <p>
+ * The estimated queue on the partition is {@code limit * (1 - minRtt / rtt)}. The limit grows quickly
+ * while the queue is below {@code log10(limit)}, slowly while it is below {@code 3 * log10(limit)} and
+ * shrinks once it exceeds {@code 6 * log10(limit)}. The minimum round trip time is re-probed
+ * periodically so the limit can recover after the partition's baseline latency changes.
+ */
+final class VegasLimit implements ConcurrencyLimit {
+    private static final int INITIAL_LIMIT = 20;
+    private static final int PROBE_INTERVAL = 1000;
+
+    private final int maxLimit;
+    private double limit;
+    private long minRttNanos;
+    private int samples;
+
+    VegasLimit(int maxLimit) {
+        if (maxLimit <= 0) {
+            throw new IllegalArgumentException("maxLimit must be positive");
+        }
+        this.maxLimit = maxLimit;
+        this.limit = Math.min(INITIAL_LIMIT, maxLimit);
+    }
+
+    @Override
+    public int limit() {
+        return (int) limit;
+    }
+
+    @Override
+    public void onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        if (++samples % PROBE_INTERVAL == 0 || minRttNanos == 0 || rttNanos < minRttNanos) {
+            minRttNanos = rttNanos;
+        }
+
+        double log = Math.max(1, Math.log10(limit));
+        if (dropped) {
+            limit -= log;
+        } else if (inFlight * 2 < limit) {
+            // The partition isn't busy enough for the round trip time to say anything about the limit.
+            return;
+        } else {
+            double queue = Math.ceil(limit * (1 - (double) minRttNanos / rttNanos));
+            if (queue <= log) {
+                limit += 6 * log;
+            } else if (queue < 3 * log) {
+                limit += log;
+            } else if (queue > 6 * log) {
+                limit -= log;
+            }
+        }
+        limit = Math.max(1, Math.min(maxLimit, limit));
+    }
+
+    @Override
+    public String toString() {
+        return "VegasLimit{limit=" + limit() + ", maxLimit=" + maxLimit + ", minRttNanos=" + minRttNanos + "}";
+    }
+}
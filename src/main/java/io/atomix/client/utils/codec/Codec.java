@@ -0,0 +1,50 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codec that converts values of typed primitives to and from bytes.
+ * <p>
+ * Values are encoded into an {@link EncodeBuffer} supplied by the primitive rather than into a
+ * stream or array of the codec's own, so encoding a value allocates nothing beyond the bytes sent.
+ * Built-in codecs are provided by {@link Codecs}.
+ *
+ * @param <T> the value type
+ */
+public interface Codec<T> {
+
+    /**
+     * Returns the exact number of bytes the given value encodes to, if it can be computed cheaply.
+     * <p>
+     * If the size is known, the value is encoded straight into an array of that size and sent
+     * without being copied. Otherwise it's encoded into a pooled buffer and copied once.
+     *
+     * @param value the value
+     * @return the encoded size of the value, or {@code -1} if it's unknown
+     */
+    default int sizeOf(T value) {
+        return -1;
+    }
+
+    /**
+     * Encodes the given value.
+     *
+     * @param value  the value to encode
+     * @param buffer the buffer to which to write the value
+     */
+    void encode(T value, EncodeBuffer buffer);
+
+    /**
+     * Decodes a value from the remaining bytes of the given buffer.
+     * <p>
+     * The buffer may be read-only and is only valid for the duration of the call.
+     *
+     * @param buffer the buffer from which to read the value
+     * @return the decoded value
+     */
+    T decode(ByteBuffer buffer);
+
+}
@@ -0,0 +1,230 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.codec;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Built-in codecs.
+ */
+public final class Codecs {
+    private static final Codec<String> STRING = new StringCodec();
+    private static final Codec<Long> LONG = new LongCodec();
+    private static final Codec<byte[]> BYTES = new BytesCodec();
+
+    private Codecs() {
+    }
+
+    /**
+     * Returns a codec that encodes strings as UTF-8.
+     *
+     * @return the string codec
+     */
+    public static Codec<String> forString() {
+        return STRING;
+    }
+
+    /**
+     * Returns a codec that encodes {@code long}s as eight big-endian bytes.
+     *
+     * @return the long codec
+     */
+    public static Codec<Long> forLong() {
+        return LONG;
+    }
+
+    /**
+     * Returns a codec that passes byte arrays through as they are.
+     *
+     * @return the byte array codec
+     */
+    public static Codec<byte[]> forBytes() {
+        return BYTES;
+    }
+
+    /**
+     * Returns a codec that encodes protobuf messages in their binary wire format.
+     *
+     * @param parser the message parser
+     * @param <M>    the message type
+     * @return the message codec
+     */
+    public static <M extends MessageLite> Codec<M> forMessage(Parser<M> parser) {
+        return new MessageCodec<>(requireNonNull(parser, "parser cannot be null"));
+    }
+
+    /**
+     * Encodes the given value.
+     * <p>
+     * Values of known size are encoded straight into the returned array. Other values are encoded into
+     * a pooled buffer and copied into the returned array once.
+     *
+     * @param codec the codec with which to encode the value
+     * @param value the value to encode
+     * @param <T>   the value type
+     * @return the encoded value
+     */
+    public static <T> byte[] encode(Codec<T> codec, T value) {
+        int size = codec.sizeOf(value);
+        if (size >= 0) {
+            EncodeBuffer buffer = new EncodeBuffer(size);
+            codec.encode(value, buffer);
+            return buffer.size() == buffer.array().length ? buffer.array() : buffer.toByteArray();
+        }
+        EncodeBuffer buffer = EncodeBuffer.acquire();
+        try {
+            codec.encode(value, buffer);
+            return buffer.toByteArray();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    /**
+     * Decodes the given value.
+     *
+     * @param codec the codec with which to decode the value
+     * @param bytes the encoded value
+     * @param <T>   the value type
+     * @return the decoded value
+     */
+    public static <T> T decode(Codec<T> codec, byte[] bytes) {
+        return codec.decode(ByteBuffer.wrap(bytes));
+    }
+
+    /**
+     * UTF-8 string codec.
+     */
+    private static final class StringCodec implements Codec<String> {
+        @Override
+        public int sizeOf(String value) {
+            int length = value.length();
+            int size = length;
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    if (c < 0x800) {
+                        size += 1;
+                    } else if (!Character.isSurrogate(c)) {
+                        size += 2;
+                    } else if (Character.isHighSurrogate(c)
+                            && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+                        // Four bytes for the pair of characters.
+                        size += 2;
+                        i++;
+                    }
+                }
+            }
+            return size;
+        }
+
+        @Override
+        public void encode(String value, EncodeBuffer buffer) {
+            buffer.writeUtf8(value);
+        }
+
+        @Override
+        public String decode(ByteBuffer buffer) {
+            if (buffer.hasArray()) {
+                return new String(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(),
+                        StandardCharsets.UTF_8);
+            }
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Big-endian {@code long} codec.
+     */
+    private static final class LongCodec implements Codec<Long> {
+        @Override
+        public int sizeOf(Long value) {
+            return Long.BYTES;
+        }
+
+        @Override
+        public void encode(Long value, EncodeBuffer buffer) {
+            buffer.writeLong(value);
+        }
+
+        @Override
+        public Long decode(ByteBuffer buffer) {
+            if (buffer.remaining() != Long.BYTES) {
+                throw new IllegalArgumentException("Expected " + Long.BYTES + " bytes, got " + buffer.remaining());
+            }
+            return buffer.getLong(buffer.position());
+        }
+    }
+
+    /**
+     * Byte array codec.
+     */
+    private static final class BytesCodec implements Codec<byte[]> {
+        @Override
+        public int sizeOf(byte[] value) {
+            return value.length;
+        }
+
+        @Override
+        public void encode(byte[] value, EncodeBuffer buffer) {
+            buffer.write(value);
+        }
+
+        @Override
+        public byte[] decode(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * Protobuf message codec.
+     */
+    private static final class MessageCodec<M extends MessageLite> implements Codec<M> {
+        private final Parser<M> parser;
+
+        MessageCodec(Parser<M> parser) {
+            this.parser = parser;
+        }
+
+        @Override
+        public int sizeOf(M value) {
+            return value.getSerializedSize();
+        }
+
+        @Override
+        public void encode(M value, EncodeBuffer buffer) {
+            int size = value.getSerializedSize();
+            int offset = buffer.reserve(size);
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer.array(), offset, size);
+            try {
+                value.writeTo(output);
+                output.checkNoSpaceLeft();
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to encode " + value.getClass().getSimpleName(), e);
+            }
+        }
+
+        @Override
+        public M decode(ByteBuffer buffer) {
+            try {
+                return parser.parseFrom(buffer.duplicate());
+            } catch (InvalidProtocolBufferException e) {
+                throw new IllegalArgumentException("Failed to decode message", e);
+            }
+        }
+    }
+}
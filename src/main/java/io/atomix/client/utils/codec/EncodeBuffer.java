@@ -0,0 +1,247 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.codec;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Growable buffer into which a {@link Codec} encodes a value.
+ * <p>
+ * Buffers are pooled: a buffer is taken from a small pool striped by thread, so virtual threads share
+ * the pool's buffers rather than each keeping one of their own, and returned to the pool once the
+ * encoded bytes have been copied out. Buffers that grew past {@value #MAX_POOLED_CAPACITY} bytes are
+ * dropped rather than pooled.
+ */
+public final class EncodeBuffer {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int MAX_POOLED_CAPACITY = 1024 * 1024;
+    private static final AtomicReferenceArray<EncodeBuffer> POOL =
+            new AtomicReferenceArray<>(Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 4));
+
+    private byte[] bytes;
+    private int size;
+
+    EncodeBuffer(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    /**
+     * Takes a buffer from the pool, or allocates one if the pool has none to spare.
+     */
+    static EncodeBuffer acquire() {
+        int slot = System.identityHashCode(Thread.currentThread()) & (POOL.length() - 1);
+        EncodeBuffer buffer = POOL.getAndSet(slot, null);
+        return buffer != null ? buffer : new EncodeBuffer(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Returns the buffer to the pool.
+     */
+    void release() {
+        if (bytes.length > MAX_POOLED_CAPACITY) {
+            return;
+        }
+        size = 0;
+        int slot = System.identityHashCode(Thread.currentThread()) & (POOL.length() - 1);
+        POOL.compareAndSet(slot, null, this);
+    }
+
+    /**
+     * Returns the number of bytes written to the buffer.
+     *
+     * @return the number of bytes written
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Writes a byte.
+     *
+     * @param b the byte to write
+     * @return the buffer
+     */
+    public EncodeBuffer write(int b) {
+        ensureCapacity(1);
+        bytes[size++] = (byte) b;
+        return this;
+    }
+
+    /**
+     * Writes the given bytes.
+     *
+     * @param b the bytes to write
+     * @return the buffer
+     */
+    public EncodeBuffer write(byte[] b) {
+        return write(b, 0, b.length);
+    }
+
+    /**
+     * Writes a range of the given bytes.
+     *
+     * @param b      the bytes to write
+     * @param offset the offset of the first byte to write
+     * @param length the number of bytes to write
+     * @return the buffer
+     */
+    public EncodeBuffer write(byte[] b, int offset, int length) {
+        ensureCapacity(length);
+        System.arraycopy(b, offset, bytes, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * Writes the remaining bytes of the given buffer without changing its position.
+     *
+     * @param b the bytes to write
+     * @return the buffer
+     */
+    public EncodeBuffer write(ByteBuffer b) {
+        int length = b.remaining();
+        ensureCapacity(length);
+        b.duplicate().get(bytes, size, length);
+        size += length;
+        return this;
+    }
+
+    /**
+     * Writes a big-endian {@code int}.
+     *
+     * @param value the value to write
+     * @return the buffer
+     */
+    public EncodeBuffer writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        for (int shift = 24; shift >= 0; shift -= 8) {
+            bytes[size++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    /**
+     * Writes a big-endian {@code long}.
+     *
+     * @param value the value to write
+     * @return the buffer
+     */
+    public EncodeBuffer writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            bytes[size++] = (byte) (value >>> shift);
+        }
+        return this;
+    }
+
+    /**
+     * Writes the given characters as UTF-8.
+     * <p>
+     * Unpaired surrogates are written as {@code '?'}, as {@link String#getBytes} does.
+     *
+     * @param chars the characters to write
+     * @return the buffer
+     */
+    public EncodeBuffer writeUtf8(CharSequence chars) {
+        int length = chars.length();
+        ensureCapacity(length);
+        int i = 0;
+        // ASCII runs are written one byte per character without any further checks.
+        for (; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c >= 0x80) {
+                break;
+            }
+            bytes[size++] = (byte) c;
+        }
+        if (i < length) {
+            ensureCapacity((length - i) * 3);
+        }
+        for (; i < length; i++) {
+            char c = chars.charAt(i);
+            if (c < 0x80) {
+                bytes[size++] = (byte) c;
+            } else if (c < 0x800) {
+                bytes[size++] = (byte) (0xc0 | c >>> 6);
+                bytes[size++] = (byte) (0x80 | c & 0x3f);
+            } else if (!Character.isSurrogate(c)) {
+                bytes[size++] = (byte) (0xe0 | c >>> 12);
+                bytes[size++] = (byte) (0x80 | c >>> 6 & 0x3f);
+                bytes[size++] = (byte) (0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < length && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, chars.charAt(++i));
+                bytes[size++] = (byte) (0xf0 | codePoint >>> 18);
+                bytes[size++] = (byte) (0x80 | codePoint >>> 12 & 0x3f);
+                bytes[size++] = (byte) (0x80 | codePoint >>> 6 & 0x3f);
+                bytes[size++] = (byte) (0x80 | codePoint & 0x3f);
+            } else {
+                bytes[size++] = '?';
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Returns an output stream that writes to the buffer.
+     * <p>
+     * Lets codecs use serializers that write to streams without buffering their output separately.
+     * The stream doesn't need to be closed.
+     *
+     * @return the output stream
+     */
+    public OutputStream asOutputStream() {
+        return new OutputStream() {
+            @Override
+            public void write(int b) {
+                EncodeBuffer.this.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int offset, int length) {
+                EncodeBuffer.this.write(b, offset, length);
+            }
+        };
+    }
+
+    /**
+     * Reserves the given number of bytes for the caller to fill in directly.
+     *
+     * @param length the number of bytes to reserve
+     * @return the offset of the reserved bytes in {@link #array()}
+     */
+    int reserve(int length) {
+        ensureCapacity(length);
+        int offset = size;
+        size += length;
+        return offset;
+    }
+
+    /**
+     * Returns the buffer's backing array, which is only valid until the buffer next grows.
+     */
+    byte[] array() {
+        return bytes;
+    }
+
+    /**
+     * Returns a copy of the written bytes.
+     */
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    private void ensureCapacity(int length) {
+        if (length > bytes.length - size) {
+            int capacity = Math.max(bytes.length * 2, size + length);
+            if (capacity < 0) {
+                throw new OutOfMemoryError("Encoded value is too large");
+            }
+            bytes = Arrays.copyOf(bytes, capacity);
+        }
+    }
+}
@@ -0,0 +1,261 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.collections;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Hash map from primitive {@code long} keys to non-null values.
+ * <p>
+ * Keys and values are held in two parallel arrays with linear probing, so keys are never boxed and
+ * entries cost no objects of their own. The map is not thread safe.
+ *
+ * @param <V> the value type
+ */
+public final class LongHashMap<V> {
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+
+    public LongHashMap() {
+        this(8);
+    }
+
+    /**
+     * Creates a map sized to hold the given number of entries without resizing.
+     *
+     * @param expectedSize the expected number of entries
+     */
+    public LongHashMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize cannot be negative");
+        }
+        int capacity = Integer.highestOneBit(Math.max(expectedSize * 2, 8) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the number of entries in the map.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the map is empty.
+     *
+     * @return whether the map is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns whether the map contains the given key.
+     *
+     * @param key the key
+     * @return whether the key is present
+     */
+    public boolean containsKey(long key) {
+        return values[slot(key)] != null;
+    }
+
+    /**
+     * Returns the value of the given key.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if the key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        return (V) values[slot(key)];
+    }
+
+    /**
+     * Sets the value of the given key.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value, or {@code null} if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        requireNonNull(value, "value cannot be null");
+        int slot = slot(key);
+        V previous = (V) values[slot];
+        keys[slot] = key;
+        values[slot] = value;
+        if (previous == null && ++size * 2 > values.length) {
+            resize();
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the given key.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if the key was absent
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int gap = slot(key);
+        V previous = (V) values[gap];
+        if (previous == null) {
+            return null;
+        }
+        size--;
+        // Shift back the entries that probed past the removed one.
+        for (int i = gap;;) {
+            values[gap] = null;
+            do {
+                i = (i + 1) & mask;
+                if (values[i] == null) {
+                    return previous;
+                }
+                int home = index(keys[i]);
+                if (gap <= i ? gap >= home || home > i : gap >= home && home > i) {
+                    break;
+                }
+            } while (true);
+            keys[gap] = keys[i];
+            values[gap] = values[i];
+            gap = i;
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Returns the keys in the map, in no particular order.
+     *
+     * @return the keys
+     */
+    public long[] keys() {
+        long[] result = new long[size];
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                result[count++] = keys[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Calls the given consumer with each entry in the map, in no particular order.
+     *
+     * @param consumer the entry consumer
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(EntryConsumer<? super V> consumer) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                consumer.accept(keys[i], (V) values[i]);
+            }
+        }
+    }
+
+    private int slot(long key) {
+        int slot = index(key);
+        while (values[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private int index(long key) {
+        long h = key * 0x9e3779b97f4a7c15L;
+        return (int) (h ^ h >>> 32) & mask;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[oldKeys.length * 2];
+        values = new Object[oldValues.length * 2];
+        mask = values.length - 1;
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = index(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof LongHashMap)) {
+            return false;
+        }
+        LongHashMap<?> that = (LongHashMap<?>) object;
+        if (size != that.size) {
+            return false;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && !Objects.equals(values[i], that.values[that.slot(keys[i])])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                hashCode += Long.hashCode(keys[i]) ^ values[i].hashCode();
+            }
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("{");
+        forEach((key, value) -> {
+            if (builder.length() > 1) {
+                builder.append(", ");
+            }
+            builder.append(key).append('=').append(value);
+        });
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Consumer of map entries.
+     *
+     * @param <V> the value type
+     */
+    @FunctionalInterface
+    public interface EntryConsumer<V> {
+
+        /**
+         * Called with an entry.
+         *
+         * @param key   the entry key
+         * @param value the entry value
+         */
+        void accept(long key, V value);
+    }
+}
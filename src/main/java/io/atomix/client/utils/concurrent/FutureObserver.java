@@ -0,0 +1,55 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.concurrent;
+
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Stream observer that completes a future with the response to a unary call.
+ * <p>
+ * If the future is completed before the call, e.g. because its deadline expired, the call is
+ * cancelled.
+ *
+ * @param <T> the response type
+ */
+public class FutureObserver<T> implements ClientResponseObserver<Object, T> {
+    private final CompletableFuture<T> future;
+    private volatile boolean done;
+
+    public FutureObserver(CompletableFuture<T> future) {
+        this.future = future;
+    }
+
+    @Override
+    public void beforeStart(ClientCallStreamObserver<Object> requestStream) {
+        future.whenComplete((result, error) -> {
+            if (!done) {
+                requestStream.cancel("call abandoned", error);
+            }
+        });
+    }
+
+    @Override
+    public void onNext(T value) {
+        done = true;
+        future.complete(value);
+    }
+
+    @Override
+    public void onError(Throwable t) {
+        done = true;
+        future.completeExceptionally(t);
+    }
+
+    @Override
+    public void onCompleted() {
+        done = true;
+        if (!future.isDone()) {
+            future.completeExceptionally(new IllegalStateException("call completed without a response"));
+        }
+    }
+}
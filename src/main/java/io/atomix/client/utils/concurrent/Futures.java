@@ -0,0 +1,90 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Utilities for creating completed and exceptional futures.
+ */
+public final class Futures {
+
+    /**
+     * Creates a future that is completed exceptionally.
+     *
+     * @param t   the exception with which to complete the future
+     * @param <T> the future type
+     * @return a future completed exceptionally with the given exception
+     */
+    public static <T> CompletableFuture<T> exceptionalFuture(Throwable t) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(t);
+        return future;
+    }
+
+    /**
+     * Returns a future that is completed on the given executor when the given future completes.
+     * <p>
+     * If the executor rejects the completion, e.g. because the client has been closed, the returned
+     * future is completed on the calling thread instead so that waiters are never stranded.
+     * <p>
+     * Cancelling the returned future, or any stage derived from it such as by
+     * {@link CompletableFuture#thenApply(java.util.function.Function)}, cancels the given future, so
+     * a caller that gives up on a call, e.g. when a blocking wait times out, cancels the call itself.
+     *
+     * @param future   the future to wrap
+     * @param executor the executor on which to complete the returned future
+     * @param <T>      the future type
+     * @return a future completed on the given executor
+     */
+    public static <T> CompletableFuture<T> asyncFuture(CompletableFuture<T> future, Executor executor) {
+        CompletableFuture<T> newFuture = new CancellingFuture<>(future);
+        future.whenComplete((result, error) -> {
+            Runnable completion = () -> {
+                if (error == null) {
+                    newFuture.complete(result);
+                } else {
+                    newFuture.completeExceptionally(error);
+                }
+            };
+            try {
+                executor.execute(completion);
+            } catch (RejectedExecutionException e) {
+                completion.run();
+            }
+        });
+        return newFuture;
+    }
+
+    private Futures() {
+    }
+
+    /**
+     * Future that cancels its source when it's cancelled, as do the stages derived from it.
+     */
+    private static final class CancellingFuture<T> extends CompletableFuture<T> {
+        private final Future<?> source;
+
+        CancellingFuture(Future<?> source) {
+            this.source = source;
+        }
+
+        @Override
+        public <U> CompletableFuture<U> newIncompleteFuture() {
+            return new CancellingFuture<>(this);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled) {
+                source.cancel(mayInterruptIfRunning);
+            }
+            return cancelled;
+        }
+    }
+}
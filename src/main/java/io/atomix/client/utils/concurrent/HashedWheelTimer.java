@@ -0,0 +1,239 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Timer backed by a hashed wheel.
+ * <p>
+ * Scheduling and cancelling a task are constant time and never contend with the timer thread, which
+ * makes the timer suited to large numbers of short-lived timeouts that are usually cancelled, such
+ * as request deadlines. Tasks are placed in buckets of a fixed tick duration, so they may run up to
+ * one tick late. A single daemon thread is started on first use and advances the wheel one tick at a
+ * time, running expired tasks.
+ */
+public class HashedWheelTimer implements Timer, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedWheelTimer.class);
+    private static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(10);
+    private static final int DEFAULT_TICKS_PER_WHEEL = 512;
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+    private static final AtomicIntegerFieldUpdater<Task> STATE =
+            AtomicIntegerFieldUpdater.newUpdater(Task.class, "state");
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Task> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Task> cancelled = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final AtomicBoolean started = new AtomicBoolean();
+    private final long startTime = System.nanoTime();
+    private volatile boolean closed;
+    private long tick;
+
+    public HashedWheelTimer(String name) {
+        this(name, DEFAULT_TICK_DURATION, DEFAULT_TICKS_PER_WHEEL);
+    }
+
+    public HashedWheelTimer(String name, Duration tickDuration, int ticksPerWheel) {
+        requireNonNull(name, "name cannot be null");
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive");
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > 1 << 30) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^30");
+        }
+        int size = Integer.highestOneBit(ticksPerWheel);
+        if (size < ticksPerWheel) {
+            size <<= 1;
+        }
+        this.tickNanos = tickDuration.toNanos();
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.worker = Threads.namedThreads(name).newThread(this::run);
+    }
+
+    @Override
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        requireNonNull(task, "task cannot be null");
+        if (closed) {
+            throw new RejectedExecutionException("timer is closed");
+        }
+        if (started.compareAndSet(false, true)) {
+            worker.start();
+        }
+        Task timeout = new Task(task, System.nanoTime() - startTime + Math.max(unit.toNanos(delay), 0));
+        added.add(timeout);
+        return timeout;
+    }
+
+    private void run() {
+        while (!closed) {
+            long deadline = tickNanos * (tick + 1);
+            long sleep = deadline - (System.nanoTime() - startTime);
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            removeCancelled();
+            transferAdded();
+            wheel[(int) (tick & mask)].expire(deadline);
+            tick++;
+        }
+    }
+
+    private void removeCancelled() {
+        Task task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.bucket != null) {
+                task.bucket.remove(task);
+            }
+        }
+    }
+
+    private void transferAdded() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Task task = added.poll();
+            if (task == null) {
+                return;
+            }
+            if (task.state != Task.PENDING) {
+                continue;
+            }
+            long ticks = task.deadline / tickNanos;
+            task.remainingRounds = (ticks - tick) / wheel.length;
+            wheel[(int) (Math.max(ticks, tick) & mask)].add(task);
+        }
+    }
+
+    /**
+     * Stops the timer. Tasks that have not run yet are dropped.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * Scheduled task, linked into a bucket of the wheel.
+     */
+    private final class Task implements Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable runnable;
+        private final long deadline;
+        private volatile int state;
+        private long remainingRounds;
+        private Bucket bucket;
+        private Task prev;
+        private Task next;
+
+        Task(Runnable runnable, long deadline) {
+            this.runnable = runnable;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (!STATE.compareAndSet(this, PENDING, CANCELLED)) {
+                return false;
+            }
+            cancelled.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state == EXPIRED;
+        }
+
+        void expire() {
+            if (STATE.compareAndSet(this, PENDING, EXPIRED)) {
+                try {
+                    runnable.run();
+                } catch (Throwable t) {
+                    LOGGER.warn("Timer task failed", t);
+                }
+            }
+        }
+    }
+
+    /**
+     * Doubly linked list of the tasks in a slot of the wheel, only accessed by the timer thread.
+     */
+    private static final class Bucket {
+        private Task head;
+        private Task tail;
+
+        void add(Task task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        void expire(long deadline) {
+            Task task = head;
+            while (task != null) {
+                Task next = task.next;
+                if (task.remainingRounds <= 0 && task.deadline <= deadline) {
+                    remove(task);
+                    task.expire();
+                } else if (task.isCancelled()) {
+                    remove(task);
+                } else {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+        }
+
+        void remove(Task task) {
+            if (task.bucket != this) {
+                return;
+            }
+            if (task.prev != null) {
+                task.prev.next = task.next;
+            } else {
+                head = task.next;
+            }
+            if (task.next != null) {
+                task.next.prev = task.prev;
+            } else {
+                tail = task.prev;
+            }
+            task.prev = null;
+            task.next = null;
+            task.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread utilities.
+ * <p>
+ * This is the Java 11 implementation. The multi-release JAR replaces it with an implementation backed
+ * by virtual threads on Java 21 and later.
+ */
+public final class Threads {
+
+    /**
+     * Returns whether the running JVM supports virtual threads.
+     *
+     * @return whether virtual threads are supported
+     */
+    public static boolean isVirtualThreadSupported() {
+        return false;
+    }
+
+    /**
+     * Returns a new executor that runs each task on its own thread.
+     * <p>
+     * Threads are virtual when supported; otherwise idle daemon threads are reused.
+     *
+     * @param name the thread name prefix
+     * @return a new thread-per-task executor
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        return Executors.newCachedThreadPool(namedThreads(name));
+    }
+
+    /**
+     * Returns a thread factory that creates daemon platform threads with the given name prefix.
+     *
+     * @param name the thread name prefix
+     * @return the thread factory
+     */
+    public static ThreadFactory namedThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private Threads() {
+    }
+}
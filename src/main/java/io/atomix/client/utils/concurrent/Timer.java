@@ -0,0 +1,63 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules tasks to run once after a delay.
+ * <p>
+ * Tasks run on the timer's thread and must not block.
+ */
+public interface Timer {
+
+    /**
+     * Schedules a task to run after the given delay.
+     *
+     * @param task  the task to run
+     * @param delay the delay after which to run the task
+     * @param unit  the delay time unit
+     * @return a handle that cancels the task
+     */
+    Timeout schedule(Runnable task, long delay, TimeUnit unit);
+
+    /**
+     * Schedules a task to run after the given delay.
+     *
+     * @param task  the task to run
+     * @param delay the delay after which to run the task
+     * @return a handle that cancels the task
+     */
+    default Timeout schedule(Runnable task, Duration delay) {
+        return schedule(task, delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Handle to a scheduled task.
+     */
+    interface Timeout {
+
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return whether the task was cancelled
+         */
+        boolean cancel();
+
+        /**
+         * Returns whether the task was cancelled.
+         *
+         * @return whether the task was cancelled
+         */
+        boolean isCancelled();
+
+        /**
+         * Returns whether the task has run.
+         *
+         * @return whether the task has run
+         */
+        boolean isExpired();
+    }
+}
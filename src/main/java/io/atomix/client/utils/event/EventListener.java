@@ -0,0 +1,21 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.event;
+
+/**
+ * Primitive event listener.
+ *
+ * @param <E> the event type
+ */
+@FunctionalInterface
+public interface EventListener<E> {
+
+    /**
+     * Called when an event is received.
+     *
+     * @param event the event
+     */
+    void event(E event);
+
+}
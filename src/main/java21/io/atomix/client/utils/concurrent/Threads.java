@@ -0,0 +1,54 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread utilities.
+ * <p>
+ * This is the Java 21 implementation, selected from the multi-release JAR.
+ */
+public final class Threads {
+
+    /**
+     * Returns whether the running JVM supports virtual threads.
+     *
+     * @return whether virtual threads are supported
+     */
+    public static boolean isVirtualThreadSupported() {
+        return true;
+    }
+
+    /**
+     * Returns a new executor that runs each task on its own virtual thread.
+     *
+     * @param name the thread name prefix
+     * @return a new thread-per-task executor
+     */
+    public static ExecutorService newThreadPerTaskExecutor(String name) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 1).factory());
+    }
+
+    /**
+     * Returns a thread factory that creates daemon platform threads with the given name prefix.
+     *
+     * @param name the thread name prefix
+     * @return the thread factory
+     */
+    public static ThreadFactory namedThreads(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private Threads() {
+    }
+}
@@ -0,0 +1,69 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client;
+
+import io.atomix.client.protocol.RequestWindow;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Atomix client builder test.
+ */
+public class AtomixClientBuilderTest {
+    private static final int SERVER_THREADS = 4;
+    private static final int REQUESTS = 500;
+
+    @Test
+    public void testDefaultLimitAdapts() throws Exception {
+        // A partition that serves a few requests at a time, so requests queue up on it once the window
+        // is wider than that. Nothing times out, so only the round trip time can cut the limit.
+        ExecutorService server = Executors.newFixedThreadPool(SERVER_THREADS);
+        try {
+            RequestWindow window = new RequestWindow(AtomixClient.builder().requestLimit().get(), REQUESTS);
+            int initialLimit = window.limit();
+            AtomicInteger minLimit = new AtomicInteger(initialLimit);
+            AtomicInteger submitted = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(REQUESTS);
+            Runnable submit = new Runnable() {
+                @Override
+                public void run() {
+                    if (submitted.incrementAndGet() > REQUESTS) {
+                        return;
+                    }
+                    window.submit(() -> CompletableFuture.supplyAsync(() -> {
+                        sleep(1);
+                        return null;
+                    }, server)).whenComplete((result, error) -> {
+                        minLimit.accumulateAndGet(window.limit(), Math::min);
+                        done.countDown();
+                        run();
+                    });
+                }
+            };
+            for (int i = 0; i < initialLimit * 2; i++) {
+                submit.run();
+            }
+            assertTrue(done.await(30, TimeUnit.SECONDS));
+            assertTrue("limit " + minLimit.get(), minLimit.get() < initialLimit);
+        } finally {
+            server.shutdownNow();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.broker;
+
+import io.atomix.api.management.broker.PrimitiveAddress;
+import io.atomix.api.primitive.PrimitiveId;
+import io.grpc.Status;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Lookup cache test.
+ */
+public class LookupCacheTest {
+    private static final long TTL = TimeUnit.MINUTES.toNanos(1);
+
+    private static final PrimitiveId ID = PrimitiveId.newBuilder()
+            .setType("Map")
+            .setNamespace("test")
+            .setName("test")
+            .build();
+
+    private static PrimitiveAddress address(int port) {
+        return PrimitiveAddress.newBuilder()
+                .setHost("localhost")
+                .setPort(port)
+                .build();
+    }
+
+    @Test
+    public void testCachedLookup() throws Exception {
+        LookupCache cache = new LookupCache(16, TTL, TTL);
+        AtomicInteger loads = new AtomicInteger();
+        assertEquals(1, cache.get(ID, id -> CompletableFuture.completedFuture(address(loads.incrementAndGet())))
+                .get().getPort());
+        assertEquals(1, cache.get(ID, id -> CompletableFuture.completedFuture(address(loads.incrementAndGet())))
+                .get().getPort());
+        assertEquals(1, loads.get());
+
+        cache.invalidate(ID);
+        assertEquals(2, cache.get(ID, id -> CompletableFuture.completedFuture(address(loads.incrementAndGet())))
+                .get().getPort());
+    }
+
+    @Test
+    public void testSharedLookup() throws Exception {
+        LookupCache cache = new LookupCache(16, TTL, TTL);
+        CompletableFuture<PrimitiveAddress> lookup = new CompletableFuture<>();
+        AtomicInteger loads = new AtomicInteger();
+        CompletableFuture<PrimitiveAddress> first = cache.get(ID, id -> {
+            loads.incrementAndGet();
+            return lookup;
+        });
+        CompletableFuture<PrimitiveAddress> second = cache.get(ID, id -> {
+            loads.incrementAndGet();
+            return lookup;
+        });
+        assertEquals(1, loads.get());
+        lookup.complete(address(1));
+        assertEquals(1, first.get().getPort());
+        assertEquals(1, second.get().getPort());
+    }
+
+    @Test
+    public void testInvalidateDuringLookup() throws Exception {
+        LookupCache cache = new LookupCache(16, TTL, TTL);
+        CompletableFuture<PrimitiveAddress> lookup = new CompletableFuture<>();
+        CompletableFuture<PrimitiveAddress> first = cache.get(ID, id -> lookup);
+        cache.invalidate(ID);
+
+        // A lookup started after the invalidation doesn't share the stale one.
+        CompletableFuture<PrimitiveAddress> second = cache.get(ID, id -> CompletableFuture.completedFuture(address(2)));
+        assertEquals(2, second.get().getPort());
+
+        // The stale lookup completes its callers but doesn't replace the fresh address.
+        lookup.complete(address(1));
+        assertEquals(1, first.get().getPort());
+        assertEquals(2, cache.get(ID, id -> CompletableFuture.completedFuture(address(3))).get().getPort());
+    }
+
+    @Test
+    public void testNegativeLookup() throws Exception {
+        LookupCache cache = new LookupCache(16, TTL, TTL);
+        AtomicInteger loads = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            CompletableFuture<PrimitiveAddress> future = cache.get(ID, id -> {
+                loads.incrementAndGet();
+                CompletableFuture<PrimitiveAddress> lookup = new CompletableFuture<>();
+                lookup.completeExceptionally(Status.NOT_FOUND.asRuntimeException());
+                return lookup;
+            });
+            assertTrue(future.isCompletedExceptionally());
+        }
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testLoaderThrows() throws Exception {
+        LookupCache cache = new LookupCache(16, TTL, TTL);
+        CompletableFuture<PrimitiveAddress> future = cache.get(ID, id -> {
+            throw new IllegalStateException();
+        });
+        assertTrue(future.isCompletedExceptionally());
+        try {
+            future.join();
+            fail();
+        } catch (Exception e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+
+        // The failed lookup isn't left in flight.
+        CompletableFuture<PrimitiveAddress> retry = cache.get(ID, id -> CompletableFuture.completedFuture(address(1)));
+        assertFalse(retry.isCompletedExceptionally());
+        assertEquals(1, retry.get().getPort());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        LookupCache cache = new LookupCache(1, TTL, TTL);
+        PrimitiveId other = ID.toBuilder().setName("other").build();
+        cache.get(ID, id -> CompletableFuture.completedFuture(address(1))).get();
+        cache.get(other, id -> CompletableFuture.completedFuture(address(2))).get();
+        assertEquals(3, cache.get(ID, id -> CompletableFuture.completedFuture(address(3))).get().getPort());
+    }
+}
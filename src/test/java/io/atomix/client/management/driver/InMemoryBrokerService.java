@@ -0,0 +1,33 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.management.broker.BrokerGrpc;
+import io.atomix.api.management.broker.LookupPrimitiveRequest;
+import io.atomix.api.management.broker.LookupPrimitiveResponse;
+import io.atomix.api.management.broker.PrimitiveAddress;
+import io.grpc.stub.StreamObserver;
+
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * Broker that resolves every primitive to the in-process driver.
+ */
+final class InMemoryBrokerService extends BrokerGrpc.BrokerImplBase {
+    private final LookupPrimitiveResponse response;
+
+    InMemoryBrokerService(String host, int port) {
+        this.response = LookupPrimitiveResponse.newBuilder()
+                .setAddress(PrimitiveAddress.newBuilder()
+                        .setHost(host)
+                        .setPort(port)
+                        .build())
+                .build();
+    }
+
+    @Override
+    public void lookupPrimitive(LookupPrimitiveRequest request, StreamObserver<LookupPrimitiveResponse> observer) {
+        respond(observer, () -> response);
+    }
+}
@@ -0,0 +1,55 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.counter.CounterServiceGrpc;
+import io.atomix.api.primitive.counter.DecrementRequest;
+import io.atomix.api.primitive.counter.DecrementResponse;
+import io.atomix.api.primitive.counter.GetRequest;
+import io.atomix.api.primitive.counter.GetResponse;
+import io.atomix.api.primitive.counter.IncrementRequest;
+import io.atomix.api.primitive.counter.IncrementResponse;
+import io.atomix.api.primitive.counter.SetRequest;
+import io.atomix.api.primitive.counter.SetResponse;
+import io.grpc.stub.StreamObserver;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory counter service.
+ */
+final class InMemoryCounterService extends CounterServiceGrpc.CounterServiceImplBase {
+    private final InProcessDriver.Primitives<AtomicLong> counters = new InProcessDriver.Primitives<>(AtomicLong::new);
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> observer) {
+        respond(observer, () -> GetResponse.newBuilder()
+                .setValue(counters.get(request.getHeaders().getPrimitiveId()).get())
+                .build());
+    }
+
+    @Override
+    public void set(SetRequest request, StreamObserver<SetResponse> observer) {
+        respond(observer, () -> {
+            counters.get(request.getHeaders().getPrimitiveId()).set(request.getValue());
+            return SetResponse.newBuilder().build();
+        });
+    }
+
+    @Override
+    public void increment(IncrementRequest request, StreamObserver<IncrementResponse> observer) {
+        respond(observer, () -> IncrementResponse.newBuilder()
+                .setValue(counters.get(request.getHeaders().getPrimitiveId()).addAndGet(request.getDelta()))
+                .build());
+    }
+
+    @Override
+    public void decrement(DecrementRequest request, StreamObserver<DecrementResponse> observer) {
+        respond(observer, () -> DecrementResponse.newBuilder()
+                .setValue(counters.get(request.getHeaders().getPrimitiveId()).addAndGet(-request.getDelta()))
+                .build());
+    }
+}
@@ -0,0 +1,143 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.election.AnointRequest;
+import io.atomix.api.primitive.election.AnointResponse;
+import io.atomix.api.primitive.election.EnterRequest;
+import io.atomix.api.primitive.election.EnterResponse;
+import io.atomix.api.primitive.election.EvictRequest;
+import io.atomix.api.primitive.election.EvictResponse;
+import io.atomix.api.primitive.election.GetTermRequest;
+import io.atomix.api.primitive.election.GetTermResponse;
+import io.atomix.api.primitive.election.LeaderElectionServiceGrpc;
+import io.atomix.api.primitive.election.PromoteRequest;
+import io.atomix.api.primitive.election.PromoteResponse;
+import io.atomix.api.primitive.election.Term;
+import io.atomix.api.primitive.election.WithdrawRequest;
+import io.atomix.api.primitive.election.WithdrawResponse;
+import io.atomix.api.primitive.meta.ObjectMeta;
+import io.grpc.stub.StreamObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory leader election service.
+ * <p>
+ * The first candidate to enter becomes the leader; when the leader leaves, the next candidate in line
+ * takes over. Each change of leader starts a new term.
+ */
+final class InMemoryElectionService extends LeaderElectionServiceGrpc.LeaderElectionServiceImplBase {
+    private final InProcessDriver.Primitives<State> elections = new InProcessDriver.Primitives<>(State::new);
+
+    @Override
+    public void enter(EnterRequest request, StreamObserver<EnterResponse> observer) {
+        State election = elections.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (election) {
+                if (!election.candidates.contains(request.getCandidateId())) {
+                    election.candidates.add(request.getCandidateId());
+                }
+                return EnterResponse.newBuilder().setTerm(election.elect(election.leader)).build();
+            }
+        });
+    }
+
+    @Override
+    public void withdraw(WithdrawRequest request, StreamObserver<WithdrawResponse> observer) {
+        State election = elections.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (election) {
+                return WithdrawResponse.newBuilder().setTerm(election.remove(request.getCandidateId())).build();
+            }
+        });
+    }
+
+    @Override
+    public void anoint(AnointRequest request, StreamObserver<AnointResponse> observer) {
+        State election = elections.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (election) {
+                Term term = election.promote(request.getCandidateId())
+                        ? election.elect(request.getCandidateId())
+                        : election.toTerm();
+                return AnointResponse.newBuilder().setTerm(term).build();
+            }
+        });
+    }
+
+    @Override
+    public void promote(PromoteRequest request, StreamObserver<PromoteResponse> observer) {
+        State election = elections.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (election) {
+                election.promote(request.getCandidateId());
+                return PromoteResponse.newBuilder().setTerm(election.toTerm()).build();
+            }
+        });
+    }
+
+    @Override
+    public void evict(EvictRequest request, StreamObserver<EvictResponse> observer) {
+        State election = elections.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (election) {
+                return EvictResponse.newBuilder().setTerm(election.remove(request.getCandidateId())).build();
+            }
+        });
+    }
+
+    @Override
+    public void getTerm(GetTermRequest request, StreamObserver<GetTermResponse> observer) {
+        State election = elections.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (election) {
+                return GetTermResponse.newBuilder().setTerm(election.toTerm()).build();
+            }
+        });
+    }
+
+    private static final class State {
+        private final List<String> candidates = new ArrayList<>();
+        private String leader;
+        private long term;
+
+        boolean promote(String candidate) {
+            if (!candidates.remove(candidate)) {
+                return false;
+            }
+            candidates.add(0, candidate);
+            return true;
+        }
+
+        Term remove(String candidate) {
+            candidates.remove(candidate);
+            return elect(candidate.equals(leader) ? null : leader);
+        }
+
+        Term elect(String leader) {
+            if (leader == null && !candidates.isEmpty()) {
+                leader = candidates.get(0);
+            }
+            if (leader != null && !leader.equals(this.leader)) {
+                term++;
+            }
+            this.leader = leader;
+            return toTerm();
+        }
+
+        Term toTerm() {
+            Term.Builder builder = Term.newBuilder()
+                    .addAllCandidates(candidates)
+                    .setMeta(ObjectMeta.newBuilder().setRevision(term).build());
+            if (leader != null) {
+                builder.setLeader(leader);
+            }
+            return builder.build();
+        }
+    }
+}
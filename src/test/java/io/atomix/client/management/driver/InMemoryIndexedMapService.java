@@ -0,0 +1,183 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.indexedmap.ClearRequest;
+import io.atomix.api.primitive.indexedmap.ClearResponse;
+import io.atomix.api.primitive.indexedmap.Entry;
+import io.atomix.api.primitive.indexedmap.FirstEntryRequest;
+import io.atomix.api.primitive.indexedmap.FirstEntryResponse;
+import io.atomix.api.primitive.indexedmap.GetRequest;
+import io.atomix.api.primitive.indexedmap.GetResponse;
+import io.atomix.api.primitive.indexedmap.IndexedMapServiceGrpc;
+import io.atomix.api.primitive.indexedmap.LastEntryRequest;
+import io.atomix.api.primitive.indexedmap.LastEntryResponse;
+import io.atomix.api.primitive.indexedmap.NextEntryRequest;
+import io.atomix.api.primitive.indexedmap.NextEntryResponse;
+import io.atomix.api.primitive.indexedmap.PrevEntryRequest;
+import io.atomix.api.primitive.indexedmap.PrevEntryResponse;
+import io.atomix.api.primitive.indexedmap.PutRequest;
+import io.atomix.api.primitive.indexedmap.PutResponse;
+import io.atomix.api.primitive.indexedmap.RemoveRequest;
+import io.atomix.api.primitive.indexedmap.RemoveResponse;
+import io.atomix.api.primitive.indexedmap.SizeRequest;
+import io.atomix.api.primitive.indexedmap.SizeResponse;
+import io.atomix.api.primitive.meta.ObjectMeta;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.atomix.client.management.driver.InProcessDriver.error;
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory indexed map service.
+ * <p>
+ * New keys are indexed from 1 in insertion order; updating a key keeps its index.
+ */
+final class InMemoryIndexedMapService extends IndexedMapServiceGrpc.IndexedMapServiceImplBase {
+    private final InProcessDriver.Primitives<State> maps = new InProcessDriver.Primitives<>(State::new);
+
+    @Override
+    public void size(SizeRequest request, StreamObserver<SizeResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                return SizeResponse.newBuilder().setSize(map.keys.size()).build();
+            }
+        });
+    }
+
+    @Override
+    public void put(PutRequest request, StreamObserver<PutResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                Entry entry = request.getEntry();
+                Entry current = map.keys.get(entry.getKey());
+                long revision = entry.getMeta().getRevision();
+                if (revision != 0 && (current == null || current.getMeta().getRevision() != revision)) {
+                    throw error(current == null ? Status.NOT_FOUND : Status.FAILED_PRECONDITION, entry.getKey());
+                }
+                Entry updated = entry.toBuilder()
+                        .setIndex(current != null ? current.getIndex() : ++map.index)
+                        .setMeta(ObjectMeta.newBuilder().setRevision(++map.revision).build())
+                        .build();
+                map.keys.put(updated.getKey(), updated);
+                map.indexes.put(updated.getIndex(), updated);
+                return PutResponse.newBuilder().setEntry(updated).build();
+            }
+        });
+    }
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                Entry entry = !request.getKey().isEmpty()
+                        ? map.keys.get(request.getKey())
+                        : map.indexes.get(request.getIndex());
+                return GetResponse.newBuilder().setEntry(found(entry)).build();
+            }
+        });
+    }
+
+    @Override
+    public void firstEntry(FirstEntryRequest request, StreamObserver<FirstEntryResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                return FirstEntryResponse.newBuilder().setEntry(found(map.indexes.firstEntry())).build();
+            }
+        });
+    }
+
+    @Override
+    public void lastEntry(LastEntryRequest request, StreamObserver<LastEntryResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                return LastEntryResponse.newBuilder().setEntry(found(map.indexes.lastEntry())).build();
+            }
+        });
+    }
+
+    @Override
+    public void prevEntry(PrevEntryRequest request, StreamObserver<PrevEntryResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                return PrevEntryResponse.newBuilder()
+                        .setEntry(found(map.indexes.lowerEntry(request.getIndex())))
+                        .build();
+            }
+        });
+    }
+
+    @Override
+    public void nextEntry(NextEntryRequest request, StreamObserver<NextEntryResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                return NextEntryResponse.newBuilder()
+                        .setEntry(found(map.indexes.higherEntry(request.getIndex())))
+                        .build();
+            }
+        });
+    }
+
+    @Override
+    public void remove(RemoveRequest request, StreamObserver<RemoveResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                Entry entry = request.getEntry();
+                Entry removed = found(!entry.getKey().isEmpty()
+                        ? map.keys.get(entry.getKey())
+                        : map.indexes.get(entry.getIndex()));
+                long revision = entry.getMeta().getRevision();
+                if (revision != 0 && removed.getMeta().getRevision() != revision) {
+                    throw error(Status.FAILED_PRECONDITION, removed.getKey());
+                }
+                map.keys.remove(removed.getKey());
+                map.indexes.remove(removed.getIndex());
+                return RemoveResponse.newBuilder().setEntry(removed).build();
+            }
+        });
+    }
+
+    @Override
+    public void clear(ClearRequest request, StreamObserver<ClearResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                map.keys.clear();
+                map.indexes.clear();
+                return ClearResponse.newBuilder().build();
+            }
+        });
+    }
+
+    private static Entry found(Map.Entry<Long, Entry> entry) {
+        return found(entry != null ? entry.getValue() : null);
+    }
+
+    private static Entry found(Entry entry) {
+        if (entry == null) {
+            throw error(Status.NOT_FOUND, "entry not found");
+        }
+        return entry;
+    }
+
+    private static final class State {
+        private final Map<String, Entry> keys = new HashMap<>();
+        private final TreeMap<Long, Entry> indexes = new TreeMap<>();
+        private long index;
+        private long revision;
+    }
+}
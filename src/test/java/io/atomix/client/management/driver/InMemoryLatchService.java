@@ -0,0 +1,68 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.leader.GetRequest;
+import io.atomix.api.primitive.leader.GetResponse;
+import io.atomix.api.primitive.leader.Latch;
+import io.atomix.api.primitive.leader.LatchRequest;
+import io.atomix.api.primitive.leader.LatchResponse;
+import io.atomix.api.primitive.leader.LeaderLatchServiceGrpc;
+import io.atomix.api.primitive.meta.ObjectMeta;
+import io.grpc.stub.StreamObserver;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory leader latch service.
+ * <p>
+ * The first participant to join holds the latch.
+ */
+final class InMemoryLatchService extends LeaderLatchServiceGrpc.LeaderLatchServiceImplBase {
+    private final InProcessDriver.Primitives<State> latches = new InProcessDriver.Primitives<>(State::new);
+
+    @Override
+    public void latch(LatchRequest request, StreamObserver<LatchResponse> observer) {
+        State latch = latches.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (latch) {
+                latch.participants.add(request.getParticipantId());
+                if (latch.leader == null) {
+                    latch.leader = request.getParticipantId();
+                    latch.revision++;
+                }
+                return LatchResponse.newBuilder().setLatch(latch.toLatch()).build();
+            }
+        });
+    }
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> observer) {
+        State latch = latches.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (latch) {
+                return GetResponse.newBuilder().setLatch(latch.toLatch()).build();
+            }
+        });
+    }
+
+    private static final class State {
+        private final Set<String> participants = new LinkedHashSet<>();
+        private String leader;
+        private long revision;
+
+        Latch toLatch() {
+            Latch.Builder builder = Latch.newBuilder()
+                    .addAllParticipants(participants)
+                    .setMeta(ObjectMeta.newBuilder().setRevision(revision).build());
+            if (leader != null) {
+                builder.setLeader(leader);
+            }
+            return builder.build();
+        }
+    }
+}
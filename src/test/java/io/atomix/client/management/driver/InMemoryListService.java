@@ -0,0 +1,129 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import com.google.protobuf.ByteString;
+import io.atomix.api.primitive.list.AppendRequest;
+import io.atomix.api.primitive.list.AppendResponse;
+import io.atomix.api.primitive.list.ClearRequest;
+import io.atomix.api.primitive.list.ClearResponse;
+import io.atomix.api.primitive.list.GetRequest;
+import io.atomix.api.primitive.list.GetResponse;
+import io.atomix.api.primitive.list.InsertRequest;
+import io.atomix.api.primitive.list.InsertResponse;
+import io.atomix.api.primitive.list.Item;
+import io.atomix.api.primitive.list.ListServiceGrpc;
+import io.atomix.api.primitive.list.RemoveRequest;
+import io.atomix.api.primitive.list.RemoveResponse;
+import io.atomix.api.primitive.list.SetRequest;
+import io.atomix.api.primitive.list.SetResponse;
+import io.atomix.api.primitive.list.SizeRequest;
+import io.atomix.api.primitive.list.SizeResponse;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static io.atomix.client.management.driver.InProcessDriver.error;
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory list service.
+ */
+final class InMemoryListService extends ListServiceGrpc.ListServiceImplBase {
+    private final InProcessDriver.Primitives<List<ByteString>> lists = new InProcessDriver.Primitives<>(ArrayList::new);
+
+    @Override
+    public void size(SizeRequest request, StreamObserver<SizeResponse> observer) {
+        List<ByteString> list = lists.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (list) {
+                return SizeResponse.newBuilder().setSize(list.size()).build();
+            }
+        });
+    }
+
+    @Override
+    public void append(AppendRequest request, StreamObserver<AppendResponse> observer) {
+        List<ByteString> list = lists.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (list) {
+                list.add(request.getValue());
+                return AppendResponse.newBuilder().build();
+            }
+        });
+    }
+
+    @Override
+    public void insert(InsertRequest request, StreamObserver<InsertResponse> observer) {
+        List<ByteString> list = lists.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (list) {
+                int index = (int) request.getItem().getIndex();
+                if (index < 0 || index > list.size()) {
+                    throw error(Status.OUT_OF_RANGE, String.valueOf(index));
+                }
+                list.add(index, request.getItem().getValue());
+                return InsertResponse.newBuilder().build();
+            }
+        });
+    }
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> observer) {
+        List<ByteString> list = lists.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (list) {
+                int index = checkIndex(list, (int) request.getIndex());
+                return GetResponse.newBuilder().setItem(toItem(index, list.get(index))).build();
+            }
+        });
+    }
+
+    @Override
+    public void set(SetRequest request, StreamObserver<SetResponse> observer) {
+        List<ByteString> list = lists.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (list) {
+                int index = checkIndex(list, (int) request.getItem().getIndex());
+                list.set(index, request.getItem().getValue());
+                return SetResponse.newBuilder().build();
+            }
+        });
+    }
+
+    @Override
+    public void remove(RemoveRequest request, StreamObserver<RemoveResponse> observer) {
+        List<ByteString> list = lists.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (list) {
+                int index = checkIndex(list, (int) request.getIndex());
+                return RemoveResponse.newBuilder().setItem(toItem(index, list.remove(index))).build();
+            }
+        });
+    }
+
+    @Override
+    public void clear(ClearRequest request, StreamObserver<ClearResponse> observer) {
+        List<ByteString> list = lists.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (list) {
+                list.clear();
+                return ClearResponse.newBuilder().build();
+            }
+        });
+    }
+
+    private static int checkIndex(List<ByteString> list, int index) {
+        if (index < 0 || index >= list.size()) {
+            throw error(Status.OUT_OF_RANGE, String.valueOf(index));
+        }
+        return index;
+    }
+
+    private static Item toItem(int index, ByteString value) {
+        return Item.newBuilder().setIndex(index).setValue(value).build();
+    }
+}
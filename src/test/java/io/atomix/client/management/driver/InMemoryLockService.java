@@ -0,0 +1,112 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.lock.GetLockRequest;
+import io.atomix.api.primitive.lock.GetLockResponse;
+import io.atomix.api.primitive.lock.Lock;
+import io.atomix.api.primitive.lock.LockRequest;
+import io.atomix.api.primitive.lock.LockResponse;
+import io.atomix.api.primitive.lock.LockServiceGrpc;
+import io.atomix.api.primitive.lock.UnlockRequest;
+import io.atomix.api.primitive.lock.UnlockResponse;
+import io.atomix.api.primitive.meta.ObjectMeta;
+import io.atomix.client.utils.concurrent.Timer;
+import io.grpc.stub.StreamObserver;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory lock service.
+ * <p>
+ * Lock requests without a timeout wait until the lock is granted. Requests with a timeout wait at most
+ * that long and then respond with an unlocked lock. Since the client is sessionless, any unlock
+ * releases the lock to the next waiter.
+ */
+final class InMemoryLockService extends LockServiceGrpc.LockServiceImplBase {
+    private static final Lock UNLOCKED = Lock.newBuilder().build();
+
+    private final InProcessDriver.Primitives<State> locks = new InProcessDriver.Primitives<>(State::new);
+    private final Timer timer;
+
+    InMemoryLockService(Timer timer) {
+        this.timer = timer;
+    }
+
+    @Override
+    public void lock(LockRequest request, StreamObserver<LockResponse> observer) {
+        State lock = locks.get(request.getHeaders().getPrimitiveId());
+        synchronized (lock) {
+            if (!lock.locked) {
+                lock.grant(observer);
+                return;
+            }
+            if (request.hasTimeout()) {
+                long timeout = TimeUnit.SECONDS.toNanos(request.getTimeout().getSeconds())
+                        + request.getTimeout().getNanos();
+                if (timeout <= 0) {
+                    respond(observer, () -> LockResponse.newBuilder().setLock(UNLOCKED).build());
+                    return;
+                }
+                timer.schedule(() -> {
+                    boolean expired;
+                    synchronized (lock) {
+                        expired = lock.waiters.remove(observer);
+                    }
+                    if (expired) {
+                        respond(observer, () -> LockResponse.newBuilder().setLock(UNLOCKED).build());
+                    }
+                }, timeout, TimeUnit.NANOSECONDS);
+            }
+            lock.waiters.add(observer);
+        }
+    }
+
+    @Override
+    public void unlock(UnlockRequest request, StreamObserver<UnlockResponse> observer) {
+        State lock = locks.get(request.getHeaders().getPrimitiveId());
+        synchronized (lock) {
+            lock.locked = false;
+            StreamObserver<LockResponse> waiter = lock.waiters.poll();
+            if (waiter != null) {
+                lock.grant(waiter);
+            }
+        }
+        respond(observer, () -> UnlockResponse.newBuilder().build());
+    }
+
+    @Override
+    public void getLock(GetLockRequest request, StreamObserver<GetLockResponse> observer) {
+        State lock = locks.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (lock) {
+                return GetLockResponse.newBuilder().setLock(lock.locked ? lock.toLock() : UNLOCKED).build();
+            }
+        });
+    }
+
+    private static final class State {
+        private final Queue<StreamObserver<LockResponse>> waiters = new ArrayDeque<>();
+        private boolean locked;
+        private long revision;
+
+        void grant(StreamObserver<LockResponse> observer) {
+            locked = true;
+            revision++;
+            Lock granted = toLock();
+            respond(observer, () -> LockResponse.newBuilder().setLock(granted).build());
+        }
+
+        Lock toLock() {
+            return Lock.newBuilder()
+                    .setState(Lock.State.LOCKED)
+                    .setMeta(ObjectMeta.newBuilder().setRevision(revision).build())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.log.AppendRequest;
+import io.atomix.api.primitive.log.AppendResponse;
+import io.atomix.api.primitive.log.ClearRequest;
+import io.atomix.api.primitive.log.ClearResponse;
+import io.atomix.api.primitive.log.Entry;
+import io.atomix.api.primitive.log.FirstEntryRequest;
+import io.atomix.api.primitive.log.FirstEntryResponse;
+import io.atomix.api.primitive.log.GetRequest;
+import io.atomix.api.primitive.log.GetResponse;
+import io.atomix.api.primitive.log.LastEntryRequest;
+import io.atomix.api.primitive.log.LastEntryResponse;
+import io.atomix.api.primitive.log.LogServiceGrpc;
+import io.atomix.api.primitive.log.SizeRequest;
+import io.atomix.api.primitive.log.SizeResponse;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import static io.atomix.client.management.driver.InProcessDriver.error;
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory log service.
+ * <p>
+ * Entries are indexed from 1 and indexes are never reused, even after the log is cleared.
+ */
+final class InMemoryLogService extends LogServiceGrpc.LogServiceImplBase {
+    private final InProcessDriver.Primitives<State> logs = new InProcessDriver.Primitives<>(State::new);
+
+    @Override
+    public void size(SizeRequest request, StreamObserver<SizeResponse> observer) {
+        State log = logs.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (log) {
+                return SizeResponse.newBuilder().setSize(log.entries.size()).build();
+            }
+        });
+    }
+
+    @Override
+    public void append(AppendRequest request, StreamObserver<AppendResponse> observer) {
+        State log = logs.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (log) {
+                Entry entry = Entry.newBuilder()
+                        .setIndex(++log.index)
+                        .setValue(request.getValue())
+                        .build();
+                log.entries.put(entry.getIndex(), entry);
+                return AppendResponse.newBuilder().setEntry(entry).build();
+            }
+        });
+    }
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> observer) {
+        State log = logs.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (log) {
+                return GetResponse.newBuilder().setEntry(found(log.entries.get(request.getIndex()))).build();
+            }
+        });
+    }
+
+    @Override
+    public void firstEntry(FirstEntryRequest request, StreamObserver<FirstEntryResponse> observer) {
+        State log = logs.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (log) {
+                return FirstEntryResponse.newBuilder().setEntry(found(log.entries.firstEntry())).build();
+            }
+        });
+    }
+
+    @Override
+    public void lastEntry(LastEntryRequest request, StreamObserver<LastEntryResponse> observer) {
+        State log = logs.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (log) {
+                return LastEntryResponse.newBuilder().setEntry(found(log.entries.lastEntry())).build();
+            }
+        });
+    }
+
+    @Override
+    public void clear(ClearRequest request, StreamObserver<ClearResponse> observer) {
+        State log = logs.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (log) {
+                log.entries.clear();
+                return ClearResponse.newBuilder().build();
+            }
+        });
+    }
+
+    private static Entry found(Map.Entry<Long, Entry> entry) {
+        return found(entry != null ? entry.getValue() : null);
+    }
+
+    private static Entry found(Entry entry) {
+        if (entry == null) {
+            throw error(Status.NOT_FOUND, "entry not found");
+        }
+        return entry;
+    }
+
+    private static final class State {
+        private final TreeMap<Long, Entry> entries = new TreeMap<>();
+        private long index;
+    }
+}
@@ -0,0 +1,177 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.map.ClearRequest;
+import io.atomix.api.primitive.map.ClearResponse;
+import io.atomix.api.primitive.map.EntriesRequest;
+import io.atomix.api.primitive.map.EntriesResponse;
+import io.atomix.api.primitive.map.Entry;
+import io.atomix.api.primitive.map.Event;
+import io.atomix.api.primitive.map.EventsRequest;
+import io.atomix.api.primitive.map.EventsResponse;
+import io.atomix.api.primitive.map.GetRequest;
+import io.atomix.api.primitive.map.GetResponse;
+import io.atomix.api.primitive.map.MapServiceGrpc;
+import io.atomix.api.primitive.map.PutRequest;
+import io.atomix.api.primitive.map.PutResponse;
+import io.atomix.api.primitive.map.RemoveRequest;
+import io.atomix.api.primitive.map.RemoveResponse;
+import io.atomix.api.primitive.map.SizeRequest;
+import io.atomix.api.primitive.map.SizeResponse;
+import io.atomix.api.primitive.meta.ObjectMeta;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.atomix.client.management.driver.InProcessDriver.error;
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory map service.
+ * <p>
+ * Updates carrying a revision are applied only if the entry is at that revision. Changes are published
+ * to the map's event streams in the order they're applied.
+ */
+final class InMemoryMapService extends MapServiceGrpc.MapServiceImplBase {
+    private final InProcessDriver.Primitives<State> maps = new InProcessDriver.Primitives<>(State::new);
+
+    @Override
+    public void size(SizeRequest request, StreamObserver<SizeResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                return SizeResponse.newBuilder().setSize(map.entries.size()).build();
+            }
+        });
+    }
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                return GetResponse.newBuilder().setEntry(map.get(request.getKey())).build();
+            }
+        });
+    }
+
+    @Override
+    public void put(PutRequest request, StreamObserver<PutResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                Entry entry = request.getEntry();
+                map.check(entry);
+                Entry updated = entry.toBuilder()
+                        .setMeta(ObjectMeta.newBuilder().setRevision(++map.revision).build())
+                        .build();
+                Entry previous = map.entries.put(entry.getKey(), updated);
+                map.publish(previous == null ? Event.Type.INSERT : Event.Type.UPDATE, updated);
+                return PutResponse.newBuilder().setEntry(updated).build();
+            }
+        });
+    }
+
+    @Override
+    public void remove(RemoveRequest request, StreamObserver<RemoveResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                Entry entry = request.getEntry();
+                map.check(entry);
+                Entry removed = map.get(entry.getKey());
+                map.entries.remove(entry.getKey());
+                map.publish(Event.Type.REMOVE, removed);
+                return RemoveResponse.newBuilder().setEntry(removed).build();
+            }
+        });
+    }
+
+    @Override
+    public void clear(ClearRequest request, StreamObserver<ClearResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (map) {
+                map.entries.values().forEach(entry -> map.publish(Event.Type.REMOVE, entry));
+                map.entries.clear();
+                return ClearResponse.newBuilder().build();
+            }
+        });
+    }
+
+    @Override
+    public void entries(EntriesRequest request, StreamObserver<EntriesResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        List<Entry> entries;
+        synchronized (map) {
+            entries = new ArrayList<>(map.entries.values());
+        }
+        for (Entry entry : entries) {
+            observer.onNext(EntriesResponse.newBuilder().setEntry(entry).build());
+        }
+        observer.onCompleted();
+    }
+
+    @Override
+    public void events(EventsRequest request, StreamObserver<EventsResponse> observer) {
+        State map = maps.get(request.getHeaders().getPrimitiveId());
+        ServerCallStreamObserver<EventsResponse> stream = (ServerCallStreamObserver<EventsResponse>) observer;
+        stream.setOnCancelHandler(() -> {
+            synchronized (map) {
+                map.streams.remove(stream);
+            }
+        });
+        synchronized (map) {
+            if (!stream.isCancelled()) {
+                map.streams.add(stream);
+            }
+        }
+    }
+
+    private static final class State {
+        private final Map<String, Entry> entries = new HashMap<>();
+        private final Set<ServerCallStreamObserver<EventsResponse>> streams = new LinkedHashSet<>();
+        private long revision;
+
+        void publish(Event.Type type, Entry entry) {
+            EventsResponse response = EventsResponse.newBuilder()
+                    .setEvent(Event.newBuilder()
+                            .setType(type)
+                            .setEntry(entry)
+                            .build())
+                    .build();
+            streams.removeIf(stream -> {
+                try {
+                    stream.onNext(response);
+                    return false;
+                } catch (RuntimeException e) {
+                    return true;
+                }
+            });
+        }
+
+        Entry get(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                throw error(Status.NOT_FOUND, key);
+            }
+            return entry;
+        }
+
+        void check(Entry update) {
+            long revision = update.getMeta().getRevision();
+            if (revision != 0 && get(update.getKey()).getMeta().getRevision() != revision) {
+                throw error(Status.FAILED_PRECONDITION, update.getKey());
+            }
+        }
+    }
+}
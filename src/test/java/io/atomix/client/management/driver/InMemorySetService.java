@@ -0,0 +1,77 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.set.AddRequest;
+import io.atomix.api.primitive.set.AddResponse;
+import io.atomix.api.primitive.set.ClearRequest;
+import io.atomix.api.primitive.set.ClearResponse;
+import io.atomix.api.primitive.set.ContainsRequest;
+import io.atomix.api.primitive.set.ContainsResponse;
+import io.atomix.api.primitive.set.RemoveRequest;
+import io.atomix.api.primitive.set.RemoveResponse;
+import io.atomix.api.primitive.set.SetServiceGrpc;
+import io.atomix.api.primitive.set.SizeRequest;
+import io.atomix.api.primitive.set.SizeResponse;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.atomix.client.management.driver.InProcessDriver.error;
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory set service.
+ */
+final class InMemorySetService extends SetServiceGrpc.SetServiceImplBase {
+    private final InProcessDriver.Primitives<Set<String>> sets =
+            new InProcessDriver.Primitives<>(ConcurrentHashMap::newKeySet);
+
+    @Override
+    public void size(SizeRequest request, StreamObserver<SizeResponse> observer) {
+        respond(observer, () -> SizeResponse.newBuilder()
+                .setSize(sets.get(request.getHeaders().getPrimitiveId()).size())
+                .build());
+    }
+
+    @Override
+    public void contains(ContainsRequest request, StreamObserver<ContainsResponse> observer) {
+        respond(observer, () -> ContainsResponse.newBuilder()
+                .setContains(sets.get(request.getHeaders().getPrimitiveId())
+                        .contains(request.getElement().getValue()))
+                .build());
+    }
+
+    @Override
+    public void add(AddRequest request, StreamObserver<AddResponse> observer) {
+        respond(observer, () -> {
+            String element = request.getElement().getValue();
+            if (!sets.get(request.getHeaders().getPrimitiveId()).add(element)) {
+                throw error(Status.ALREADY_EXISTS, element);
+            }
+            return AddResponse.newBuilder().build();
+        });
+    }
+
+    @Override
+    public void remove(RemoveRequest request, StreamObserver<RemoveResponse> observer) {
+        respond(observer, () -> {
+            String element = request.getElement().getValue();
+            if (!sets.get(request.getHeaders().getPrimitiveId()).remove(element)) {
+                throw error(Status.NOT_FOUND, element);
+            }
+            return RemoveResponse.newBuilder().build();
+        });
+    }
+
+    @Override
+    public void clear(ClearRequest request, StreamObserver<ClearResponse> observer) {
+        respond(observer, () -> {
+            sets.get(request.getHeaders().getPrimitiveId()).clear();
+            return ClearResponse.newBuilder().build();
+        });
+    }
+}
@@ -0,0 +1,60 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.meta.ObjectMeta;
+import io.atomix.api.primitive.value.GetRequest;
+import io.atomix.api.primitive.value.GetResponse;
+import io.atomix.api.primitive.value.SetRequest;
+import io.atomix.api.primitive.value.SetResponse;
+import io.atomix.api.primitive.value.Value;
+import io.atomix.api.primitive.value.ValueServiceGrpc;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.atomix.client.management.driver.InProcessDriver.error;
+import static io.atomix.client.management.driver.InProcessDriver.respond;
+
+/**
+ * In-memory value service.
+ * <p>
+ * Sets carrying a revision are applied only if the value is at that revision.
+ */
+final class InMemoryValueService extends ValueServiceGrpc.ValueServiceImplBase {
+    private final InProcessDriver.Primitives<AtomicReference<Value>> values =
+            new InProcessDriver.Primitives<>(AtomicReference::new);
+
+    @Override
+    public void get(GetRequest request, StreamObserver<GetResponse> observer) {
+        respond(observer, () -> {
+            Value value = values.get(request.getHeaders().getPrimitiveId()).get();
+            if (value == null) {
+                throw error(Status.NOT_FOUND, "value is not set");
+            }
+            return GetResponse.newBuilder().setValue(value).build();
+        });
+    }
+
+    @Override
+    public void set(SetRequest request, StreamObserver<SetResponse> observer) {
+        AtomicReference<Value> value = values.get(request.getHeaders().getPrimitiveId());
+        respond(observer, () -> {
+            synchronized (value) {
+                Value current = value.get();
+                long revision = current != null ? current.getMeta().getRevision() : 0;
+                long expected = request.getValue().getMeta().getRevision();
+                if (expected != 0 && expected != revision) {
+                    throw error(Status.FAILED_PRECONDITION, "revision mismatch");
+                }
+                Value updated = request.getValue().toBuilder()
+                        .setMeta(ObjectMeta.newBuilder().setRevision(revision + 1).build())
+                        .build();
+                value.set(updated);
+                return SetResponse.newBuilder().setValue(updated).build();
+            }
+        });
+    }
+}
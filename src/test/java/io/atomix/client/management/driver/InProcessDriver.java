@@ -0,0 +1,147 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.management.driver;
+
+import io.atomix.api.primitive.PrimitiveId;
+import io.atomix.client.channel.ChannelFactory;
+import io.atomix.client.utils.concurrent.HashedWheelTimer;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Stand-in Atomix driver that serves the broker and every primitive service from memory.
+ * <p>
+ * The driver runs an in-process gRPC server, so the client can be exercised and benchmarked without a
+ * cluster or a network. Build the client with {@link #channelFactory()} as its
+ * {@link io.atomix.client.AtomixClientBuilder#withChannelFactory channel factory} and the driver's
+ * {@link #host()} and {@link #port()} as the broker address; the broker resolves every primitive to
+ * the driver itself. Unary operations are implemented with the semantics the client expects. Of the
+ * event streams only the map's is implemented, which is enough to exercise near caches.
+ */
+public final class InProcessDriver implements AutoCloseable {
+    private static final int PORT = 5678;
+
+    private final String host;
+    private final HashedWheelTimer timer;
+    private final Server server;
+
+    public InProcessDriver(String name) {
+        this.host = name;
+        this.timer = new HashedWheelTimer("atomix-driver-timer");
+        this.server = InProcessServerBuilder.forName(name + ":" + PORT)
+                .directExecutor()
+                .addService(new InMemoryBrokerService(host, PORT))
+                .addService(new InMemoryCounterService())
+                .addService(new InMemoryElectionService())
+                .addService(new InMemoryIndexedMapService())
+                .addService(new InMemoryLatchService())
+                .addService(new InMemoryListService())
+                .addService(new InMemoryLockService(timer))
+                .addService(new InMemoryLogService())
+                .addService(new InMemoryMapService())
+                .addService(new InMemorySetService())
+                .addService(new InMemoryValueService())
+                .build();
+    }
+
+    /**
+     * Starts the driver.
+     *
+     * @return the driver
+     * @throws IOException if the server fails to start
+     */
+    public InProcessDriver start() throws IOException {
+        server.start();
+        return this;
+    }
+
+    /**
+     * Returns the host at which the broker and primitives are served.
+     *
+     * @return the driver host
+     */
+    public String host() {
+        return host;
+    }
+
+    /**
+     * Returns the port at which the broker and primitives are served.
+     *
+     * @return the driver port
+     */
+    public int port() {
+        return PORT;
+    }
+
+    /**
+     * Returns a channel factory that connects to in-process servers.
+     * <p>
+     * Calls are executed on the calling thread, so measurements include only client-side overhead.
+     *
+     * @return the in-process channel factory
+     */
+    public ChannelFactory channelFactory() {
+        return (host, port) -> InProcessChannelBuilder.forName(host + ":" + port)
+                .directExecutor()
+                .build();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.shutdownNow();
+        server.awaitTermination(5, TimeUnit.SECONDS);
+        timer.close();
+    }
+
+    /**
+     * Completes a unary call with the given response, or with the status it throws.
+     */
+    static <T> void respond(StreamObserver<T> observer, Supplier<T> response) {
+        T value;
+        try {
+            value = response.get();
+        } catch (StatusRuntimeException e) {
+            observer.onError(e);
+            return;
+        }
+        observer.onNext(value);
+        observer.onCompleted();
+    }
+
+    /**
+     * Returns an exception failing a call with the given status.
+     */
+    static StatusRuntimeException error(Status status, String description) {
+        return status.withDescription(description).asRuntimeException();
+    }
+
+    /**
+     * State of each primitive served by a service.
+     *
+     * @param <T> the primitive state type
+     */
+    static final class Primitives<T> {
+        private final Map<PrimitiveId, T> primitives = new ConcurrentHashMap<>();
+        private final Function<PrimitiveId, T> factory;
+
+        Primitives(Supplier<T> factory) {
+            this.factory = id -> factory.get();
+        }
+
+        T get(PrimitiveId id) {
+            return primitives.computeIfAbsent(id, factory);
+        }
+    }
+}
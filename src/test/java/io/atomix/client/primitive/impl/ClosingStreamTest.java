@@ -0,0 +1,106 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.impl;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Closing stream test.
+ */
+public class ClosingStreamTest {
+
+    @Test
+    public void testShortCircuitCancels() {
+        RangePublisher publisher = new RangePublisher(1000);
+        assertEquals(Integer.valueOf(3), stream(publisher).filter(i -> i == 3).findFirst().get());
+        assertTrue(publisher.cancelled.get());
+        assertTrue(publisher.requested.get() < 1000);
+    }
+
+    @Test
+    public void testLimitCancels() {
+        RangePublisher publisher = new RangePublisher(1000);
+        List<Integer> items = stream(publisher).limit(5).collect(Collectors.toList());
+        assertEquals(List.of(0, 1, 2, 3, 4), items);
+        assertTrue(publisher.cancelled.get());
+    }
+
+    @Test
+    public void testExhausted() {
+        RangePublisher publisher = new RangePublisher(10);
+        assertEquals(45, stream(publisher).reduce(0, Integer::sum).intValue());
+    }
+
+    @Test
+    public void testFailureCloses() {
+        RangePublisher publisher = new RangePublisher(1000);
+        try {
+            stream(publisher).forEach(i -> {
+                if (i == 2) {
+                    throw new IllegalStateException();
+                }
+            });
+        } catch (IllegalStateException e) {
+            // Expected.
+        }
+        assertTrue(publisher.cancelled.get());
+    }
+
+    private static Stream<Integer> stream(Flow.Publisher<Integer> publisher) {
+        BlockingIterator<Integer> iterator = new BlockingIterator<>(publisher, 4, Duration.ofSeconds(5));
+        return new ClosingStream<>(StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+                iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close));
+    }
+
+    /**
+     * Publisher of a range of integers that records cancellation.
+     */
+    private static final class RangePublisher implements Flow.Publisher<Integer> {
+        private final int count;
+        private final AtomicBoolean cancelled = new AtomicBoolean();
+        private final AtomicLong requested = new AtomicLong();
+
+        RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private int next;
+
+                @Override
+                public void request(long n) {
+                    requested.addAndGet(n);
+                    for (long i = 0; i < n && next < count && !cancelled.get(); i++) {
+                        subscriber.onNext(next++);
+                    }
+                    if (next == count && !cancelled.get()) {
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+        }
+    }
+}
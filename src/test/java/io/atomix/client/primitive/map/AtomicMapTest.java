@@ -0,0 +1,141 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map;
+
+import io.atomix.client.AtomixClient;
+import io.atomix.client.management.driver.InProcessDriver;
+import io.atomix.client.primitive.meta.Versioned;
+import io.atomix.client.protocol.HedgingPolicy;
+import io.atomix.client.utils.collections.LongHashMap;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Atomic map test.
+ */
+public class AtomicMapTest {
+    private static final int KEYS = 100;
+
+    private InProcessDriver driver;
+    private AtomixClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        driver = new InProcessDriver("atomic-map-test").start();
+
+        // A window of one request queues all but one of the requests of a bulk operation.
+        client = AtomixClient.builder()
+                .withChannelFactory(driver.channelFactory())
+                .withBrokerHost(driver.host())
+                .withBrokerPort(driver.port())
+                .withRequestWindow(1)
+                .withMaxQueuedRequests(KEYS)
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        driver.close();
+    }
+
+    @Test
+    public void testMap() {
+        AtomicMap map = client.atomicMapBuilder("test").build();
+        assertTrue(map.isEmpty());
+        assertNull(map.get("foo"));
+
+        Versioned<byte[]> put = map.put("foo", "bar".getBytes());
+        assertArrayEquals("bar".getBytes(), map.get("foo").value());
+        assertTrue(map.containsKey("foo"));
+        assertEquals(1, map.size());
+
+        assertFalse(map.replace("foo", put.version() + 1, "baz".getBytes()));
+        assertTrue(map.replace("foo", put.version(), "baz".getBytes()));
+        assertArrayEquals("baz".getBytes(), map.remove("foo").value());
+        assertNull(map.remove("foo"));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testBulkOperations() {
+        AtomicMap map = client.atomicMapBuilder("test").build();
+        Map<String, byte[]> entries = new HashMap<>();
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < KEYS; i++) {
+            entries.put("key-" + i, ("value-" + i).getBytes());
+            keys.add("key-" + i);
+        }
+        map.putAll(entries);
+        assertEquals(KEYS, map.size());
+
+        // Absent keys are left out of the results.
+        keys.add("absent");
+        Map<String, Versioned<byte[]>> values = map.getAll(keys);
+        assertEquals(KEYS, values.size());
+        entries.forEach((key, value) -> assertArrayEquals(value, values.get(key).value()));
+
+        Map<String, Versioned<byte[]>> removed = map.removeAll(keys);
+        assertEquals(KEYS, removed.size());
+        entries.forEach((key, value) -> assertArrayEquals(value, removed.get(key).value()));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testLongMapBulkOperations() {
+        LongAtomicMap map = client.longAtomicMapBuilder("test").build();
+        LongHashMap<byte[]> entries = new LongHashMap<>();
+        long[] keys = new long[KEYS + 1];
+        for (int i = 0; i < KEYS; i++) {
+            long key = (i - KEYS / 2) * 1_000_000_007L;
+            entries.put(key, Long.toString(key).getBytes());
+            keys[i] = key;
+        }
+        keys[KEYS] = Long.MAX_VALUE;
+        map.putAll(entries);
+        assertEquals(KEYS, map.size());
+
+        LongHashMap<Versioned<byte[]>> values = map.getAll(keys);
+        assertEquals(KEYS, values.size());
+        assertFalse(values.containsKey(Long.MAX_VALUE));
+        entries.forEach((key, value) -> assertArrayEquals(value, values.get(key).value()));
+
+        LongHashMap<Versioned<byte[]>> removed = map.removeAll(keys);
+        assertEquals(KEYS, removed.size());
+        entries.forEach((key, value) -> assertArrayEquals(value, removed.get(key).value()));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void testHedgedReads() throws Exception {
+        try (AtomixClient hedgingClient = AtomixClient.builder()
+                .withChannelFactory(driver.channelFactory())
+                .withBrokerHost(driver.host())
+                .withBrokerPort(driver.port())
+                .withChannelPoolSize(2)
+                .withHedgingPolicy(HedgingPolicy.atQuantile(0.5, Duration.ZERO))
+                .build()) {
+            AtomicMap map = hedgingClient.atomicMapBuilder("test").build();
+            for (int i = 0; i < KEYS; i++) {
+                map.put("key-" + i, ("value-" + i).getBytes());
+            }
+            for (int i = 0; i < KEYS; i++) {
+                assertArrayEquals(("value-" + i).getBytes(), map.get("key-" + i).value());
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.AtomixClient;
+import io.atomix.client.management.driver.InProcessDriver;
+import io.atomix.client.primitive.map.AtomicMap;
+import io.atomix.client.primitive.meta.Versioned;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Caching atomic map test.
+ */
+public class CachingAsyncAtomicMapTest {
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private InProcessDriver driver;
+    private AtomixClient client;
+    private AtomixClient otherClient;
+
+    @Before
+    public void setUp() throws Exception {
+        driver = new InProcessDriver("caching-map-test").start();
+        client = newClient();
+        otherClient = newClient();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        client.close();
+        otherClient.close();
+        driver.close();
+    }
+
+    private AtomixClient newClient() {
+        return AtomixClient.builder()
+                .withChannelFactory(driver.channelFactory())
+                .withBrokerHost(driver.host())
+                .withBrokerPort(driver.port())
+                .build();
+    }
+
+    @Test
+    public void testHeapCacheInvalidation() throws Exception {
+        AtomicMap map = client.atomicMapBuilder("test").withNearCache(16).build();
+        AtomicMap other = otherClient.atomicMapBuilder("test").build();
+        awaitLive(map, other);
+
+        other.put("foo", "bar".getBytes());
+        awaitValue(map, "foo", value -> value != null && Arrays.equals(value.value(), "bar".getBytes()));
+        other.put("foo", "baz".getBytes());
+        awaitValue(map, "foo", value -> value != null && Arrays.equals(value.value(), "baz".getBytes()));
+        other.remove("foo");
+        awaitValue(map, "foo", value -> value == null);
+    }
+
+    @Test
+    public void testLocalWrites() throws Exception {
+        AtomicMap map = client.atomicMapBuilder("test").withNearCache(16).build();
+        assertNull(map.get("foo"));
+        Versioned<byte[]> put = map.put("foo", "bar".getBytes());
+        assertArrayEquals("bar".getBytes(), map.get("foo").value());
+        assertEquals(put.version(), map.get("foo").version());
+        map.remove("foo");
+        assertNull(map.get("foo"));
+    }
+
+    @Test
+    public void testLargeValueInvalidatesTieredCache() throws Exception {
+        AtomicMap map = client.atomicMapBuilder("test")
+                .withNearCache(16)
+                .withOffHeapNearCache(OffHeapNearCache.PAGE_SIZE)
+                .build();
+        AtomicMap other = otherClient.atomicMapBuilder("test").build();
+        awaitLive(map, other);
+
+        other.put("foo", "small".getBytes());
+        awaitValue(map, "foo", value -> value != null && Arrays.equals(value.value(), "small".getBytes()));
+
+        // The value is too large for the off-heap tier, so the heap tier must not keep serving the old one.
+        byte[] large = new byte[OffHeapNearCache.PAGE_SIZE + 1];
+        Arrays.fill(large, (byte) 1);
+        other.put("foo", large);
+        awaitValue(map, "foo", value -> value != null && Arrays.equals(value.value(), large));
+    }
+
+    /**
+     * Waits until the cached map observes changes made through the other map.
+     */
+    private static void awaitLive(AtomicMap map, AtomicMap other) throws InterruptedException {
+        String key = "probe";
+        map.get(key);
+        other.put(key, new byte[0]);
+        awaitValue(map, key, value -> value != null);
+        other.remove(key);
+    }
+
+    private static void awaitValue(
+            AtomicMap map, String key, Predicate<Versioned<byte[]>> condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.test(map.get(key))) {
+            assertTrue("timed out waiting for " + key, System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Frequency sketch test.
+ */
+public class FrequencySketchTest {
+
+    @Test
+    public void testIncrement() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        int hash = "foo".hashCode();
+        assertEquals(0, sketch.frequency(hash));
+        for (int i = 1; i <= 5; i++) {
+            sketch.increment(hash);
+            assertEquals(i, sketch.frequency(hash));
+        }
+        assertEquals(0, sketch.frequency("bar".hashCode()));
+    }
+
+    @Test
+    public void testSaturate() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        int hash = "foo".hashCode();
+        for (int i = 0; i < 100; i++) {
+            sketch.increment(hash);
+        }
+        assertEquals(15, sketch.frequency(hash));
+    }
+
+    @Test
+    public void testAging() {
+        FrequencySketch sketch = new FrequencySketch(16);
+        int hash = "foo".hashCode();
+        for (int i = 0; i < 15; i++) {
+            sketch.increment(hash);
+        }
+
+        // Enough accesses to other keys to reach the sample size halve every counter.
+        for (int i = 0; i < 16 * 10; i++) {
+            sketch.increment(("key-" + i).hashCode());
+        }
+        int frequency = sketch.frequency(hash);
+        assertTrue("frequency " + frequency, frequency < 15);
+    }
+}
@@ -0,0 +1,82 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.utils.collections.LongHashMap;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Long keys test.
+ */
+public class LongKeysTest {
+    private static final long[] KEYS = {
+        Long.MIN_VALUE, Long.MIN_VALUE + 1, -1L << 40, -128, -1, 0, 1, 127, 128, 1L << 40, Long.MAX_VALUE - 1,
+        Long.MAX_VALUE,
+    };
+
+    @Test
+    public void testRoundTrip() {
+        for (long key : KEYS) {
+            String encoded = LongKeys.encode(key);
+            assertEquals(LongKeys.LENGTH, encoded.length());
+            assertEquals(LongKeys.LENGTH, encoded.getBytes(StandardCharsets.UTF_8).length);
+            assertTrue(LongKeys.isEncoded(encoded));
+            assertEquals(key, LongKeys.decode(encoded));
+        }
+    }
+
+    @Test
+    public void testOrdering() {
+        // The keys are sorted, so their encodings must be too.
+        for (int i = 1; i < KEYS.length; i++) {
+            String previous = LongKeys.encode(KEYS[i - 1]);
+            String next = LongKeys.encode(KEYS[i]);
+            assertTrue(previous + " < " + next, previous.compareTo(next) < 0);
+        }
+    }
+
+    @Test
+    public void testIsEncoded() {
+        assertFalse(LongKeys.isEncoded(""));
+        assertFalse(LongKeys.isEncoded("foo"));
+        assertFalse(LongKeys.isEncoded("0123456789"));
+        assertFalse(LongKeys.isEncoded(LongKeys.encode(1) + "x"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecodeRejectsOtherKeys() {
+        LongKeys.decode("foo");
+    }
+
+    @Test
+    public void testEncodeAll() {
+        List<String> encoded = LongKeys.encodeAll(KEYS);
+        assertEquals(KEYS.length, encoded.size());
+        Map<String, Long> entries = new HashMap<>();
+        for (int i = 0; i < KEYS.length; i++) {
+            assertEquals(LongKeys.encode(KEYS[i]), encoded.get(i));
+            entries.put(encoded.get(i), KEYS[i]);
+        }
+
+        LongHashMap<Long> decoded = LongKeys.decodeAll(entries);
+        assertEquals(KEYS.length, decoded.size());
+        for (long key : KEYS) {
+            assertEquals(Long.valueOf(key), decoded.get(key));
+        }
+        long[] keys = decoded.keys();
+        Arrays.sort(keys);
+        assertArrayEquals(KEYS, keys);
+    }
+}
@@ -0,0 +1,150 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.meta.Versioned;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Off-heap near cache test.
+ */
+public class OffHeapNearCacheTest {
+    private static final int PAGE_SIZE = OffHeapNearCache.PAGE_SIZE;
+
+    @Test
+    public void testPutGet() {
+        OffHeapNearCache cache = new OffHeapNearCache(PAGE_SIZE);
+        assertNull(cache.get("foo"));
+        assertEquals(NearCache.NOT_CACHED, cache.version("foo"));
+
+        cache.put("foo", new Versioned<>("bar".getBytes(), 1));
+        assertArrayEquals("bar".getBytes(), cache.get("foo").value());
+        assertEquals(1, cache.version("foo"));
+
+        cache.put("foo", new Versioned<>("baz".getBytes(), 2));
+        assertArrayEquals("baz".getBytes(), cache.get("foo").value());
+        assertEquals(2, cache.version("foo"));
+
+        cache.put("absent", new Versioned<>(null, 3));
+        assertNull(cache.get("absent").value());
+        assertEquals(3, cache.version("absent"));
+
+        cache.remove("foo");
+        assertNull(cache.get("foo"));
+        assertEquals(NearCache.NOT_CACHED, cache.version("foo"));
+    }
+
+    @Test
+    public void testRejectLargeValue() {
+        OffHeapNearCache cache = new OffHeapNearCache(PAGE_SIZE);
+        cache.put("foo", new Versioned<>("bar".getBytes(), 1));
+        cache.put("foo", new Versioned<>(new byte[PAGE_SIZE], 2));
+        assertNull(cache.get("foo"));
+        assertEquals(NearCache.NOT_CACHED, cache.version("foo"));
+    }
+
+    @Test
+    public void testEviction() {
+        List<String> evicted = new ArrayList<>();
+        OffHeapNearCache cache = new OffHeapNearCache(PAGE_SIZE, evicted::add);
+        byte[] value = new byte[900];
+        for (int i = 0; i < 2048; i++) {
+            cache.put("key-" + i, new Versioned<>(value, i));
+        }
+        assertEquals(1024, evicted.size());
+        for (String key : evicted) {
+            assertNull(cache.get(key));
+        }
+        int cached = 0;
+        for (int i = 0; i < 2048; i++) {
+            if (cache.get("key-" + i) != null) {
+                cached++;
+            }
+        }
+        assertEquals(1024, cached);
+    }
+
+    @Test
+    public void testEmptyPageReassigned() {
+        OffHeapNearCache cache = new OffHeapNearCache(PAGE_SIZE);
+        cache.put("small", new Versioned<>(new byte[10], 1));
+        cache.remove("small");
+
+        // The only page is empty again, so it can hold a chunk of another class.
+        cache.put("large", new Versioned<>(new byte[PAGE_SIZE / 2], 2));
+        assertEquals(2, cache.version("large"));
+        assertEquals(PAGE_SIZE / 2, cache.get("large").value().length);
+    }
+
+    @Test
+    public void testNewSizeClassReclaimsPage() {
+        List<String> evicted = new ArrayList<>();
+        OffHeapNearCache cache = new OffHeapNearCache(PAGE_SIZE, evicted::add);
+        byte[] value = new byte[900];
+        for (int i = 0; i < 1024; i++) {
+            cache.put("key-" + i, new Versioned<>(value, i));
+        }
+        assertEquals(0, evicted.size());
+
+        // Every page belongs to another size class, so one must be reclaimed for the large value.
+        cache.put("large", new Versioned<>(new byte[PAGE_SIZE / 2], 1));
+        assertEquals(1, cache.version("large"));
+        assertEquals(PAGE_SIZE / 2, cache.get("large").value().length);
+        assertEquals(1024, evicted.size());
+        for (String key : evicted) {
+            assertNull(cache.get(key));
+        }
+    }
+
+    @Test
+    public void testReclaimColdPage() {
+        List<String> evicted = new ArrayList<>();
+        OffHeapNearCache cache = new OffHeapNearCache(2 * PAGE_SIZE, evicted::add);
+        for (int i = 0; i < 1024; i++) {
+            cache.put("cold-" + i, new Versioned<>(new byte[900], i));
+        }
+        // Two of the large values fit in a page.
+        byte[] large = new byte[PAGE_SIZE / 2 - 1024];
+        for (int i = 0; i < 2; i++) {
+            cache.put("hot-" + i, new Versioned<>(large, i));
+            cache.get("hot-" + i);
+            cache.get("hot-" + i);
+        }
+        assertEquals(0, evicted.size());
+
+        // The large values are read more often than the small ones, so the small values' page is
+        // reclaimed instead of evicting a large value.
+        cache.put("hot-2", new Versioned<>(large, 2));
+        assertEquals(2, cache.version("hot-2"));
+        assertEquals(0, cache.version("hot-0"));
+        assertEquals(1, cache.version("hot-1"));
+        assertEquals(1024, evicted.size());
+        assertTrue(evicted.stream().allMatch(key -> key.startsWith("cold-")));
+    }
+
+    @Test
+    public void testClearReusesPages() {
+        OffHeapNearCache cache = new OffHeapNearCache(PAGE_SIZE);
+        for (int i = 0; i < 100; i++) {
+            cache.put("key-" + i, new Versioned<>(new byte[10], i));
+        }
+        cache.clear();
+        for (int i = 0; i < 100; i++) {
+            assertNull(cache.get("key-" + i));
+        }
+
+        // The page held small chunks before the clear and may now hold a chunk of any class.
+        cache.put("large", new Versioned<>(new byte[PAGE_SIZE / 2], 1));
+        assertEquals(1, cache.version("large"));
+        assertEquals(PAGE_SIZE / 2, cache.get("large").value().length);
+    }
+}
@@ -0,0 +1,78 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.primitive.map.impl;
+
+import io.atomix.client.primitive.meta.Versioned;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Tiered near cache test.
+ */
+public class TieredNearCacheTest {
+    private static final int PAGE_SIZE = OffHeapNearCache.PAGE_SIZE;
+
+    private static TieredNearCache newCache(int maxSize) {
+        HeapNearCache heap = new HeapNearCache(maxSize);
+        return new TieredNearCache(heap, new OffHeapNearCache(PAGE_SIZE, heap::remove));
+    }
+
+    @Test
+    public void testPromotion() {
+        TieredNearCache cache = newCache(1);
+        cache.put("foo", new Versioned<>("foo".getBytes(), 1));
+        cache.put("bar", new Versioned<>("bar".getBytes(), 2));
+        assertArrayEquals("foo".getBytes(), cache.get("foo").value());
+        assertArrayEquals("bar".getBytes(), cache.get("bar").value());
+        assertEquals(1, cache.version("foo"));
+        assertEquals(2, cache.version("bar"));
+    }
+
+    @Test
+    public void testRejectedByOffHeapTier() {
+        TieredNearCache cache = newCache(16);
+        cache.put("foo", new Versioned<>("small".getBytes(), 1));
+        cache.put("foo", new Versioned<>(new byte[PAGE_SIZE], 2));
+
+        // The off-heap tier can't hold the value, so neither tier may keep the old one.
+        assertNull(cache.get("foo"));
+        assertEquals(NearCache.NOT_CACHED, cache.version("foo"));
+    }
+
+    @Test
+    public void testEvictedFromOffHeapTier() {
+        TieredNearCache cache = newCache(4096);
+        byte[] value = new byte[900];
+        for (int i = 0; i < 2048; i++) {
+            cache.put("key-" + i, new Versioned<>(value, i));
+        }
+        int cached = 0;
+        for (int i = 0; i < 2048; i++) {
+            long version = cache.version("key-" + i);
+            if (version != NearCache.NOT_CACHED) {
+                assertEquals(i, version);
+                cached++;
+            }
+            if (cache.get("key-" + i) != null) {
+                cached--;
+            }
+        }
+        // Every key the heap tier serves is also tracked by the version check.
+        assertEquals(0, cached);
+        assertEquals(1024, countCached(cache));
+    }
+
+    private static int countCached(NearCache cache) {
+        int cached = 0;
+        for (int i = 0; i < 2048; i++) {
+            if (cache.version("key-" + i) != NearCache.NOT_CACHED) {
+                cached++;
+            }
+        }
+        return cached;
+    }
+}
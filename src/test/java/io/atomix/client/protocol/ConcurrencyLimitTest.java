@@ -0,0 +1,87 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Concurrency limit test.
+ */
+public class ConcurrencyLimitTest {
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    public void testAimd() {
+        ConcurrencyLimit limit = ConcurrencyLimit.aimd(10, 100);
+        assertEquals(10, limit.limit());
+
+        // The limit only grows while it's being used.
+        limit.onSample(RTT, 1, false);
+        assertEquals(10, limit.limit());
+        limit.onSample(RTT, 10, false);
+        assertEquals(11, limit.limit());
+
+        limit.onSample(RTT, 11, true);
+        assertEquals(9, limit.limit());
+        for (int i = 0; i < 1000; i++) {
+            limit.onSample(RTT, limit.limit(), false);
+        }
+        assertEquals(100, limit.limit());
+        for (int i = 0; i < 1000; i++) {
+            limit.onSample(RTT, limit.limit(), true);
+        }
+        assertEquals(1, limit.limit());
+    }
+
+    @Test
+    public void testAimdStartsAtMax() {
+        assertEquals(128, ConcurrencyLimit.aimd(128).limit());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAimdInitialAboveMax() {
+        ConcurrencyLimit.aimd(200, 100);
+    }
+
+    @Test
+    public void testVegas() {
+        ConcurrencyLimit limit = ConcurrencyLimit.vegas(1000);
+        assertEquals(20, limit.limit());
+
+        // Round trip times at the minimum mean no queue, so the limit grows.
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, limit.limit(), false);
+        }
+        int grown = limit.limit();
+        assertTrue("limit " + grown, grown > 20);
+
+        // Round trip times well above the minimum mean a queue is building, so the limit shrinks.
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT * 10, limit.limit(), false);
+        }
+        assertTrue("limit " + limit.limit(), limit.limit() < grown);
+    }
+
+    @Test
+    public void testVegasDrop() {
+        ConcurrencyLimit limit = ConcurrencyLimit.vegas(1000);
+        limit.onSample(RTT, 20, true);
+        assertTrue(limit.limit() < 20);
+    }
+
+    @Test
+    public void testVegasMaxLimit() {
+        ConcurrencyLimit limit = ConcurrencyLimit.vegas(10);
+        assertEquals(10, limit.limit());
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(RTT, limit.limit(), false);
+        }
+        assertEquals(10, limit.limit());
+    }
+}
@@ -0,0 +1,45 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Latency tracker test.
+ */
+public class LatencyTrackerTest {
+
+    @Test
+    public void testQuantile() {
+        LatencyTracker tracker = new LatencyTracker();
+        for (int i = 1; i <= 127; i++) {
+            tracker.record(i);
+        }
+        assertEquals(-1, tracker.quantile(0.5));
+
+        // Quantiles are refreshed every 128 samples.
+        tracker.record(128);
+        assertEquals(65, tracker.quantile(0.5));
+        assertEquals(127, tracker.quantile(0.99));
+    }
+
+    @Test
+    public void testSlidingWindow() {
+        LatencyTracker tracker = new LatencyTracker();
+        for (int i = 0; i < 1024; i++) {
+            tracker.record(1);
+        }
+        assertEquals(1, tracker.quantile(0.99));
+
+        // Samples older than the window no longer count, however many have been recorded.
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 1024; i++) {
+                tracker.record(1000 + round);
+            }
+            assertEquals(1000 + round, tracker.quantile(0.01));
+        }
+    }
+}
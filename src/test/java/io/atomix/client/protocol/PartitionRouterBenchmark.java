@@ -0,0 +1,97 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import io.atomix.client.channel.ChannelProvider;
+import io.grpc.inprocess.InProcessChannelBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Benchmark of routing string keys with {@link PartitionRouter}.
+ * <p>
+ * This is not a test; it's run by hand against the test classpath:
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/classpath.txt
+ * java -cp target/classes:target/test-classes:$(cat target/classpath.txt) \
+ *     io.atomix.client.protocol.PartitionRouterBenchmark [partitions] [keys]
+ * </pre>
+ * Each iteration routes a fixed set of distinct keys over and over for about a second. The first
+ * iterations warm up the JIT and are not reported. The result is the median time per route over the
+ * measured iterations. Partitions default to 4 and keys to 1024, which fit in the L1 cache along with
+ * the ring, so the result is the cost of the routing itself rather than of fetching the keys.
+ */
+public final class PartitionRouterBenchmark {
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 10;
+    private static final long ITERATION_NANOS = Duration.ofSeconds(1).toNanos();
+
+    private PartitionRouterBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int partitionCount = args.length > 0 ? Integer.parseInt(args[0]) : 4;
+        int keyCount = args.length > 1 ? Integer.parseInt(args[1]) : 1024;
+
+        ChannelProvider channels = new ChannelProvider(1, (host, port) ->
+                InProcessChannelBuilder.forName(host + ":" + port).build());
+        try {
+            List<Partition> partitions = new ArrayList<>(partitionCount);
+            for (int i = 0; i < partitionCount; i++) {
+                partitions.add(new Partition(
+                        channels.getPool("partition-" + i, 5678),
+                        new RequestWindow(1),
+                        HedgingPolicy.disabled(),
+                        (task, delay, unit) -> {
+                            throw new UnsupportedOperationException();
+                        },
+                        Duration.ZERO));
+            }
+            PartitionRouter router = new PartitionRouter(partitions);
+            String[] keys = new String[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = "key-" + i;
+            }
+
+            double[] results = new double[ITERATIONS];
+            long hits = 0;
+            for (int iteration = -WARMUP_ITERATIONS; iteration < ITERATIONS; iteration++) {
+                long routes = 0;
+                long start = System.nanoTime();
+                long elapsed;
+                do {
+                    hits += route(router, keys, partitions.get(0));
+                    routes += keys.length;
+                    elapsed = System.nanoTime() - start;
+                } while (elapsed < ITERATION_NANOS);
+                if (iteration >= 0) {
+                    results[iteration] = (double) elapsed / routes;
+                    System.out.printf("iteration %d: %.2f ns/route%n", iteration + 1, results[iteration]);
+                }
+            }
+            Arrays.sort(results);
+            System.out.printf("%d partitions, %d keys: %.2f ns/route (median), %d hits%n",
+                    partitionCount, keyCount, results[ITERATIONS / 2], hits);
+        } finally {
+            channels.close();
+        }
+    }
+
+    /**
+     * Routes each key once and returns the number routed to the given partition, so the routes can't
+     * be optimized away.
+     */
+    private static int route(PartitionRouter router, String[] keys, Partition partition) {
+        int hits = 0;
+        for (String key : keys) {
+            if (router.route(key) == partition) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,115 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import io.atomix.client.channel.ChannelProvider;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Partition router test.
+ */
+public class PartitionRouterTest {
+    private static final int KEYS = 100_000;
+
+    private static final ChannelProvider CHANNELS = new ChannelProvider(1, (host, port) ->
+            InProcessChannelBuilder.forName(host + ":" + port).build());
+
+    @AfterClass
+    public static void closeChannels() {
+        CHANNELS.close();
+    }
+
+    @Test
+    public void testSinglePartition() {
+        List<Partition> partitions = partitions(1);
+        PartitionRouter router = new PartitionRouter(partitions);
+        for (int i = 0; i < 1000; i++) {
+            assertSame(partitions.get(0), router.route("key-" + i));
+            assertSame(partitions.get(0), router.route(("key-" + i).getBytes(StandardCharsets.UTF_8)));
+        }
+    }
+
+    @Test
+    public void testDistribution() {
+        List<Partition> partitions = partitions(4);
+        PartitionRouter router = new PartitionRouter(partitions);
+        Map<Partition, Integer> counts = new HashMap<>();
+        for (int i = 0; i < KEYS; i++) {
+            counts.merge(router.route("key-" + i), 1, Integer::sum);
+        }
+        assertEquals(4, counts.size());
+        for (int count : counts.values()) {
+            double share = (double) count / KEYS;
+            assertTrue("unbalanced share " + share, share > 0.15 && share < 0.35);
+        }
+    }
+
+    @Test
+    public void testStability() {
+        List<Partition> partitions = partitions(5);
+        PartitionRouter before = new PartitionRouter(partitions.subList(0, 4));
+        PartitionRouter after = new PartitionRouter(partitions);
+        Partition added = partitions.get(4);
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String key = "key-" + i;
+            Partition owner = after.route(key);
+            if (owner != before.route(key)) {
+                assertSame("key moved between existing partitions", added, owner);
+                moved++;
+            }
+        }
+        double share = (double) moved / KEYS;
+        assertTrue("moved share " + share, share > 0.1 && share < 0.3);
+    }
+
+    @Test
+    public void testPartitionOrder() {
+        List<Partition> partitions = partitions(8);
+        List<Partition> shuffled = new ArrayList<>(partitions);
+        Collections.shuffle(shuffled);
+        PartitionRouter router = new PartitionRouter(partitions);
+        PartitionRouter shuffledRouter = new PartitionRouter(shuffled);
+        for (int i = 0; i < KEYS; i++) {
+            assertSame(router.route("key-" + i), shuffledRouter.route("key-" + i));
+        }
+    }
+
+    @Test
+    public void testStringHash() {
+        String[] keys = {"", "a", "ab", "abc", "abcd", "primitive-name", "\u00e9t\u00e9", "\ud83d\ude00"};
+        for (String key : keys) {
+            assertEquals(key, PartitionRouter.hash(key.getBytes(StandardCharsets.UTF_16LE)), PartitionRouter.hash(key));
+        }
+    }
+
+    private static List<Partition> partitions(int count) {
+        List<Partition> partitions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            partitions.add(new Partition(
+                    CHANNELS.getPool("partition-" + i, 5678),
+                    new RequestWindow(1),
+                    HedgingPolicy.disabled(),
+                    (task, delay, unit) -> {
+                        throw new UnsupportedOperationException();
+                    },
+                    Duration.ZERO));
+        }
+        return partitions;
+    }
+}
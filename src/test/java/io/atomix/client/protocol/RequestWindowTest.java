@@ -0,0 +1,119 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.protocol;
+
+import io.grpc.Status;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Request window test.
+ */
+public class RequestWindowTest {
+
+    @Test
+    public void testQueueing() {
+        RequestWindow window = new RequestWindow(2);
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(window.submit(() -> {
+                CompletableFuture<Integer> call = new CompletableFuture<>();
+                calls.add(call);
+                return call;
+            }));
+        }
+        assertEquals(2, calls.size());
+        assertEquals(2, window.inFlight());
+        assertEquals(2, window.queued());
+
+        // Queued requests start in submission order as earlier ones complete.
+        calls.get(1).complete(1);
+        assertEquals(Integer.valueOf(1), futures.get(1).join());
+        assertEquals(3, calls.size());
+        assertEquals(1, window.queued());
+        calls.get(2).complete(2);
+        assertEquals(Integer.valueOf(2), futures.get(2).join());
+        assertEquals(4, calls.size());
+        assertEquals(0, window.queued());
+
+        calls.get(0).complete(0);
+        calls.get(3).complete(3);
+        assertEquals(0, window.inFlight());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(Integer.valueOf(i), futures.get(i).join());
+        }
+    }
+
+    @Test
+    public void testCancelQueued() {
+        RequestWindow window = new RequestWindow(ConcurrencyLimit.fixed(1), 1);
+        CompletableFuture<String> call = new CompletableFuture<>();
+        AtomicInteger started = new AtomicInteger();
+        CompletableFuture<String> first = window.submit(() -> call);
+        CompletableFuture<String> queued = window.submit(() -> {
+            started.incrementAndGet();
+            return new CompletableFuture<>();
+        });
+        assertEquals(1, window.queued());
+
+        // A cancelled request leaves the queue at once, making room for another.
+        queued.cancel(false);
+        assertEquals(0, window.queued());
+        CompletableFuture<String> next = window.submit(() -> CompletableFuture.completedFuture("next"));
+        assertEquals(1, window.queued());
+
+        call.complete("first");
+        assertEquals("first", first.join());
+        assertEquals("next", next.join());
+        assertEquals(0, started.get());
+        assertEquals(0, window.inFlight());
+    }
+
+    @Test
+    public void testCancelStarted() {
+        RequestWindow window = new RequestWindow(1);
+        CompletableFuture<String> call = new CompletableFuture<>();
+        CompletableFuture<String> future = window.submit(() -> call);
+        future.cancel(false);
+        assertTrue(call.isCompletedExceptionally());
+        assertEquals(0, window.inFlight());
+    }
+
+    @Test
+    public void testQueueFull() {
+        RequestWindow window = new RequestWindow(ConcurrencyLimit.fixed(1), 1);
+        window.submit(CompletableFuture::new);
+        window.submit(CompletableFuture::new);
+        CompletableFuture<Object> rejected = window.submit(CompletableFuture::new);
+        assertTrue(rejected.isCompletedExceptionally());
+        try {
+            rejected.join();
+            fail();
+        } catch (CompletionException e) {
+            assertEquals(Status.Code.RESOURCE_EXHAUSTED, Status.fromThrowable(e).getCode());
+        }
+    }
+
+    @Test
+    public void testRequestThrows() {
+        RequestWindow window = new RequestWindow(1);
+        CompletableFuture<Object> future = window.submit(() -> {
+            throw new IllegalStateException();
+        });
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, window.inFlight());
+        assertFalse(window.submit(() -> CompletableFuture.completedFuture("ok")).isCompletedExceptionally());
+    }
+}
@@ -0,0 +1,118 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.codec;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Codecs test.
+ */
+public class CodecsTest {
+    private static final String[] STRINGS = {
+        "",
+        "ascii",
+        "caf\u00e9",
+        "\u20ac100",
+        "\ud83d\ude00 smile",
+        "unpaired \ud83d surrogate",
+        "trailing \ud83d",
+    };
+
+    @Test
+    public void testString() {
+        Codec<String> codec = Codecs.forString();
+        for (String value : STRINGS) {
+            byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+            assertEquals(value, expected.length, codec.sizeOf(value));
+            byte[] encoded = Codecs.encode(codec, value);
+            assertArrayEquals(expected, encoded);
+            assertEquals(new String(expected, StandardCharsets.UTF_8), Codecs.decode(codec, encoded));
+        }
+    }
+
+    @Test
+    public void testLong() {
+        Codec<Long> codec = Codecs.forLong();
+        for (long value : new long[] {0, 1, -1, Long.MIN_VALUE, Long.MAX_VALUE}) {
+            byte[] encoded = Codecs.encode(codec, value);
+            assertArrayEquals(ByteBuffer.allocate(Long.BYTES).putLong(value).array(), encoded);
+            assertEquals(Long.valueOf(value), Codecs.decode(codec, encoded));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLongWrongLength() {
+        Codecs.decode(Codecs.forLong(), new byte[4]);
+    }
+
+    @Test
+    public void testBytes() {
+        byte[] value = {1, 2, 3};
+        byte[] encoded = Codecs.encode(Codecs.forBytes(), value);
+        assertArrayEquals(value, encoded);
+        assertArrayEquals(value, Codecs.decode(Codecs.forBytes(), encoded));
+    }
+
+    @Test
+    public void testUnknownSize() {
+        // Values of unknown size are encoded into a pooled buffer that grows as needed.
+        Codec<byte[]> codec = new StreamingCodec();
+        for (int length : new int[] {0, 10, 1000, 100_000, 2 * 1024 * 1024, 10}) {
+            byte[] value = new byte[length];
+            for (int i = 0; i < length; i++) {
+                value[i] = (byte) i;
+            }
+            assertArrayEquals(value, Codecs.encode(codec, value));
+        }
+    }
+
+    @Test
+    public void testEncodeBuffer() {
+        EncodeBuffer buffer = new EncodeBuffer(1);
+        buffer.write(1)
+                .write(new byte[] {2, 3})
+                .write(new byte[] {0, 4, 0}, 1, 1)
+                .write(ByteBuffer.wrap(new byte[] {5}))
+                .writeInt(6)
+                .writeLong(7)
+                .writeUtf8("8");
+        assertEquals(18, buffer.size());
+        assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 0, 0, 0, 6, 0, 0, 0, 0, 0, 0, 0, 7, '8'},
+                buffer.toByteArray());
+    }
+
+    /**
+     * Codec that writes through the buffer's output stream without declaring a size.
+     */
+    private static final class StreamingCodec implements Codec<byte[]> {
+        @Override
+        public int sizeOf(byte[] value) {
+            return -1;
+        }
+
+        @Override
+        public void encode(byte[] value, EncodeBuffer buffer) {
+            try {
+                buffer.asOutputStream().write(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public byte[] decode(ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return bytes;
+        }
+    }
+}
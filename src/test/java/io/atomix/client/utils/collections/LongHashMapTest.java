@@ -0,0 +1,95 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.collections;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Long hash map test.
+ */
+public class LongHashMapTest {
+
+    @Test
+    public void testPutGetRemove() {
+        LongHashMap<String> map = new LongHashMap<>();
+        assertTrue(map.isEmpty());
+        assertNull(map.put(1, "a"));
+        assertNull(map.put(-1, "b"));
+        assertNull(map.put(0, "c"));
+        assertEquals("a", map.put(1, "d"));
+        assertEquals(3, map.size());
+        assertEquals("d", map.get(1));
+        assertEquals("b", map.get(-1));
+        assertEquals("c", map.get(0));
+        assertNull(map.get(2));
+
+        assertEquals("b", map.remove(-1));
+        assertNull(map.remove(-1));
+        assertFalse(map.containsKey(-1));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    public void testRemoveFromCluster() {
+        // A map filled up to its load factor has long probe clusters, so removals must shift entries back.
+        LongHashMap<Long> map = new LongHashMap<>(64);
+        long[] keys = new long[64];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i * 1024L;
+            map.put(keys[i], keys[i]);
+        }
+        for (int i = 0; i < keys.length; i += 3) {
+            assertEquals(Long.valueOf(keys[i]), map.remove(keys[i]));
+        }
+        for (int i = 0; i < keys.length; i++) {
+            if (i % 3 == 0) {
+                assertFalse(map.containsKey(keys[i]));
+            } else {
+                assertEquals(Long.valueOf(keys[i]), map.get(keys[i]));
+            }
+        }
+    }
+
+    @Test
+    public void testRandomOperations() {
+        Random random = new Random(0);
+        LongHashMap<Long> map = new LongHashMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(2000) - 1000;
+            if (random.nextBoolean()) {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            } else {
+                assertEquals(expected.remove(key), map.remove(key));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        for (long key = -1000; key < 1000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(expected.size(), map.keys().length);
+    }
+
+    @Test
+    public void testClear() {
+        LongHashMap<String> map = new LongHashMap<>();
+        for (int i = 0; i < 100; i++) {
+            map.put(i, "value");
+        }
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+        map.put(1, "value");
+        assertEquals(1, map.size());
+    }
+}
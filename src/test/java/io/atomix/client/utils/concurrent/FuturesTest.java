@@ -0,0 +1,56 @@
+// Copyright 2022-present Open Networking Foundation
+// SPDX-License-Identifier: Apache-2.0
+
+package io.atomix.client.utils.concurrent;
+
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Futures test.
+ */
+public class FuturesTest {
+
+    @Test
+    public void testAsyncFuture() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> future = Futures.asyncFuture(source, Runnable::run);
+        assertFalse(future.isDone());
+        source.complete("foo");
+        assertEquals("foo", future.join());
+    }
+
+    @Test
+    public void testCancelAsyncFuture() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        Futures.asyncFuture(source, Runnable::run).cancel(false);
+        assertTrue(source.isCancelled());
+    }
+
+    @Test
+    public void testCancelDerivedFuture() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        Futures.asyncFuture(source, Runnable::run)
+                .thenApply(String::length)
+                .thenApply(length -> length * 2)
+                .cancel(false);
+        assertTrue(source.isCancelled());
+    }
+
+    @Test
+    public void testCancelCompletedDerivedFuture() {
+        // Cancelling a stage that's already done leaves the stages it derives from alone.
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> future = Futures.asyncFuture(source, Runnable::run);
+        CompletableFuture<Integer> length = future.thenApply(String::length);
+        length.complete(0);
+        length.cancel(false);
+        assertFalse(future.isDone());
+        assertFalse(source.isDone());
+    }
+}